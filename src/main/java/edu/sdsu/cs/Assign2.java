@@ -1,6 +1,7 @@
 package edu.sdsu.cs;
 
 import edu.sdsu.cs.datastructures.CirArrayList;
+import edu.sdsu.cs.datastructures.TieredArrayList;
 import edu.sdsu.cs.util.IValueGenerator;
 import edu.sdsu.cs.util.ListTimer;
 import edu.sdsu.cs.util.NameGenerator;
@@ -22,12 +23,15 @@ import java.util.List;
 public class Assign2 {
 
     private static final String TIMING_CAL_FILE = "timing_cal.txt";
+    private static final String TIMING_TIERED_FILE = "timing_tiered.txt";
 
     private Assign2() {
         final IValueGenerator<String> values = new NameGenerator();
 
         writeFile(ListTimer.timeList(new CirArrayList<>(), values),
                 TIMING_CAL_FILE);
+        writeFile(ListTimer.timeList(new TieredArrayList<>(), values),
+                TIMING_TIERED_FILE);
     }
 
     private static void writeFile(List<String> data, String filename) {
@@ -1,6 +1,7 @@
 package edu.sdsu.cs;
 
-import edu.sdsu.cs.datastructures.BinarySearchTree;
+import edu.sdsu.cs.datastructures.RadixTree;
+import edu.sdsu.cs.datastructures.TopK;
 
 import java.util.*;
 import java.io.*;
@@ -12,7 +13,7 @@ import java.io.*;
 public class Assign4 {
     public static void main(String[] args) {
         HashMap<String, Integer> substringsCountMap = new HashMap<>();
-        BinarySearchTree<String, Integer> substringsCountTree = new BinarySearchTree<>();
+        RadixTree<Integer> substringsCountTree = new RadixTree<>();
         try {
             String f1 = args[0];
             String f2 = args[1];
@@ -33,10 +34,8 @@ public class Assign4 {
                     for (int j = 0; j < 5; j++) {
                         if((i + j + 1) > line.length()) break;
                         String sub = line.substring(i, i + j + 1);
-                        if (substringsCountTree.contains(sub))
-                            substringsCountTree.add(sub, substringsCountTree.getValue(sub) + 1);
-                        else
-                            substringsCountTree.add(sub, 1);
+                        Integer count = substringsCountTree.getValue(sub);
+                        substringsCountTree.add(sub, (count == null) ? 1 : count + 1);
                     }
                 }
             }
@@ -45,21 +44,20 @@ public class Assign4 {
             Iterator keys = substringsCountTree.keys();
             Iterator values = substringsCountTree.values();
 
-            List<PriorityQueue<Pair>> queues = new ArrayList<>();
+            // Only the 20 most frequent substrings of each length are kept
+            List<TopK<Pair>> rankings = new ArrayList<>();
             for(int i = 0; i < 5; i++) {
-                queues.add(new PriorityQueue<>());
+                rankings.add(new TopK<>(20));
             }
             while(keys.hasNext()) {
                 Integer val = (Integer)values.next();
                 String key = (String)keys.next();
-                queues.get(key.length() - 1).add(new Pair(val, key));
+                rankings.get(key.length() - 1).offer(new Pair(val, key));
             }
             for(int i = 0; i < 5; i++) {
                 writer.println(("Size " + (i+1) + ": "));
                 writer.println("----------------------");
-                int maxElem = Math.min(20,queues.get(i).size());
-                for (int j = 0; j < maxElem; j++) {
-                    Pair cur = queues.get(i).poll();
+                for (Pair cur : rankings.get(i).toList()) {
                     writer.println(cur.subs + ", " + cur.numOcc);
                 }
                 writer.println();
@@ -0,0 +1,326 @@
+package edu.sdsu.cs;
+
+import edu.sdsu.cs.datastructures.ArrayBinarySearchTree;
+import edu.sdsu.cs.datastructures.ArrayPriorityQueue;
+import edu.sdsu.cs.datastructures.BPlusTree;
+import edu.sdsu.cs.datastructures.BinarySearchTree;
+import edu.sdsu.cs.datastructures.BlockingPriorityQueue;
+import edu.sdsu.cs.datastructures.CirArrayList;
+import edu.sdsu.cs.datastructures.HashTable;
+import edu.sdsu.cs.datastructures.MapADT;
+import edu.sdsu.cs.datastructures.MpscRingBuffer;
+import edu.sdsu.cs.datastructures.PerfectHashMap;
+import edu.sdsu.cs.datastructures.RadixHeap;
+import edu.sdsu.cs.datastructures.RadixTree;
+import edu.sdsu.cs.datastructures.SegmentedCirArrayList;
+import edu.sdsu.cs.datastructures.SkipListMap;
+import edu.sdsu.cs.datastructures.SplayTree;
+import edu.sdsu.cs.datastructures.SpscRingBuffer;
+import edu.sdsu.cs.datastructures.Treap;
+import edu.sdsu.cs.util.GraphTimer;
+import edu.sdsu.cs.util.IValueGenerator;
+import edu.sdsu.cs.util.MapTimer;
+import edu.sdsu.cs.util.NameGenerator;
+import edu.sdsu.cs.util.QueueTimer;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+
+/**
+ * Runs the performance comparisons between the data structures and writes
+ * each suite's results to its own file.
+ * <p>Pass suite names on the command line to run a subset; with no
+ * arguments every suite runs.</p>
+ */
+public final class Benchmarks {
+
+    private static final String TIMING_BTREE_FILE = "timing_btree.txt";
+    private static final String TIMING_SKIPLIST_FILE = "timing_skiplist.txt";
+    private static final String TIMING_SPLAY_FILE = "timing_splay.txt";
+    private static final String TIMING_RADIX_FILE = "timing_radix.txt";
+    private static final String TIMING_ARRAY_BST_FILE = "timing_array_bst.txt";
+    private static final String TIMING_FREEZE_FILE = "timing_freeze.txt";
+    private static final String TIMING_PERFECT_FILE = "timing_perfect.txt";
+    private static final String TIMING_DEQUE_FILE = "timing_deque.txt";
+    private static final String TIMING_RING_FILE = "timing_ring.txt";
+    private static final String TIMING_PRIORITY_FILE = "timing_priority.txt";
+    private static final String TIMING_DIJKSTRA_FILE = "timing_dijkstra.txt";
+    private static final String TIMING_BLOCKING_FILE = "timing_blocking.txt";
+    private static final String TIMING_SIMULATION_FILE = "timing_simulation.txt";
+
+    private static final double ZIPF_EXPONENT = 1.0;
+
+    private static final int MAX_THREADS = 64;
+
+    private static final int RING_CAPACITY = 1 << 10;
+
+    private final List<String> suites;
+
+    private Benchmarks(String[] args) throws InterruptedException {
+        suites = Arrays.asList(args);
+        final IValueGenerator<String> names = new NameGenerator();
+
+        if (shouldRun("btree")) {
+            List<String> results = new ArrayList<>();
+            results.addAll(MapTimer.timeMap(new BinarySearchTree<>(), names));
+            results.addAll(MapTimer.timeMap(new BPlusTree<>(), names));
+            writeFile(results, TIMING_BTREE_FILE);
+        }
+
+        if (shouldRun("skiplist")) {
+            int maxThreads = coreBoundThreads();
+            List<String> results = new ArrayList<>();
+            results.addAll(MapTimer.timeConcurrentMap(new LockedMap<>(new
+                    BinarySearchTree<String, Integer>()), names, maxThreads));
+            results.addAll(MapTimer.timeConcurrentMap(new SkipListMap<>(),
+                    names, maxThreads));
+            writeFile(results, TIMING_SKIPLIST_FILE);
+        }
+
+        if (shouldRun("splay")) {
+            List<String> results = new ArrayList<>();
+            results.addAll(MapTimer.timeSkewedLookups(new BinarySearchTree<>
+                    (), "BinarySearchTree", names, ZIPF_EXPONENT));
+            results.addAll(MapTimer.timeSkewedLookups(new Treap<>(), "Treap",
+                    names, ZIPF_EXPONENT));
+            results.addAll(MapTimer.timeSkewedLookups(new SplayTree<>(),
+                    "SplayTree", names, ZIPF_EXPONENT));
+            results.addAll(MapTimer.timeSkewedLookups(new SplayTree<>(true),
+                    "SplayTree (semi-splay)", names, ZIPF_EXPONENT));
+            writeFile(results, TIMING_SPLAY_FILE);
+        }
+
+        if (shouldRun("radix")) {
+            List<String> results = new ArrayList<>();
+            results.addAll(MapTimer.timeMap(new BinarySearchTree<>(), names));
+            results.addAll(MapTimer.timeMap(new RadixTree<>(), names));
+            writeFile(results, TIMING_RADIX_FILE);
+        }
+
+        if (shouldRun("arraybst")) {
+            List<String> results = new ArrayList<>();
+            results.addAll(MapTimer.timeMap(new BinarySearchTree<>(), names));
+            results.addAll(MapTimer.timeMap(new ArrayBinarySearchTree<>(),
+                    names));
+            writeFile(results, TIMING_ARRAY_BST_FILE);
+        }
+
+        if (shouldRun("freeze")) {
+            List<String> results = new ArrayList<>();
+            results.addAll(MapTimer.timeStaticLookups("BinarySearchTree",
+                    keys -> fill(new BinarySearchTree<>(), keys), names));
+            results.addAll(MapTimer.timeStaticLookups("HashTable", keys ->
+                    fill(new HashTable<>(), keys), names));
+            results.addAll(MapTimer.timeStaticLookups("EytzingerMap", keys ->
+                    fill(new BinarySearchTree<>(), keys).freeze(), names));
+            writeFile(results, TIMING_FREEZE_FILE);
+        }
+
+        if (shouldRun("perfect")) {
+            List<String> results = new ArrayList<>();
+            results.addAll(MapTimer.timeStaticLookups("HashTable", keys ->
+                    fill(new HashTable<>(), keys), names));
+            results.addAll(MapTimer.timeStaticLookups("PerfectHashMap", keys ->
+                    fill(new HashTable<String, Integer>(), keys).compile(),
+                    names));
+            writeFile(results, TIMING_PERFECT_FILE);
+        }
+
+        if (shouldRun("deque")) {
+            List<String> results = new ArrayList<>();
+            results.addAll(QueueTimer.timeDeque(new CirArrayList<>(), names));
+            results.addAll(QueueTimer.timeDeque(new SegmentedCirArrayList<>(),
+                    names));
+            results.addAll(QueueTimer.timeDeque(new ArrayDeque<>(), names));
+            results.addAll(QueueTimer.timeDeque(new LinkedList<>(), names));
+            writeFile(results, TIMING_DEQUE_FILE);
+        }
+
+        if (shouldRun("priority")) {
+            List<String> results = new ArrayList<>();
+            results.addAll(QueueTimer.timePriorityQueue(new
+                    ArrayPriorityQueue<>(ArrayPriorityQueue.Mode.SORTED),
+                    "ArrayPriorityQueue (sorted)", names));
+            results.addAll(QueueTimer.timePriorityQueue(new
+                    ArrayPriorityQueue<>(ArrayPriorityQueue.Mode.HEAP),
+                    "ArrayPriorityQueue (heap)", names));
+            results.addAll(QueueTimer.timePriorityQueue(new PriorityQueue<>
+                    (), "PriorityQueue", names));
+            results.addAll(QueueTimer.timeBulkBuild(col -> new
+                            ArrayPriorityQueue<>(ArrayPriorityQueue.Mode.SORTED,
+                            col), "ArrayPriorityQueue (sorted)", names));
+            results.addAll(QueueTimer.timeBulkBuild(col -> new
+                            ArrayPriorityQueue<>(ArrayPriorityQueue.Mode.HEAP,
+                            col), "ArrayPriorityQueue (heap)", names));
+            results.addAll(QueueTimer.timeBulkBuild(PriorityQueue::new,
+                    "PriorityQueue", names));
+            writeFile(results, TIMING_PRIORITY_FILE);
+        }
+
+        if (shouldRun("simulation")) {
+            List<String> results = new ArrayList<>();
+            results.addAll(QueueTimer.timeEventSimulation(new RadixHeap<>
+                    (QueueTimer.Event::getTime), "RadixHeap"));
+            results.addAll(QueueTimer.timeEventSimulation(new
+                    ArrayPriorityQueue<>(ArrayPriorityQueue.Mode.SORTED),
+                    "ArrayPriorityQueue (sorted)"));
+            results.addAll(QueueTimer.timeEventSimulation(new
+                    ArrayPriorityQueue<>(ArrayPriorityQueue.Mode.HEAP),
+                    "ArrayPriorityQueue (heap)"));
+            results.addAll(QueueTimer.timeEventSimulation(new
+                    PriorityQueue<>(), "PriorityQueue"));
+            writeFile(results, TIMING_SIMULATION_FILE);
+        }
+
+        if (shouldRun("blocking")) {
+            // oversubscribed thread counts are the point of this suite, so
+            // it runs to MAX_THREADS whatever the core count
+            int maxThreads = MAX_THREADS;
+            List<String> results = new ArrayList<>();
+            results.addAll(QueueTimer.timeConcurrentQueue(new
+                    BlockingPriorityQueue<>(), "BlockingPriorityQueue " +
+                    "(strict)", names, maxThreads));
+            results.addAll(QueueTimer.timeConcurrentQueue(new
+                    BlockingPriorityQueue<>(maxThreads << 1),
+                    "BlockingPriorityQueue (relaxed)", names, maxThreads));
+            results.addAll(QueueTimer.timeConcurrentQueue(new
+                    PriorityBlockingQueue<>(), "PriorityBlockingQueue",
+                    names, maxThreads));
+            writeFile(results, TIMING_BLOCKING_FILE);
+        }
+
+        if (shouldRun("dijkstra")) {
+            writeFile(GraphTimer.timeDijkstra(), TIMING_DIJKSTRA_FILE);
+        }
+
+        if (shouldRun("ring")) {
+            int maxThreads = coreBoundThreads();
+            List<String> results = new ArrayList<>();
+            CirArrayList<String> locked = new CirArrayList<>(RING_CAPACITY);
+            results.addAll(QueueTimer.timeHandoff("synchronized CirArrayList",
+                    value -> {
+                        synchronized (locked) {
+                            return locked.size() < RING_CAPACITY && locked
+                                    .offerLast(value);
+                        }
+                    }, () -> {
+                        synchronized (locked) {
+                            return locked.pollFirst();
+                        }
+                    }, names, maxThreads));
+            SpscRingBuffer<String> spsc = new SpscRingBuffer<>(RING_CAPACITY);
+            results.addAll(QueueTimer.timeHandoff("SpscRingBuffer",
+                    spsc::offer, spsc::poll, names, 1));
+            MpscRingBuffer<String> mpsc = new MpscRingBuffer<>(RING_CAPACITY);
+            results.addAll(QueueTimer.timeHandoff("MpscRingBuffer",
+                    mpsc::offer, mpsc::poll, names, maxThreads));
+            writeFile(results, TIMING_RING_FILE);
+        }
+    }
+
+    private boolean shouldRun(String suite) {
+        return suites.isEmpty() || suites.contains(suite);
+    }
+
+    private static <K extends Comparable<K>, M extends MapADT<K, Integer>> M
+    fill(M map, List<K> keys) {
+        for (int i = 0; i < keys.size(); i++) {
+            map.add(keys.get(i), i);
+        }
+        return map;
+    }
+
+    /**
+     * The single global lock baseline for the concurrent map tests.
+     */
+    private static final class LockedMap<K extends Comparable<K>, V>
+            implements MapADT<K, V> {
+        private final MapADT<K, V> map;
+
+        LockedMap(MapADT<K, V> map) {
+            this.map = map;
+        }
+
+        public synchronized boolean contains(K key) {
+            return map.contains(key);
+        }
+
+        public synchronized V add(K key, V value) {
+            return map.add(key, value);
+        }
+
+        public synchronized boolean delete(K key) {
+            return map.delete(key);
+        }
+
+        public synchronized V getValue(K key) {
+            return map.getValue(key);
+        }
+
+        public synchronized K getKey(V value) {
+            return map.getKey(value);
+        }
+
+        public synchronized int size() {
+            return map.size();
+        }
+
+        public synchronized boolean isEmpty() {
+            return map.isEmpty();
+        }
+
+        public synchronized void clear() {
+            map.clear();
+        }
+
+        public synchronized Iterator<K> keys() {
+            return map.keys();
+        }
+
+        public synchronized Iterator<V> values() {
+            return map.values();
+        }
+    }
+
+    /**
+     * @return twice the number of cores, rounded down to a power of two and
+     * capped at MAX_THREADS
+     */
+    private static int coreBoundThreads() {
+        return Math.min(MAX_THREADS, Integer.highestOneBit(Runtime
+                .getRuntime().availableProcessors()) << 1);
+    }
+
+    private static void writeFile(List<String> data, String filename) {
+        try {
+            Files.write(Paths.get(filename), data, Charset.defaultCharset());
+        } catch (SecurityException se) {
+            System.err.println("Security Exception : " + se.toString());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Application entry point.
+     *
+     * @param args names of the suites to run, or none to run them all
+     */
+    public static void main(String[] args) {
+        try {
+            new Benchmarks(args);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package edu.sdsu.cs.datastructures;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, lock-free queue handing elements from producer threads to a
+ * single consumer thread.
+ * <p>Slots are laid out like a CirArrayList: a power of two array indexed
+ * by masking an ever increasing sequence number. The producers advance the
+ * tail sequence and the consumer advances the head sequence; each side
+ * keeps a private copy of the other's counter and only rereads the shared
+ * one when the copy says the buffer is full or empty. The two counters are
+ * surrounded by padding fields so that they never share a cache line with
+ * each other or with neighbouring objects, which would make every handoff
+ * bounce the line between the producer's and the consumer's cores.
+ * </p>
+ * <p>Only one thread at a time may call the consumer methods: poll, peek
+ * and drainTo. Subclasses decide how many threads may produce. Null
+ * elements are not allowed, since a null slot marks one not yet filled.
+ * </p>
+ *
+ * @param <E> element type
+ */
+public abstract class AbstractRingBuffer<E> extends RingBufferConsumerPad {
+
+    final AtomicReferenceArray<E> buffer;
+    final int mask;
+
+    AbstractRingBuffer(int capacity) {
+        if(capacity < 1)
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        int slots = (capacity == 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        if(slots <= 0)
+            throw new IllegalArgumentException("Capacity too large: " + capacity);
+        buffer = new AtomicReferenceArray<>(slots);
+        mask = slots - 1;
+    }
+
+    /**
+     * Inserts the element if there is room, without waiting.
+     *
+     * @param e the element to add
+     * @return true if added, false if the buffer was full
+     * @throws NullPointerException if the element is null
+     */
+    public abstract boolean offer(E e);
+
+    /**
+     * Inserts as many elements from a run of the array as there is room for,
+     * publishing them together.
+     *
+     * @param items  source array
+     * @param offset position of the first element to add
+     * @param length number of elements to try to add
+     * @return number of elements added, from the front of the run
+     * @throws NullPointerException      if any element added is null
+     * @throws IndexOutOfBoundsException if the run lies outside the array
+     */
+    public abstract int offerBatch(E[] items, int offset, int length);
+
+    /**
+     * Removes and returns the oldest element. Consumer thread only.
+     *
+     * @return the oldest element, or null if the buffer is empty
+     */
+    public E poll() {
+        long h = head;
+        if(h >= tailCache && h >= (tailCache = tail))
+            return null;
+        int slot = (int) h & mask;
+        E e = awaitSlot(slot);
+        buffer.lazySet(slot, null);
+        HEAD.lazySet(this, h + 1);
+        return e;
+    }
+
+    /**
+     * Returns the oldest element without removing it. Consumer thread only.
+     *
+     * @return the oldest element, or null if the buffer is empty
+     */
+    public E peek() {
+        long h = head;
+        if(h >= tailCache && h >= (tailCache = tail))
+            return null;
+        return awaitSlot((int) h & mask);
+    }
+
+    /**
+     * Removes up to limit elements, oldest first, passing each to the sink,
+     * and frees their slots to the producers together. Consumer thread only.
+     *
+     * @param sink  receives the elements
+     * @param limit most elements to remove; zero or less removes none
+     * @return number of elements removed
+     */
+    public int drainTo(Consumer<? super E> sink, int limit) {
+        long h = head;
+        long available = (tailCache = tail) - h;
+        int count = (int) Math.min(available, Math.max(limit, 0));
+        int done = 0;
+        try {
+            while(done < count) {
+                int slot = (int) (h + done) & mask;
+                E e = awaitSlot(slot);
+                buffer.lazySet(slot, null);
+                done++;
+                sink.accept(e);
+            }
+        }
+        finally {
+            HEAD.lazySet(this, h + done);
+        }
+        return count;
+    }
+
+    /**
+     * Reports the number of elements waiting. The count is exact only while
+     * no other thread is using the buffer.
+     *
+     * @return the element count
+     */
+    public int size() {
+        while(true) {
+            long h = head;
+            long t = tail;
+            if(h == head)
+                return (int) Math.min(t - h, capacity());
+        }
+    }
+
+    /**
+     * Indicates if no elements are waiting.
+     *
+     * @return true if the buffer is empty
+     */
+    public boolean isEmpty() {
+        return (head == tail);
+    }
+
+    /**
+     * Reports the most elements the buffer can hold, the requested capacity
+     * rounded up to a power of two.
+     *
+     * @return the slot count
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * A producer claims a slot by advancing tail before it stores the
+     * element, so under several producers the consumer may briefly see a
+     * claimed slot that is still empty.
+     */
+    private E awaitSlot(int slot) {
+        E e;
+        while((e = buffer.get(slot)) == null)
+            Thread.yield();
+        return e;
+    }
+
+    static void checkElement(Object e) {
+        Objects.requireNonNull(e, "Null elements are not allowed");
+    }
+
+    static void checkRun(Object[] items, int offset, int length) {
+        if(offset < 0 || length < 0 || offset > items.length - length)
+            throw new IndexOutOfBoundsException("Range: [" + offset + ", " + (offset + length)
+                    + ") Length = " + items.length);
+    }
+}
+
+/**
+ * Keeps the producer counters off the cache line of whatever object
+ * precedes the buffer in memory. Superclass fields are laid out first, so
+ * each level of the hierarchy places its fields after the previous one's.
+ */
+abstract class RingBufferProducerPad {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class RingBufferProducerFields extends RingBufferProducerPad {
+    static final AtomicLongFieldUpdater<RingBufferProducerFields> TAIL =
+            AtomicLongFieldUpdater.newUpdater(RingBufferProducerFields.class, "tail");
+
+    /**
+     * Sequence number of the next slot to fill.
+     */
+    volatile long tail;
+
+    /**
+     * The producers' last reading of head; volatile because several
+     * producers may refresh it.
+     */
+    volatile long headCache;
+}
+
+abstract class RingBufferMiddlePad extends RingBufferProducerFields {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class RingBufferConsumerFields extends RingBufferMiddlePad {
+    static final AtomicLongFieldUpdater<RingBufferConsumerFields> HEAD =
+            AtomicLongFieldUpdater.newUpdater(RingBufferConsumerFields.class, "head");
+
+    /**
+     * Sequence number of the next slot to empty.
+     */
+    volatile long head;
+
+    /**
+     * The consumer's last reading of tail.
+     */
+    long tailCache;
+}
+
+abstract class RingBufferConsumerPad extends RingBufferConsumerFields {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+}
@@ -0,0 +1,335 @@
+package edu.sdsu.cs.datastructures;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A priority queue whose entries can be found again after insertion.
+ * <p>insert returns a Handle for the new entry. Through the handle the
+ * entry's element can be replaced, raising or lowering its priority, or
+ * the entry can be removed from the middle of the queue, each in
+ * O(log n) time. There is no search and no shifting, which is what makes
+ * decrease-key algorithms such as Dijkstra's practical on large inputs.
+ * </p>
+ * <p>The entries form a four-ary heap in an array, and every handle keeps
+ * its current index in that array. A four-ary heap is half as deep as a
+ * binary one, and the four children of a node sit next to each other, so
+ * sifting touches fewer cache lines.
+ * </p>
+ * <p>As in ArrayPriorityQueue, lower elements leave first, and equal
+ * elements leave in the order they were inserted. An entry keeps its
+ * place in that order when its element is replaced through its handle.
+ * The iterator visits elements in heap order and does not support remove.
+ * </p>
+ *
+ * @param <E> Object to store in container. It must support comparisons with
+ *            other objects of the same type.
+ */
+public final class AddressablePriorityQueue<E extends Comparable<E>> extends
+        AbstractQueue<E> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * log2 of the number of children per node.
+     */
+    private static final int ARITY_SHIFT = 2;
+
+    private Handle<E>[] heap;
+
+    private int size;
+
+    private long nextSequence;
+
+    private int modCount;
+
+    /**
+     * Builds a new, empty queue.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public AddressablePriorityQueue() {
+        heap = (Handle<E>[]) new Handle[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * A reference to one entry of the queue, valid until the entry leaves.
+     *
+     * @param <E> element type
+     */
+    public static final class Handle<E extends Comparable<E>> {
+        private final AddressablePriorityQueue<E> owner;
+        private final long seq;
+        private E element;
+
+        /**
+         * Position in the owner's heap array, or -1 once removed.
+         */
+        private int index;
+
+        private Handle(AddressablePriorityQueue<E> owner, E element, long seq) {
+            this.owner = owner;
+            this.element = element;
+            this.seq = seq;
+        }
+
+        /**
+         * Returns the entry's current element.
+         *
+         * @return the element
+         */
+        public E element() {
+            return element;
+        }
+
+        /**
+         * Indicates if the entry is still in the queue.
+         *
+         * @return false once the entry was polled or removed
+         */
+        public boolean isQueued() {
+            return (index >= 0);
+        }
+
+        /**
+         * Replaces the entry's element and moves the entry to match its new
+         * priority, which may be higher or lower.
+         *
+         * @param newElement the replacement element
+         * @throws IllegalStateException if the entry is no longer queued
+         */
+        public void updatePriority(E newElement) {
+            checkQueued();
+            int cmp = newElement.compareTo(element);
+            element = newElement;
+            owner.modCount++;
+            if(cmp < 0)
+                owner.siftUp(index, this);
+            else if(cmp > 0)
+                owner.siftDown(index, this);
+        }
+
+        /**
+         * Replaces the entry's element with one that ranks no later,
+         * moving the entry toward the head.
+         *
+         * @param newElement the replacement element
+         * @throws IllegalArgumentException if newElement ranks after the
+         *                                  current element
+         * @throws IllegalStateException    if the entry is no longer queued
+         */
+        public void decreaseKey(E newElement) {
+            checkQueued();
+            if(newElement.compareTo(element) > 0)
+                throw new IllegalArgumentException("New element ranks after the current one");
+            element = newElement;
+            owner.modCount++;
+            owner.siftUp(index, this);
+        }
+
+        /**
+         * Removes the entry from the queue.
+         *
+         * @return true if removed, false if it had already left the queue
+         */
+        public boolean remove() {
+            if(index < 0)
+                return false;
+            owner.removeAt(index);
+            return true;
+        }
+
+        private void checkQueued() {
+            if(index < 0)
+                throw new IllegalStateException("Entry is no longer queued");
+        }
+    }
+
+    /**
+     * Inserts the element and returns a handle to its entry.
+     *
+     * @param e the element to add
+     * @return the new entry's handle
+     */
+    public Handle<E> insert(E e) {
+        Objects.requireNonNull(e);
+        if(size == heap.length)
+            heap = Arrays.copyOf(heap, size << 1);
+        Handle<E> handle = new Handle<>(this, e, nextSequence++);
+        siftUp(size++, handle);
+        modCount++;
+        return handle;
+    }
+
+    /**
+     * Inserts the specified element into this queue.
+     *
+     * @param e the element to add
+     * @return true, as the queue is never full
+     */
+    @Override
+    public boolean offer(E e) {
+        insert(e);
+        return true;
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, or returns null if this
+     * queue is empty.
+     *
+     * @return the head of this queue or null if it is empty
+     */
+    @Override
+    public E poll() {
+        if(size == 0)
+            return null;
+        E top = heap[0].element;
+        removeAt(0);
+        return top;
+    }
+
+    /**
+     * Retrieves, but does not remove, the head of this queue, or returns
+     * null if this queue is empty.
+     *
+     * @return the head of this queue or null if it is empty
+     */
+    @Override
+    public E peek() {
+        return (size == 0) ? null : heap[0].element;
+    }
+
+    /**
+     * Returns the handle of the head entry without removing it.
+     *
+     * @return the head's handle or null if the queue is empty
+     */
+    public Handle<E> peekHandle() {
+        return (size == 0) ? null : heap[0];
+    }
+
+    /**
+     * Reports the number of items in this queue.
+     *
+     * @return the number of items in this queue.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every entry. Outstanding handles report that they are no
+     * longer queued.
+     */
+    @Override
+    public void clear() {
+        for(int i = 0; i < size; i++) {
+            heap[i].index = -1;
+            heap[i] = null;
+        }
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator over the elements in heap order: the head first,
+     * the rest in no particular order. It does not support remove; use the
+     * entry's Handle instead.
+     *
+     * @return an Iterator over the elements in this queue.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private final int expectedModCount = modCount;
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return (cursor < size);
+            }
+
+            @Override
+            public E next() {
+                if(modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if(cursor >= size)
+                    throw new NoSuchElementException();
+                return heap[cursor++].element;
+            }
+        };
+    }
+
+    /**
+     * Takes the entry at index out of the heap, filling the gap with the
+     * last entry and moving that one whichever way it belongs.
+     */
+    private void removeAt(int index) {
+        Handle<E> removed = heap[index];
+        removed.index = -1;
+        Handle<E> last = heap[--size];
+        heap[size] = null;
+        if(index < size) {
+            siftDown(index, last);
+            if(last.index == index)
+                siftUp(index, last);
+        }
+        modCount++;
+    }
+
+    /**
+     * Moves the hole at index k toward the root until the handle no longer
+     * belongs above it, then places the handle there.
+     */
+    private void siftUp(int k, Handle<E> handle) {
+        while(k > 0) {
+            int parent = (k - 1) >>> ARITY_SHIFT;
+            Handle<E> p = heap[parent];
+            if(!precedes(handle, p))
+                break;
+            heap[k] = p;
+            p.index = k;
+            k = parent;
+        }
+        heap[k] = handle;
+        handle.index = k;
+    }
+
+    /**
+     * Moves the hole at index k toward the leaves until no child belongs
+     * above the handle, then places the handle there.
+     */
+    private void siftDown(int k, Handle<E> handle) {
+        while(true) {
+            int first = (k << ARITY_SHIFT) + 1;
+            if(first >= size)
+                break;
+            int best = first;
+            int end = Math.min(first + (1 << ARITY_SHIFT), size);
+            for(int c = first + 1; c < end; c++) {
+                if(precedes(heap[c], heap[best]))
+                    best = c;
+            }
+            Handle<E> child = heap[best];
+            if(!precedes(child, handle))
+                break;
+            heap[k] = child;
+            child.index = k;
+            k = best;
+        }
+        heap[k] = handle;
+        handle.index = k;
+    }
+
+    /**
+     * Orders by element, then by insertion.
+     */
+    private static <E extends Comparable<E>> boolean precedes(Handle<E> a, Handle<E> b) {
+        int cmp = a.element.compareTo(b.element);
+        return (cmp < 0 || (cmp == 0 && a.seq < b.seq));
+    }
+}
@@ -0,0 +1,378 @@
+package edu.sdsu.cs.datastructures;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An unbalanced binary search tree stored as parallel arrays instead of
+ * node objects.
+ * <p>Node i is the i-th slot of the key, value, left and right arrays, and
+ * children are referenced by int index. There is no per-node object
+ * header and only the key and value arrays hold references, so the tree
+ * takes roughly half the memory of a linked one, neighbouring nodes share
+ * cache lines, and the garbage collector traces two arrays instead of
+ * millions of nodes. Deleted slots go on a free list threaded through the
+ * left array and are reused before the arrays grow.
+ * </p>
+ *
+ * @param <K> key type, compared with its natural ordering
+ * @param <V> value type
+ */
+public class ArrayBinarySearchTree<K extends Comparable<K>, V> implements OrderedMapADT<K, V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Index standing in for a null child link.
+     */
+    private static final int NIL = -1;
+
+    private Object[] keys;
+    private Object[] values;
+    private int[] left;
+    private int[] right;
+    private int root = NIL;
+    private int size;
+
+    /**
+     * Head of the chain of deleted slots, linked through left.
+     */
+    private int free = NIL;
+
+    /**
+     * Slots at or above this index have never been used.
+     */
+    private int used;
+
+    /**
+     * Builds a new, empty tree.
+     */
+    public ArrayBinarySearchTree() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Builds a new, empty tree with room for the given number of entries
+     * before its arrays need to grow.
+     * @param capacity initial number of node slots
+     */
+    public ArrayBinarySearchTree(int capacity) {
+        if(capacity < 1)
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+    }
+
+    /**
+     * Returns true if the map has an object for the corresponding key.
+     * @param key object to search for
+     * @return true if within map, false otherwise
+     */
+    public boolean contains(K key) {
+        checkKey(key);
+        return (find(key) != NIL);
+    }
+
+    /**
+     * Adds the given key/value pair to the map.
+     * @param key Key to add to the map
+     * @param value Corresponding value to associate with the key
+     * @return the previous value associated with this key or null if new
+     */
+    public V add(K key, V value) {
+        checkKey(key);
+        int parent = NIL;
+        int node = root;
+        int cmp = 0;
+        while(node != NIL) {
+            cmp = key.compareTo(key(node));
+            if(cmp == 0) {
+                V oldVal = value(node);
+                values[node] = value;
+                return oldVal;
+            }
+            parent = node;
+            node = (cmp < 0) ? left[node] : right[node];
+        }
+
+        int slot = allocate(key, value);
+        if(parent == NIL)
+            root = slot;
+        else if(cmp < 0)
+            left[parent] = slot;
+        else
+            right[parent] = slot;
+        size++;
+        return null;
+    }
+
+    /**
+     * Removes the key/value pair identified by the key parameter from the map.
+     * @param key item to remove
+     * @return true if removed, false if not found or unable to remove
+     */
+    public boolean delete(K key) {
+        checkKey(key);
+        int parent = NIL;
+        int node = root;
+        while(node != NIL) {
+            int cmp = key.compareTo(key(node));
+            if(cmp == 0)
+                break;
+            parent = node;
+            node = (cmp < 0) ? left[node] : right[node];
+        }
+        if(node == NIL)
+            return false;
+
+        if(left[node] != NIL && right[node] != NIL) {
+            // take over the largest key on the left, then unlink its slot
+            int bigParent = node;
+            int big = left[node];
+            while(right[big] != NIL) {
+                bigParent = big;
+                big = right[big];
+            }
+            keys[node] = keys[big];
+            values[node] = values[big];
+            if(bigParent == node)
+                left[node] = left[big];
+            else
+                right[bigParent] = left[big];
+            release(big);
+        }
+        else {
+            int child = (left[node] != NIL) ? left[node] : right[node];
+            if(parent == NIL)
+                root = child;
+            else if(left[parent] == node)
+                left[parent] = child;
+            else
+                right[parent] = child;
+            release(node);
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns the value associated with the parameter key.
+     * @param key key to lookup in the map
+     * @return Value associated with key or null if not found
+     */
+    public V getValue(K key) {
+        checkKey(key);
+        int node = find(key);
+        return (node == NIL) ? null : value(node);
+    }
+
+    /**
+     * Returns the first key found with the parameter value.
+     * @param value value to locate
+     * @return key of first item found with the matching value
+     */
+    public K getKey(V value) {
+        Iterator<K> keys = keys();
+        Iterator<V> values = values();
+        while(keys.hasNext()) {
+            K key = keys.next();
+            if(value.equals(values.next()))
+                return key;
+        }
+        return null;
+    }
+
+    /**
+     * Identifies the size of the map.
+     * @return Number of entries stored in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates if the map contains nothing.
+     * @return true if the map is empty, as the method cryptically indicates.
+     */
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Resets the map to an empty state with no entries. The arrays keep
+     * their capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0, used, null);
+        Arrays.fill(values, 0, used, null);
+        root = NIL;
+        free = NIL;
+        used = 0;
+        size = 0;
+    }
+
+    /**
+     * Provides a key iterator.
+     * @return Iterator over the keys, sorted
+     */
+    public Iterator<K> keys() {
+        return new IndexIterator<K>(null) {
+            @Override
+            K current(int node) {
+                return key(node);
+            }
+        }.seek(null);
+    }
+
+    /**
+     * Provides a key iterator over a range of keys.
+     * @param fromKey lowest key to include (inclusive)
+     * @param toKey highest key to stop at (exclusive)
+     * @return Iterator over the keys k, fromKey &lt;= k &lt; toKey, sorted
+     */
+    public Iterator<K> keys(K fromKey, K toKey) {
+        checkKey(fromKey);
+        checkKey(toKey);
+        return new IndexIterator<K>(toKey) {
+            @Override
+            K current(int node) {
+                return key(node);
+            }
+        }.seek(fromKey);
+    }
+
+    /**
+     * Provides a value iterator. The values arrive corresponding to their
+     * keys in the key order.
+     * @return Iterator over the values.
+     */
+    public Iterator<V> values() {
+        return new IndexIterator<V>(null) {
+            @Override
+            V current(int node) {
+                return value(node);
+            }
+        }.seek(null);
+    }
+
+    /**
+     * In-order walk holding the pending ancestors' indices on an int stack.
+     */
+    private abstract class IndexIterator<T> implements Iterator<T> {
+        private final K toKey;
+        private int[] stack = new int[32];
+        private int depth;
+
+        IndexIterator(K toKey) {
+            this.toKey = toKey;
+        }
+
+        abstract T current(int node);
+
+        /**
+         * Stacks the path to the first key not less than fromKey.
+         */
+        IndexIterator<T> seek(K fromKey) {
+            for(int node = root; node != NIL; ) {
+                if(fromKey != null && key(node).compareTo(fromKey) < 0)
+                    node = right[node];
+                else {
+                    push(node);
+                    node = left[node];
+                }
+            }
+            return this;
+        }
+
+        private void push(int node) {
+            if(depth == stack.length)
+                stack = Arrays.copyOf(stack, depth << 1);
+            stack[depth++] = node;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (depth > 0 && (toKey == null || key(stack[depth - 1]).compareTo(toKey) < 0));
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext())
+                throw new NoSuchElementException();
+            int node = stack[--depth];
+            for(int child = right[node]; child != NIL; child = left[child])
+                push(child);
+            return current(node);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private int find(K key) {
+        int node = root;
+        while(node != NIL) {
+            int cmp = key.compareTo(key(node));
+            if(cmp == 0)
+                return node;
+            node = (cmp < 0) ? left[node] : right[node];
+        }
+        return NIL;
+    }
+
+    /**
+     * Takes a slot from the free list, or the next unused one, growing the
+     * arrays when both run out.
+     */
+    private int allocate(K key, V value) {
+        int slot;
+        if(free != NIL) {
+            slot = free;
+            free = left[slot];
+        }
+        else {
+            if(used == keys.length)
+                grow();
+            slot = used++;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        left[slot] = NIL;
+        right[slot] = NIL;
+        return slot;
+    }
+
+    private void release(int slot) {
+        keys[slot] = null;
+        values[slot] = null;
+        left[slot] = free;
+        free = slot;
+    }
+
+    private void grow() {
+        int capacity = keys.length << 1;
+        keys = Arrays.copyOf(keys, capacity);
+        values = Arrays.copyOf(values, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private K key(int node) {
+        return (K) keys[node];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int node) {
+        return (V) values[node];
+    }
+
+    private void checkKey(K key) {
+        assert key != null : "Null keys are not allowed";
+    }
+}
@@ -19,7 +19,9 @@ import java.util.*;
  * to the circular-array based priority managedList may produce slower timings,
  * for the data structure must use binary-search to locate where the new
  * item belongs in relation to everything else, and it must then shift
- * the existing contents over to make room for the addition.
+ * the existing contents over to make room for the addition. Loading many
+ * items at once through offerAll, or the Collection constructors, sorts
+ * and merges them instead, so it costs no more than one sort.
  * </p>
  * <p>
  * In the likely event two objects share the same priority, new items
@@ -28,6 +30,15 @@ import java.util.*;
  * last standard customer currently in line.
  * </p>
  * <p>
+ * The queue runs in one of two modes. SORTED, the default, keeps the
+ * managedList in poll order as described above. HEAP keeps it as a binary
+ * heap instead, so offer and poll both take O(log n) time. A heap does not
+ * preserve arrival order among equal items by itself, so in this mode each
+ * item carries a sequence number stamped at offer time, and ties in
+ * compareTo fall back to the sequence number. Equal items therefore leave
+ * in arrival order in both modes.
+ * </p>
+ * <p>
  * Although technically a Collection object, the managedList does not support
  * most of the standard Collection operations. That is, one may not add
  * or remove from the Queue using the collection methods, for it breaks
@@ -42,12 +53,47 @@ import java.util.*;
 public final class ArrayPriorityQueue<E extends Comparable<E>>
         extends AbstractCollection<E> implements Queue<E> {
 
+    /**
+     * How the queue arranges its contents.
+     */
+    public enum Mode {
+        /**
+         * A sorted array: O(1) poll, O(n) offer, iteration in poll order.
+         */
+        SORTED,
+        /**
+         * A binary heap: O(log n) offer and poll, iteration in heap order.
+         */
+        HEAP
+    }
+
     private final List<E> managedList = new CirArrayList<>();
+
+    private final Mode mode;
+
+    /**
+     * In HEAP mode, the arrival number of the item at the same index of
+     * managedList; null in SORTED mode.
+     */
+    private final CirLongArrayList sequence;
+
+    private long nextSequence;
+
     /**
      * Builds a new, empty priority managedList.
      */
     public ArrayPriorityQueue() {
+        this(Mode.SORTED);
+    }
 
+    /**
+     * Builds a new, empty priority managedList in the given mode.
+     *
+     * @param mode how to arrange the contents
+     */
+    public ArrayPriorityQueue(Mode mode) {
+        this.mode = mode;
+        this.sequence = (mode == Mode.HEAP) ? new CirLongArrayList() : null;
     }
 
 
@@ -59,10 +105,21 @@ public final class ArrayPriorityQueue<E extends Comparable<E>>
      *            managedList.
      */
     public ArrayPriorityQueue(Collection<? extends E> col) {
-        // this()
-        for (E itemInExistingCollection : col) {
-            offer(itemInExistingCollection);
-        }
+        this(Mode.SORTED, col);
+    }
+
+    /**
+     * Builds a new priority managedList in the given mode containing every
+     * item in the provided collection, in O(n log n) time when sorted and
+     * O(n) time as a heap.
+     *
+     * @param mode how to arrange the contents
+     * @param col  the Collection containing the objects to add to this
+     *             managedList.
+     */
+    public ArrayPriorityQueue(Mode mode, Collection<? extends E> col) {
+        this(mode);
+        offerAll(col);
     }
 
     /**
@@ -76,60 +133,92 @@ public final class ArrayPriorityQueue<E extends Comparable<E>>
      */
     @Override
     public boolean offer(E e) {
-        try {
-            // 2+ elements needed for binary search
-            if(managedList.size() == 0)
-                managedList.add(e);
-            else if (managedList.size() == 1) {
-                if(e.compareTo(managedList.get(0)) < 0)
-                    managedList.add(0,e);
-                else
-                    managedList.add(e);
+        if(mode == Mode.HEAP) {
+            long seq = nextSequence++;
+            managedList.add(e);
+            sequence.add(seq);
+            siftUp(managedList.size() - 1, e, seq);
+            return true;
+        }
+        managedList.add(upperBound(e), e);
+        return true;
+    }
+
+    /**
+     * Inserts every item of the collection, as though offered one at a time
+     * in the collection's iteration order, but without shifting the
+     * contents once per item.
+     * <p>In SORTED mode the new items are stably sorted and then merged
+     * with the existing contents in one pass from the back, so the whole
+     * call takes O(n + m log m) time for n existing and m new items. In
+     * HEAP mode the items are appended and the heap is rebuilt bottom-up in
+     * O(n + m) time, unless the batch is smaller than the queue, in which
+     * case each new item sifts up on its own in O(m log n).
+     * </p>
+     *
+     * @param col the items to add
+     * @return true if the managedList changed as a result of the call
+     */
+    @SuppressWarnings("unchecked")
+    public boolean offerAll(Collection<? extends E> col) {
+        Object[] items = col.toArray();
+        int count = items.length;
+        if(count == 0)
+            return false;
+        int oldSize = managedList.size();
+
+        if(mode == Mode.HEAP) {
+            long[] seqs = new long[count];
+            for(int i = 0; i < count; i++)
+                seqs[i] = nextSequence++;
+            managedList.addAll((List<E>) (List<?>) Arrays.asList(items));
+            sequence.addAll(seqs, 0, count);
+            if(count >= oldSize) {
+                for(int k = (managedList.size() >>> 1) - 1; k >= 0; k--)
+                    siftDown(k, managedList.get(k), sequence.get(k));
             }
             else {
-                int posToAdd = bSearchPos(e);
-                if(posToAdd == -1) // -1 marks add-to-front
-                    managedList.add(e);
-                else
-                    managedList.add(posToAdd, e);
+                for(int k = oldSize; k < managedList.size(); k++)
+                    siftUp(k, managedList.get(k), sequence.get(k));
             }
             return true;
         }
-        catch(Exception exc) {
-            // Element not added
-            return false;
+
+        // TimSort is stable, and the merge favours existing items on ties,
+        // which together keep equal items in arrival order
+        Arrays.sort(items);
+        managedList.addAll((List<E>) (List<?>) Arrays.asList(items));
+        int i = oldSize - 1;
+        int j = count - 1;
+        for(int k = oldSize + count - 1; j >= 0; k--) {
+            E next = (E) items[j];
+            if(i >= 0 && managedList.get(i).compareTo(next) > 0)
+                managedList.set(k, managedList.get(i--));
+            else {
+                managedList.set(k, next);
+                j--;
+            }
         }
+        return true;
     }
 
     /**
-     * Binary Search algorithm implementation
-     *
-     * returns when indices are equal (spot to insert)
-     * if lo == size() -1, test whether this new element is greater than
-     * the current tail. If so, return a flag to indicate use of add(e)
-     * instead of add(int, e) [add to back]
+     * Binary search for the insertion point: the position after every item
+     * not greater than val, so equal items keep their arrival order.
      *
-     * @return position to insert element (returns -1 to indicate add to end)
+     * @return index of the first item greater than val, or size()
      */
-    private int bSearchPos(E val) throws Exception {
+    private int upperBound(E val) {
         int lo = 0;
-        int hi = managedList.size() - 1;
-        int mid = 0;
-        while (lo <= hi) {
-            if(lo == hi) {
-                if ((size() > 2) && (lo == (size() - 1))) {
-                    if (val.compareTo(managedList.get(size() - 1)) > 0) return -1;
-                    else return lo;
-                }
-                else return lo;
-            }
-            mid = lo + ((hi - lo) / 2);
-            if (val.compareTo(managedList.get(mid)) < 0) hi = mid ;
-            else if (val.compareTo(managedList.get(mid)) > 0) lo = mid + 1;
-            else lo = mid+1;
+        int hi = managedList.size();
+        while(lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if(val.compareTo(managedList.get(mid)) < 0)
+                hi = mid;
+            else
+                lo = mid + 1;
         }
-        throw new Exception("The binary search function failed");
-
+        return lo;
     }
 
     /**
@@ -143,7 +232,7 @@ public final class ArrayPriorityQueue<E extends Comparable<E>>
     @Override
     public E remove() {
         if(!managedList.isEmpty())
-            return managedList.remove(0);
+            return poll();
         else
             throw new NoSuchElementException();
     }
@@ -157,10 +246,73 @@ public final class ArrayPriorityQueue<E extends Comparable<E>>
      */
     @Override
     public E poll() {
-        if(!managedList.isEmpty())
-            return managedList.remove(0);
-        else
+        if(managedList.isEmpty())
             return null;
+        if(mode == Mode.SORTED)
+            return managedList.remove(0);
+
+        E top = managedList.get(0);
+        int last = managedList.size() - 1;
+        E e = managedList.remove(last);
+        long seq = sequence.removeLast();
+        if(last > 0)
+            siftDown(0, e, seq);
+        return top;
+    }
+
+    /**
+     * Moves the hole at index k toward the root until e, with its sequence
+     * number, no longer belongs above it, then fills the hole.
+     */
+    private void siftUp(int k, E e, long seq) {
+        while(k > 0) {
+            int parent = (k - 1) >>> 1;
+            if(!precedes(e, seq, parent))
+                break;
+            managedList.set(k, managedList.get(parent));
+            sequence.set(k, sequence.get(parent));
+            k = parent;
+        }
+        managedList.set(k, e);
+        sequence.set(k, seq);
+    }
+
+    /**
+     * Moves the hole at index k toward the leaves until neither child
+     * belongs above e, then fills the hole.
+     */
+    private void siftDown(int k, E e, long seq) {
+        int size = managedList.size();
+        int half = size >>> 1;
+        while(k < half) {
+            int child = (k << 1) + 1;
+            int right = child + 1;
+            if(right < size && precedes(managedList.get(right), sequence.get(right), child))
+                child = right;
+            if(!precedes(managedList.get(child), sequence.get(child), e, seq))
+                break;
+            managedList.set(k, managedList.get(child));
+            sequence.set(k, sequence.get(child));
+            k = child;
+        }
+        managedList.set(k, e);
+        sequence.set(k, seq);
+    }
+
+    /**
+     * @return true if e, stamped seq, leaves the queue before the item at
+     * index
+     */
+    private boolean precedes(E e, long seq, int index) {
+        return precedes(e, seq, managedList.get(index), sequence.get(index));
+    }
+
+    /**
+     * Orders by priority, then by arrival.
+     */
+    private static <E extends Comparable<E>> boolean precedes(E a, long aSeq, E b, long bSeq) {
+        int cmp = a.compareTo(b);
+        return (cmp < 0 || (cmp == 0 && aSeq < bSeq));
     }
 
     /**
@@ -194,17 +346,31 @@ public final class ArrayPriorityQueue<E extends Comparable<E>>
     }
 
     /**
-     * Returns an iterator over the elements in this collection. The iterator
-     * produces results in the order in which they would appear were one to
-     * successively poll the managedList.
+     * Returns an iterator over the elements in this collection. In SORTED
+     * mode the iterator produces results in the order in which they would
+     * appear were one to successively poll the managedList. In HEAP mode it
+     * produces them in heap order: the head comes first, but the rest follow
+     * no particular order, and the iterator does not support remove.
      *
      * @return an Iterator over the elements in this managedList.
      */
     @Override
     public Iterator<E> iterator() {
+        if(mode == Mode.HEAP)
+            return Collections.unmodifiableList(managedList).iterator();
         return managedList.iterator();
     }
 
+    /**
+     * Removes every item from this managedList.
+     */
+    @Override
+    public void clear() {
+        managedList.clear();
+        if(mode == Mode.HEAP)
+            sequence.clear();
+    }
+
     /**
      * Reports the number of items in this managedList.
      *
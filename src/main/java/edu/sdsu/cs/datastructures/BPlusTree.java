@@ -0,0 +1,526 @@
+package edu.sdsu.cs.datastructures;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An in-memory B+tree implementation of an ordered map.
+ * <p>Each node packs up to <i>order</i> keys into a single array, so a
+ * lookup touches one node (a handful of cache lines) per level instead of
+ * one scattered object per comparison. All entries live in the leaves,
+ * which are linked left to right so full iterations and range scans walk
+ * contiguous arrays instead of climbing back up the tree.
+ * </p>
+ * <p>The fanout is tunable through the constructor: larger orders give a
+ * shallower tree at the cost of longer shifts when a node is modified.
+ * </p>
+ *
+ * @param <K> key type, compared with its natural ordering
+ * @param <V> value type
+ */
+public class BPlusTree<K extends Comparable<K>, V> implements OrderedMapADT<K, V> {
+
+    private static final int DEFAULT_ORDER = 64;
+    private static final int MINIMUM_ORDER = 4;
+
+    private final int order;
+    private Node root;
+    private int size;
+
+    /**
+     * Common base for leaves and inner nodes. Keys are stored packed in the
+     * front of the array; one extra slot allows a node to overflow briefly
+     * before it is split.
+     */
+    private abstract class Node {
+        final Object[] keys = new Object[order + 1];
+        int count;
+
+        @SuppressWarnings("unchecked")
+        K key(int index) {
+            return (K) keys[index];
+        }
+    }
+
+    private final class Leaf extends Node {
+        final Object[] values = new Object[order + 1];
+        Leaf next;
+
+        @SuppressWarnings("unchecked")
+        V value(int index) {
+            return (V) values[index];
+        }
+    }
+
+    /**
+     * Inner node with count keys and count + 1 children. Child i holds the
+     * keys k with keys[i - 1] &lt;= k &lt; keys[i].
+     */
+    private final class Inner extends Node {
+        final Object[] children = new Object[order + 2];
+
+        @SuppressWarnings("unchecked")
+        Node child(int index) {
+            return (Node) children[index];
+        }
+    }
+
+    /**
+     * Builds a new, empty tree using the default fanout.
+     */
+    public BPlusTree() {
+        this(DEFAULT_ORDER);
+    }
+
+    /**
+     * Builds a new, empty tree.
+     * @param order maximum number of keys held by a single node
+     * @throws IllegalArgumentException if the order is below 4
+     */
+    public BPlusTree(int order) {
+        if(order < MINIMUM_ORDER)
+            throw new IllegalArgumentException("Order must be at least " + MINIMUM_ORDER + ": " + order);
+        this.order = order;
+        clear();
+    }
+
+    /**
+     * Returns true if the map has an object for the corresponding key.
+     * @param key object to search for
+     * @return true if within map, false otherwise
+     */
+    public boolean contains(K key) {
+        checkKey(key);
+        Leaf leaf = findLeaf(key);
+        return (search(leaf, key) >= 0);
+    }
+
+    /**
+     * Adds the given key/value pair to the map.
+     * @param key Key to add to the map
+     * @param value Corresponding value to associate with the key
+     * @return the previous value associated with this key or null if new
+     */
+    public V add(K key, V value) {
+        checkKey(key);
+        Leaf leaf = findLeaf(key);
+        int pos = search(leaf, key);
+        if(pos >= 0) {
+            V oldVal = leaf.value(pos);
+            leaf.values[pos] = value;
+            return oldVal;
+        }
+
+        Node sibling = insert(root, key, value);
+        if(sibling != null) {
+            // the root split, so the tree grows one level
+            Inner newRoot = new Inner();
+            newRoot.keys[0] = lowestKey(sibling);
+            newRoot.children[0] = root;
+            newRoot.children[1] = sibling;
+            newRoot.count = 1;
+            root = newRoot;
+        }
+        size++;
+        return null;
+    }
+
+    /**
+     * Removes the key/value pair identified by the key parameter from the map.
+     * @param key item to remove
+     * @return true if removed, false if not found or unable to remove
+     */
+    public boolean delete(K key) {
+        checkKey(key);
+        if(!remove(root, key))
+            return false;
+
+        if(root instanceof BPlusTree.Inner && root.count == 0)
+            root = ((Inner) root).child(0);
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns the value associated with the parameter key.
+     * @param key key to lookup in the map
+     * @return Value associated with key or null if not found
+     */
+    public V getValue(K key) {
+        checkKey(key);
+        Leaf leaf = findLeaf(key);
+        int pos = search(leaf, key);
+        return (pos < 0) ? null : leaf.value(pos);
+    }
+
+    /**
+     * Returns the first key found with the parameter value.
+     * @param value value to locate
+     * @return key of first item found with the matching value
+     */
+    public K getKey(V value) {
+        for(Leaf leaf = leftmostLeaf(); leaf != null; leaf = leaf.next) {
+            for(int i = 0; i < leaf.count; i++) {
+                if(value.equals(leaf.values[i]))
+                    return leaf.key(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Identifies the size of the map.
+     * @return Number of entries stored in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates if the map contains nothing.
+     * @return true if the map is empty, as the method cryptically indicates.
+     */
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Resets the map to an empty state with no entries.
+     */
+    public void clear() {
+        root = new Leaf();
+        size = 0;
+    }
+
+    /**
+     * Provides a key iterator.
+     * @return Iterator over the keys, sorted
+     */
+    public Iterator<K> keys() {
+        return new LeafIterator<K>(leftmostLeaf(), 0, null) {
+            @Override
+            K current(Leaf leaf, int index) {
+                return leaf.key(index);
+            }
+        };
+    }
+
+    /**
+     * Provides a key iterator over a range of keys.
+     * @param fromKey lowest key to include (inclusive)
+     * @param toKey highest key to stop at (exclusive)
+     * @return Iterator over the keys k, fromKey &lt;= k &lt; toKey, sorted
+     */
+    public Iterator<K> keys(K fromKey, K toKey) {
+        checkKey(fromKey);
+        checkKey(toKey);
+        Leaf leaf = findLeaf(fromKey);
+        int pos = search(leaf, fromKey);
+        return new LeafIterator<K>(leaf, (pos < 0) ? -(pos + 1) : pos, toKey) {
+            @Override
+            K current(Leaf leaf, int index) {
+                return leaf.key(index);
+            }
+        };
+    }
+
+    /**
+     * Provides a value iterator. The values arrive corresponding to their
+     * keys in the key order.
+     * @return Iterator over the values.
+     */
+    public Iterator<V> values() {
+        return new LeafIterator<V>(leftmostLeaf(), 0, null) {
+            @Override
+            V current(Leaf leaf, int index) {
+                return leaf.value(index);
+            }
+        };
+    }
+
+    /**
+     * Walks the linked leaves from a starting position, stopping before the
+     * first key at or above the optional upper bound.
+     */
+    private abstract class LeafIterator<T> implements Iterator<T> {
+        private Leaf leaf;
+        private int index;
+        private final K toKey;
+
+        LeafIterator(Leaf leaf, int index, K toKey) {
+            this.leaf = leaf;
+            this.index = index;
+            this.toKey = toKey;
+        }
+
+        abstract T current(Leaf leaf, int index);
+
+        @Override
+        public boolean hasNext() {
+            while(leaf != null && index >= leaf.count) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            return (leaf != null && (toKey == null || leaf.key(index).compareTo(toKey) < 0));
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext())
+                throw new NoSuchElementException();
+            return current(leaf, index++);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Binary search within a single node.
+     * @return index of the key, or (-(insertion point) - 1) if absent
+     */
+    private int search(Node node, K key) {
+        int lo = 0;
+        int hi = node.count - 1;
+        while(lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = key.compareTo(node.key(mid));
+            if(cmp > 0) lo = mid + 1;
+            else if(cmp < 0) hi = mid - 1;
+            else return mid;
+        }
+        return -(lo + 1);
+    }
+
+    /**
+     * Locates the child of an inner node which covers the key.
+     */
+    private int childIndex(Inner node, K key) {
+        int pos = search(node, key);
+        return (pos >= 0) ? pos + 1 : -(pos + 1);
+    }
+
+    private Leaf findLeaf(K key) {
+        Node node = root;
+        while(node instanceof BPlusTree.Inner) {
+            Inner inner = (Inner) node;
+            node = inner.child(childIndex(inner, key));
+        }
+        return (Leaf) node;
+    }
+
+    private Leaf leftmostLeaf() {
+        Node node = root;
+        while(node instanceof BPlusTree.Inner)
+            node = ((Inner) node).child(0);
+        return (Leaf) node;
+    }
+
+    private K lowestKey(Node node) {
+        while(node instanceof BPlusTree.Inner)
+            node = ((Inner) node).child(0);
+        return node.key(0);
+    }
+
+    /**
+     * Recursive insert helper for a key known to be absent.
+     * @return the new right sibling if the node split, null otherwise
+     */
+    private Node insert(Node node, K key, V value) {
+        if(node instanceof BPlusTree.Leaf) {
+            Leaf leaf = (Leaf) node;
+            int pos = -(search(leaf, key) + 1);
+            System.arraycopy(leaf.keys, pos, leaf.keys, pos + 1, leaf.count - pos);
+            System.arraycopy(leaf.values, pos, leaf.values, pos + 1, leaf.count - pos);
+            leaf.keys[pos] = key;
+            leaf.values[pos] = value;
+            leaf.count++;
+            return (leaf.count > order) ? splitLeaf(leaf) : null;
+        }
+
+        Inner inner = (Inner) node;
+        int pos = childIndex(inner, key);
+        Node sibling = insert(inner.child(pos), key, value);
+        if(sibling == null)
+            return null;
+
+        System.arraycopy(inner.keys, pos, inner.keys, pos + 1, inner.count - pos);
+        System.arraycopy(inner.children, pos + 1, inner.children, pos + 2, inner.count - pos);
+        inner.keys[pos] = lowestKey(sibling);
+        inner.children[pos + 1] = sibling;
+        inner.count++;
+        return (inner.count > order) ? splitInner(inner) : null;
+    }
+
+    private Leaf splitLeaf(Leaf leaf) {
+        Leaf right = new Leaf();
+        int half = leaf.count >> 1;
+        right.count = leaf.count - half;
+        System.arraycopy(leaf.keys, half, right.keys, 0, right.count);
+        System.arraycopy(leaf.values, half, right.values, 0, right.count);
+        clearSlots(leaf.keys, half, leaf.count);
+        clearSlots(leaf.values, half, leaf.count);
+        leaf.count = half;
+        right.next = leaf.next;
+        leaf.next = right;
+        return right;
+    }
+
+    /**
+     * Splits an overfull inner node. The middle key is dropped here; the
+     * parent recovers it as the lowest key beneath the new sibling.
+     */
+    private Inner splitInner(Inner inner) {
+        Inner right = new Inner();
+        int half = inner.count >> 1;
+        right.count = inner.count - half - 1;
+        System.arraycopy(inner.keys, half + 1, right.keys, 0, right.count);
+        System.arraycopy(inner.children, half + 1, right.children, 0, right.count + 1);
+        clearSlots(inner.keys, half, inner.count);
+        clearSlots(inner.children, half + 1, inner.count + 1);
+        inner.count = half;
+        return right;
+    }
+
+    /**
+     * Recursive delete helper. Children left with fewer than order / 2 keys
+     * are refilled from a sibling or merged into one.
+     * @return true if the key was found and removed
+     */
+    private boolean remove(Node node, K key) {
+        if(node instanceof BPlusTree.Leaf) {
+            Leaf leaf = (Leaf) node;
+            int pos = search(leaf, key);
+            if(pos < 0)
+                return false;
+            System.arraycopy(leaf.keys, pos + 1, leaf.keys, pos, leaf.count - pos - 1);
+            System.arraycopy(leaf.values, pos + 1, leaf.values, pos, leaf.count - pos - 1);
+            leaf.count--;
+            leaf.keys[leaf.count] = null;
+            leaf.values[leaf.count] = null;
+            return true;
+        }
+
+        Inner inner = (Inner) node;
+        int pos = childIndex(inner, key);
+        if(!remove(inner.child(pos), key))
+            return false;
+        if(inner.child(pos).count < (order >> 1))
+            rebalance(inner, pos);
+        return true;
+    }
+
+    private void rebalance(Inner parent, int pos) {
+        Node child = parent.child(pos);
+        Node left = (pos > 0) ? parent.child(pos - 1) : null;
+        Node right = (pos < parent.count) ? parent.child(pos + 1) : null;
+
+        if(left != null && left.count > (order >> 1)) {
+            if(child instanceof BPlusTree.Leaf)
+                borrowFromLeftLeaf(parent, pos, (Leaf) left, (Leaf) child);
+            else
+                borrowFromLeftInner(parent, pos, (Inner) left, (Inner) child);
+        }
+        else if(right != null && right.count > (order >> 1)) {
+            if(child instanceof BPlusTree.Leaf)
+                borrowFromRightLeaf(parent, pos, (Leaf) child, (Leaf) right);
+            else
+                borrowFromRightInner(parent, pos, (Inner) child, (Inner) right);
+        }
+        else if(left != null)
+            merge(parent, pos - 1);
+        else if(right != null)
+            merge(parent, pos);
+    }
+
+    private void borrowFromLeftLeaf(Inner parent, int pos, Leaf left, Leaf child) {
+        System.arraycopy(child.keys, 0, child.keys, 1, child.count);
+        System.arraycopy(child.values, 0, child.values, 1, child.count);
+        left.count--;
+        child.keys[0] = left.keys[left.count];
+        child.values[0] = left.values[left.count];
+        left.keys[left.count] = null;
+        left.values[left.count] = null;
+        child.count++;
+        parent.keys[pos - 1] = child.keys[0];
+    }
+
+    private void borrowFromRightLeaf(Inner parent, int pos, Leaf child, Leaf right) {
+        child.keys[child.count] = right.keys[0];
+        child.values[child.count] = right.values[0];
+        child.count++;
+        right.count--;
+        System.arraycopy(right.keys, 1, right.keys, 0, right.count);
+        System.arraycopy(right.values, 1, right.values, 0, right.count);
+        right.keys[right.count] = null;
+        right.values[right.count] = null;
+        parent.keys[pos] = right.keys[0];
+    }
+
+    private void borrowFromLeftInner(Inner parent, int pos, Inner left, Inner child) {
+        System.arraycopy(child.keys, 0, child.keys, 1, child.count);
+        System.arraycopy(child.children, 0, child.children, 1, child.count + 1);
+        child.keys[0] = parent.keys[pos - 1];
+        child.children[0] = left.children[left.count];
+        child.count++;
+        parent.keys[pos - 1] = left.keys[left.count - 1];
+        left.keys[left.count - 1] = null;
+        left.children[left.count] = null;
+        left.count--;
+    }
+
+    private void borrowFromRightInner(Inner parent, int pos, Inner child, Inner right) {
+        child.keys[child.count] = parent.keys[pos];
+        child.children[child.count + 1] = right.children[0];
+        child.count++;
+        parent.keys[pos] = right.keys[0];
+        System.arraycopy(right.keys, 1, right.keys, 0, right.count - 1);
+        System.arraycopy(right.children, 1, right.children, 0, right.count);
+        right.count--;
+        right.keys[right.count] = null;
+        right.children[right.count + 1] = null;
+    }
+
+    /**
+     * Folds the child at pos + 1 into the child at pos and drops the key
+     * which separated them from the parent.
+     */
+    private void merge(Inner parent, int pos) {
+        Node left = parent.child(pos);
+        Node right = parent.child(pos + 1);
+
+        if(left instanceof BPlusTree.Leaf) {
+            Leaf leftLeaf = (Leaf) left;
+            Leaf rightLeaf = (Leaf) right;
+            System.arraycopy(rightLeaf.keys, 0, leftLeaf.keys, leftLeaf.count, rightLeaf.count);
+            System.arraycopy(rightLeaf.values, 0, leftLeaf.values, leftLeaf.count, rightLeaf.count);
+            leftLeaf.count += rightLeaf.count;
+            leftLeaf.next = rightLeaf.next;
+        }
+        else {
+            Inner leftInner = (Inner) left;
+            Inner rightInner = (Inner) right;
+            leftInner.keys[leftInner.count] = parent.keys[pos];
+            System.arraycopy(rightInner.keys, 0, leftInner.keys, leftInner.count + 1, rightInner.count);
+            System.arraycopy(rightInner.children, 0, leftInner.children, leftInner.count + 1, rightInner.count + 1);
+            leftInner.count += rightInner.count + 1;
+        }
+
+        System.arraycopy(parent.keys, pos + 1, parent.keys, pos, parent.count - pos - 1);
+        System.arraycopy(parent.children, pos + 2, parent.children, pos + 1, parent.count - pos - 1);
+        parent.count--;
+        parent.keys[parent.count] = null;
+        parent.children[parent.count + 1] = null;
+    }
+
+    private static void clearSlots(Object[] array, int from, int to) {
+        for(int i = from; i < to; i++)
+            array[i] = null;
+    }
+
+    private void checkKey(K key) {
+        assert key != null : "Null keys are not allowed";
+    }
+}
@@ -1,15 +1,26 @@
 package edu.sdsu.cs.datastructures;
 
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * @author ALEC RABOLD, cssc0185
  */
 
-public class BinarySearchTree<K extends Comparable<K>, V> implements MapADT<K, V>{
+public class BinarySearchTree<K extends Comparable<K>, V> implements OrderedMapADT<K, V>{
 
     private Node<K, V> root;
     private int size = 0;
@@ -42,6 +53,102 @@ public class BinarySearchTree<K extends Comparable<K>, V> implements MapADT<K, V
         }
     }
 
+    /**
+     * Builds a perfectly balanced tree from keys already in ascending order
+     * in a single O(n) pass, instead of n calls to add.
+     * @param keys keys in strictly ascending order
+     * @param values values corresponding to the keys, position for position
+     * @return a new tree holding every key/value pair
+     * @throws IllegalArgumentException if the keys are not strictly
+     * ascending or the arrays differ in length
+     */
+    public static <K extends Comparable<K>, V> BinarySearchTree<K, V> fromSorted(K[] keys, V[] values) {
+        if(keys.length != values.length)
+            throw new IllegalArgumentException("Key and value counts differ: " + keys.length + " != " + values.length);
+        return fromSorted(Arrays.asList(keys).iterator(), Arrays.asList(values).iterator(), keys.length);
+    }
+
+    /**
+     * Builds a perfectly balanced tree from another map's sorted keys, for
+     * example a snapshot of an ordered map, in a single O(n) pass.
+     * @param source map whose keys iterate in ascending order
+     * @return a new tree holding every key/value pair of the source
+     * @throws IllegalArgumentException if the source's keys are not sorted
+     */
+    public static <K extends Comparable<K>, V> BinarySearchTree<K, V> fromSorted(MapADT<K, V> source) {
+        return fromSorted(source.keys(), source.values(), source.size());
+    }
+
+    /**
+     * Builds a perfectly balanced tree from sorted key and value iterators.
+     * The pairs are buffered once so the tree can be built around the
+     * median.
+     * @param keys keys in strictly ascending order
+     * @param values values corresponding to the keys, in the same order
+     * @return a new tree holding every key/value pair
+     * @throws IllegalArgumentException if the keys are not strictly
+     * ascending or the iterators differ in length
+     */
+    public static <K extends Comparable<K>, V> BinarySearchTree<K, V> fromSorted(Iterator<K> keys, Iterator<V> values) {
+        List<K> keyList = new ArrayList<>();
+        List<V> valueList = new ArrayList<>();
+        while(keys.hasNext() && values.hasNext()) {
+            keyList.add(keys.next());
+            valueList.add(values.next());
+        }
+        if(keys.hasNext() || values.hasNext())
+            throw new IllegalArgumentException("Key and value counts differ");
+        return fromSorted(keyList.iterator(), valueList.iterator(), keyList.size());
+    }
+
+    private static <K extends Comparable<K>, V> BinarySearchTree<K, V> fromSorted(Iterator<K> keys, Iterator<V> values, int count) {
+        BinarySearchTree<K, V> tree = new BinarySearchTree<>();
+        tree.root = new SortedBuilder<>(keys, values).build(count);
+        tree.size = count;
+        return tree;
+    }
+
+    /**
+     * Consumes sorted pairs in order, building each subtree's left half
+     * before its root and right half, so no key is visited twice.
+     */
+    private static final class SortedBuilder<K extends Comparable<K>, V> {
+        private final Iterator<K> keys;
+        private final Iterator<V> values;
+        private K previous;
+
+        private SortedBuilder(Iterator<K> keys, Iterator<V> values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        private Node<K, V> build(int count) {
+            if(count == 0)
+                return null;
+            Node<K, V> left = build((count - 1) >> 1);
+            if(!keys.hasNext() || !values.hasNext())
+                throw new IllegalArgumentException("Fewer entries than the reported size");
+            K key = Objects.requireNonNull(keys.next(), "Null keys are not allowed");
+            if(previous != null && previous.compareTo(key) >= 0)
+                throw new IllegalArgumentException("Keys are not strictly ascending: " + previous + ", " + key);
+            previous = key;
+            Node<K, V> node = new Node<>(key, values.next());
+            node.left = left;
+            node.right = build(count - 1 - ((count - 1) >> 1));
+            return node;
+        }
+    }
+
+    /**
+     * Copies the tree into an immutable map laid out for fast lookups, for
+     * maps that are built once and then only read. Later changes to this
+     * tree do not affect the copy.
+     * @return an immutable map with the same entries
+     */
+    public EytzingerMap<K, V> freeze() {
+        return EytzingerMap.of(this);
+    }
+
     /**
      * Adds the given key/value pair to the map.
      * @param data Key to add to the map
@@ -98,6 +205,7 @@ public class BinarySearchTree<K extends Comparable<K>, V> implements MapADT<K, V
     public boolean delete(K data) {
         if(contains(data)) {
             root = remove(root, data);
+            size--;
             return true;
         }
         return false;
@@ -140,6 +248,7 @@ public class BinarySearchTree<K extends Comparable<K>, V> implements MapADT<K, V
                 big = big.right;
             }
             here.data = big.data;
+            here.value = big.value;
             if(last == null) {
                 here.left = big.left;
             }
@@ -157,7 +266,7 @@ public class BinarySearchTree<K extends Comparable<K>, V> implements MapADT<K, V
      * @return Value associated with key or null if not found
      */
     public V getValue(K data) {
-        Node<K, V> loc = search(data, root);
+        Node<K, V> loc = (root == null) ? null : search(data, root);
         return (loc == null) ? null : loc.getValue();
     }
 
@@ -214,7 +323,7 @@ public class BinarySearchTree<K extends Comparable<K>, V> implements MapADT<K, V
 
             @Override
             public boolean hasNext() {
-                return (curIndex < (list.size() - 1));
+                return (curIndex < list.size());
             }
 
             @Override
@@ -230,6 +339,238 @@ public class BinarySearchTree<K extends Comparable<K>, V> implements MapADT<K, V
         return it;
     }
 
+    /**
+     * Provides a key iterator over a range of keys.
+     * @param fromKey lowest key to include (inclusive)
+     * @param toKey highest key to stop at (exclusive)
+     * @return Iterator over the keys k, fromKey &lt;= k &lt; toKey, sorted
+     */
+    public Iterator<K> keys(K fromKey, K toKey) {
+        Iterator<K> it = new Iterator<K>() {
+            private Deque<Node<K, V>> path = descend(root, new ArrayDeque<>());
+
+            private Deque<Node<K, V>> descend(Node<K, V> node, Deque<Node<K, V>> stack) {
+                // only walk left of nodes that may still hold keys >= fromKey
+                while(node != null) {
+                    if(node.getData() != null && node.getData().compareTo(fromKey) < 0)
+                        node = node.right;
+                    else {
+                        stack.push(node);
+                        node = node.left;
+                    }
+                }
+                return stack;
+            }
+
+            @Override
+            public boolean hasNext() {
+                while(!path.isEmpty() && path.peek().getData() == null)
+                    descend(path.pop().right, path);
+                return (!path.isEmpty() && path.peek().getData().compareTo(toKey) < 0);
+            }
+
+            @Override
+            public K next() {
+                if(!hasNext())
+                    throw new NoSuchElementException();
+                Node<K, V> node = path.pop();
+                descend(node.right, path);
+                return node.getData();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        return it;
+    }
+
+    /**
+     * Provides a key spliterator which splits on subtrees.
+     * @return Spliterator over the keys, sorted
+     */
+    @Override
+    public Spliterator<K> keySpliterator() {
+        return new TreeSpliterator<>(root, size, Node::getData, null);
+    }
+
+    /**
+     * Provides a key/value pair spliterator which splits on subtrees.
+     * @return Spliterator over immutable key/value pairs, sorted by key
+     */
+    @Override
+    public Spliterator<Map.Entry<K, V>> entrySpliterator() {
+        return new TreeSpliterator<>(root, size,
+                node -> new AbstractMap.SimpleImmutableEntry<>(node.getData(), node.getValue()),
+                Map.Entry.comparingByKey());
+    }
+
+    /**
+     * Covers a lone node followed by the whole subtree to its right. A split
+     * hands the lone node and the subtree's left branch to a new spliterator
+     * and keeps the subtree's root as the new lone node in front of its
+     * right branch. Subtree sizes are not tracked, so only the unsplit
+     * original reports an exact size.
+     */
+    private final class TreeSpliterator<T> implements Spliterator<T> {
+        private final Function<Node<K, V>, T> mapper;
+        private final Comparator<? super T> comparator;
+        private Node<K, V> pending;
+        private Node<K, V> subtree;
+        private Deque<Node<K, V>> path;
+        private long estimate;
+        private boolean sized;
+
+        private TreeSpliterator(Node<K, V> subtree, long estimate, Function<Node<K, V>, T> mapper,
+                                Comparator<? super T> comparator) {
+            this.subtree = subtree;
+            this.estimate = estimate;
+            this.mapper = mapper;
+            this.comparator = comparator;
+            sized = true;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if(path == null) {
+                path = new ArrayDeque<>();
+                pushLeft(subtree);
+            }
+            while(pending != null || !path.isEmpty()) {
+                Node<K, V> node;
+                if(pending != null) {
+                    node = pending;
+                    pending = null;
+                }
+                else {
+                    node = path.pop();
+                    pushLeft(node.right);
+                }
+                if(node.getData() != null) {
+                    if(estimate > 0)
+                        estimate--;
+                    action.accept(mapper.apply(node));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void pushLeft(Node<K, V> node) {
+            for(; node != null; node = node.left)
+                path.push(node);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if(path != null || subtree == null)
+                return null;
+            if(pending == null && subtree.left == null)
+                return splitSpine();
+            TreeSpliterator<T> prefix = new TreeSpliterator<>(subtree.left, estimate >>> 1, mapper, comparator);
+            prefix.pending = pending;
+            prefix.sized = false;
+            pending = subtree;
+            subtree = subtree.right;
+            estimate -= prefix.estimate;
+            sized = false;
+            return prefix;
+        }
+
+        /**
+         * With no left subtree to hand off, as all along a tree built from
+         * ascending keys, copies the leading run of nodes without left
+         * children, up to half the estimate, into a prefix of its own and
+         * resumes at the first node that has one.
+         */
+        private Spliterator<T> splitSpine() {
+            long limit = estimate >>> 1;
+            if(limit == 0)
+                return null;
+            List<T> batch = new ArrayList<>();
+            Node<K, V> node = subtree;
+            for(; node != null && node.left == null && batch.size() < limit; node = node.right) {
+                if(node.getData() != null)
+                    batch.add(mapper.apply(node));
+            }
+            subtree = node;
+            estimate -= batch.size();
+            return new BatchSpliterator<>(batch, comparator);
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT
+                    | Spliterator.NONNULL | (sized ? Spliterator.SIZED : 0);
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return comparator;
+        }
+    }
+
+    /**
+     * A run of elements already copied out of the tree, split by halving.
+     */
+    private static final class BatchSpliterator<T> implements Spliterator<T> {
+        private final List<T> items;
+        private final Comparator<? super T> comparator;
+        private int index;
+        private final int end;
+
+        private BatchSpliterator(List<T> items, Comparator<? super T> comparator) {
+            this(items, comparator, 0, items.size());
+        }
+
+        private BatchSpliterator(List<T> items, Comparator<? super T> comparator, int index, int end) {
+            this.items = items;
+            this.comparator = comparator;
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if(index >= end)
+                return false;
+            action.accept(items.get(index++));
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (index + end) >>> 1;
+            if(mid <= index)
+                return null;
+            Spliterator<T> prefix = new BatchSpliterator<>(items, comparator, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT
+                    | Spliterator.NONNULL | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return comparator;
+        }
+    }
+
     private List<Node> inOrder() {
         List<Node> list = new ArrayList<>();
         inOrder(root, list);
@@ -298,6 +639,7 @@ public class BinarySearchTree<K extends Comparable<K>, V> implements MapADT<K, V
      */
     public void clear() {
         root = null;
+        size = 0;
     }
 
     /**
@@ -0,0 +1,424 @@
+package edu.sdsu.cs.datastructures;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe, unbounded priority queue with blocking retrieval.
+ * <p>The elements live in one or more heap mode ArrayPriorityQueues, each
+ * guarded by its own lock. With a single sub-queue, the strict mode, every
+ * poll returns the lowest element and equal elements leave in arrival
+ * order, exactly as in ArrayPriorityQueue. With several sub-queues, the
+ * relaxed mode, an offer goes to a random sub-queue whose lock is free,
+ * and a poll compares the heads of two random sub-queues and takes the
+ * lower. Threads then rarely wait on each other's locks, at the cost of a
+ * poll sometimes returning an element that ranks a little behind the true
+ * lowest; arrival order among equal elements holds only within a
+ * sub-queue. Twice as many sub-queues as threads is a good start.
+ * </p>
+ * <p>A shared count of available elements lets a consumer claim an element
+ * before it looks for one, so a successful claim always finds something
+ * and an empty queue is detected without visiting any sub-queue. Blocked
+ * consumers wait on a separate lock that producers only touch while
+ * someone is waiting.
+ * </p>
+ * <p>The iterator walks a snapshot taken one sub-queue at a time, and it
+ * does not support remove.
+ * </p>
+ *
+ * @param <E> Object to store in container. It must support comparisons with
+ *            other objects of the same type.
+ */
+public final class BlockingPriorityQueue<E extends Comparable<E>> extends
+        AbstractQueue<E> implements BlockingQueue<E> {
+
+    /**
+     * Failed tryLock attempts before an offer waits for a lock.
+     */
+    private static final int OFFER_ATTEMPTS = 4;
+
+    private final SubQueue<E>[] subQueues;
+
+    /**
+     * Elements offered and not yet claimed by a consumer.
+     */
+    private final AtomicInteger available = new AtomicInteger();
+
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition notEmpty = waitLock.newCondition();
+    private volatile int waiters;
+
+    /**
+     * Builds a new, empty queue in strict mode.
+     */
+    public BlockingPriorityQueue() {
+        this(1);
+    }
+
+    /**
+     * Builds a new, empty queue spread over the given number of
+     * sub-queues. One gives the strict mode; more give the relaxed mode.
+     *
+     * @param subQueueCount number of independently locked sub-queues
+     * @throws IllegalArgumentException if the count is less than one
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public BlockingPriorityQueue(int subQueueCount) {
+        if(subQueueCount < 1)
+            throw new IllegalArgumentException("Illegal sub-queue count: " + subQueueCount);
+        subQueues = (SubQueue<E>[]) new SubQueue[subQueueCount];
+        for(int i = 0; i < subQueueCount; i++)
+            subQueues[i] = new SubQueue<>();
+    }
+
+    /**
+     * One lock and one heap, plus a racy copy of the head for choosing
+     * between sub-queues without locking them.
+     */
+    private static final class SubQueue<E extends Comparable<E>> {
+        final ReentrantLock lock = new ReentrantLock();
+        final ArrayPriorityQueue<E> queue = new ArrayPriorityQueue<>(ArrayPriorityQueue.Mode.HEAP);
+        volatile E head;
+    }
+
+    /**
+     * Inserts the specified element into this queue. It never blocks.
+     *
+     * @param e the element to add
+     * @return true, as the queue is never full
+     */
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        SubQueue<E> sub = lockForOffer();
+        try {
+            sub.queue.offer(e);
+            sub.head = sub.queue.peek();
+        }
+        finally {
+            sub.lock.unlock();
+        }
+        available.incrementAndGet();
+        if(waiters > 0)
+            signalNotEmpty();
+        return true;
+    }
+
+    /**
+     * Inserts the specified element into this queue. It never blocks.
+     *
+     * @param e the element to add
+     */
+    @Override
+    public void put(E e) {
+        offer(e);
+    }
+
+    /**
+     * Inserts the specified element into this queue. It never blocks.
+     *
+     * @param e       the element to add
+     * @param timeout ignored
+     * @param unit    ignored
+     * @return true, as the queue is never full
+     */
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) {
+        return offer(e);
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, or returns null if this
+     * queue is empty.
+     *
+     * @return the head of this queue or null if it is empty
+     */
+    @Override
+    public E poll() {
+        return claim(1) ? takeClaimed() : null;
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, waiting until an element
+     * becomes available.
+     *
+     * @return the head of this queue
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public E take() throws InterruptedException {
+        while(true) {
+            E e = poll();
+            if(e != null)
+                return e;
+            waitLock.lockInterruptibly();
+            try {
+                waiters++;
+                try {
+                    while(available.get() == 0)
+                        notEmpty.await();
+                }
+                finally {
+                    waiters--;
+                }
+            }
+            finally {
+                waitLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, waiting up to the
+     * specified time for an element to become available.
+     *
+     * @param timeout how long to wait before giving up
+     * @param unit    the unit of the timeout
+     * @return the head of this queue, or null if the time elapses first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        while(true) {
+            E e = poll();
+            if(e != null || nanos <= 0)
+                return e;
+            waitLock.lockInterruptibly();
+            try {
+                waiters++;
+                try {
+                    while(available.get() == 0 && nanos > 0)
+                        nanos = notEmpty.awaitNanos(nanos);
+                }
+                finally {
+                    waiters--;
+                }
+            }
+            finally {
+                waitLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Retrieves, but does not remove, the lowest head among the
+     * sub-queues. Under concurrent updates the answer may already be stale.
+     *
+     * @return the head of this queue or null if it is empty
+     */
+    @Override
+    public E peek() {
+        E best = null;
+        for(SubQueue<E> sub : subQueues) {
+            E head = sub.head;
+            if(head != null && (best == null || head.compareTo(best) < 0))
+                best = head;
+        }
+        return best;
+    }
+
+    /**
+     * Removes all available elements and adds them to the given collection.
+     *
+     * @param c the collection to transfer elements into
+     * @return the number of elements transferred
+     */
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Removes at most the given number of available elements and adds them
+     * to the given collection. Each sub-queue is locked once for the whole
+     * batch; in strict mode the elements arrive in poll order.
+     *
+     * @param c           the collection to transfer elements into
+     * @param maxElements the maximum number of elements to transfer
+     * @return the number of elements transferred
+     */
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if(c == this)
+            throw new IllegalArgumentException();
+        int claimed;
+        while(true) {
+            int current = available.get();
+            claimed = Math.min(current, maxElements);
+            if(claimed <= 0)
+                return 0;
+            if(available.compareAndSet(current, current - claimed))
+                break;
+        }
+
+        int remaining = claimed;
+        while(remaining > 0) {
+            for(SubQueue<E> sub : subQueues) {
+                if(sub.head == null)
+                    continue;
+                sub.lock.lock();
+                try {
+                    for(E e = null; remaining > 0 && (e = sub.queue.poll()) != null; remaining--)
+                        c.add(e);
+                    sub.head = sub.queue.peek();
+                }
+                finally {
+                    sub.lock.unlock();
+                }
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Always returns Integer.MAX_VALUE, as the queue is unbounded.
+     *
+     * @return Integer.MAX_VALUE
+     */
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Reports the number of elements available to consumers.
+     *
+     * @return the number of items in this queue.
+     */
+    @Override
+    public int size() {
+        return available.get();
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the elements, in no particular
+     * order. It does not support remove.
+     *
+     * @return an Iterator over the elements in this queue.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        List<E> snapshot = new ArrayList<>();
+        for(SubQueue<E> sub : subQueues) {
+            sub.lock.lock();
+            try {
+                snapshot.addAll(sub.queue);
+            }
+            finally {
+                sub.lock.unlock();
+            }
+        }
+        Iterator<E> it = snapshot.iterator();
+        return new Iterator<E>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return it.next();
+            }
+        };
+    }
+
+    /**
+     * Reserves count elements, or returns false without reserving any.
+     */
+    private boolean claim(int count) {
+        while(true) {
+            int current = available.get();
+            if(current < count)
+                return false;
+            if(available.compareAndSet(current, current - count))
+                return true;
+        }
+    }
+
+    /**
+     * Removes one element after a successful claim. Producers count an
+     * element only after inserting it, so some sub-queue holds an element
+     * no other consumer has claimed, and the search ends.
+     */
+    private E takeClaimed() {
+        if(subQueues.length == 1)
+            return pollFrom(subQueues[0], true);
+        ThreadLocalRandom dice = ThreadLocalRandom.current();
+        while(true) {
+            SubQueue<E> a = subQueues[dice.nextInt(subQueues.length)];
+            SubQueue<E> b = subQueues[dice.nextInt(subQueues.length)];
+            E headA = a.head;
+            E headB = b.head;
+            SubQueue<E> pick = (headB == null || (headA != null && headA.compareTo(headB) <= 0)) ? a : b;
+            if(pick.head != null) {
+                E e = pollFrom(pick, false);
+                if(e != null)
+                    return e;
+            }
+            else {
+                for(SubQueue<E> sub : subQueues) {
+                    E e = (sub.head != null) ? pollFrom(sub, true) : null;
+                    if(e != null)
+                        return e;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the sub-queue's head, or null if it was empty or, unless
+     * wait is true, its lock was busy
+     */
+    private E pollFrom(SubQueue<E> sub, boolean wait) {
+        if(wait)
+            sub.lock.lock();
+        else if(!sub.lock.tryLock())
+            return null;
+        try {
+            E e = sub.queue.poll();
+            sub.head = sub.queue.peek();
+            return e;
+        }
+        finally {
+            sub.lock.unlock();
+        }
+    }
+
+    private SubQueue<E> lockForOffer() {
+        if(subQueues.length == 1) {
+            subQueues[0].lock.lock();
+            return subQueues[0];
+        }
+        ThreadLocalRandom dice = ThreadLocalRandom.current();
+        for(int attempt = 0; attempt < OFFER_ATTEMPTS; attempt++) {
+            SubQueue<E> sub = subQueues[dice.nextInt(subQueues.length)];
+            if(sub.lock.tryLock())
+                return sub;
+        }
+        SubQueue<E> sub = subQueues[dice.nextInt(subQueues.length)];
+        sub.lock.lock();
+        return sub;
+    }
+
+    private void signalNotEmpty() {
+        waitLock.lock();
+        try {
+            notEmpty.signal();
+        }
+        finally {
+            waitLock.unlock();
+        }
+    }
+}
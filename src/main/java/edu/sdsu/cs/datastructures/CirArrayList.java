@@ -1,6 +1,9 @@
 package edu.sdsu.cs.datastructures;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * A circular version of an array list.
@@ -9,39 +12,67 @@ import java.util.*;
  * eliminates the shifting required when adding or removing elements to the
  * front of the ArrayList.
  * </p>
+ * <p>Inserts and removals elsewhere shift whichever side of the position is
+ * shorter, using bulk array copies.
+ * </p>
+ * <p>The list is also a Deque: both ends insert and remove in constant
+ * time, so one object serves as a queue, a stack and a random access list.
+ * Unlike ArrayDeque it accepts null elements, which makes a null from the
+ * poll and peek methods ambiguous, as with LinkedList.
+ * </p>
  *
  * @author Alec Rabold, cssc0185
  */
 public final class CirArrayList<E> extends AbstractList<E> implements
-        List<E>, RandomAccess {
+        List<E>, Deque<E>, RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 16;
 
+    /**
+     * Storage whose length is always a power of two, so a logical index maps
+     * to its slot with a mask instead of a division.
+     */
     private E[] data;
 
     private int curSize;
 
     private int head;
-    private int tail;
 
     /**
      * Builds a new, empty CirArrayList.
      */
     public CirArrayList() {
-        // todo: default constructor
-        head = tail = curSize = 0;
-        data = (E[])new Object[10];
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Builds a new, empty CirArrayList with room for the given number of
+     * elements before it needs to grow.
+     *
+     * @param initialCapacity number of elements to make room for
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    @SuppressWarnings("unchecked")
+    public CirArrayList(int initialCapacity) {
+        if(initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        head = curSize = 0;
+        data = (E[])new Object[capacityFor(Math.max(initialCapacity, 1))];
     }
 
     /**
      * Constructs a new CirArrayList containing all the items in the input
-     * parameter.
+     * parameter. The storage is sized once and filled with a single copy.
      *
      * @param col the Collection from which to base
      */
+    @SuppressWarnings("unchecked")
     public CirArrayList(Collection<? extends E> col) {
-        // todo: collection constructor
-        this();
-        for( E thing : col)
-            add(size(), thing);
+        Object[] items = col.toArray();
+        data = (E[])new Object[capacityFor(Math.max(items.length, DEFAULT_CAPACITY))];
+        System.arraycopy(items, 0, data, 0, items.length);
+        head = 0;
+        curSize = items.length;
     }
 
     /**
@@ -54,7 +85,6 @@ public final class CirArrayList<E> extends AbstractList<E> implements
      */
     @Override
     public E get(int index) {
-        // todo: Students must code
         checkRange(index); // throws IndexOOB Exception if out of range
         return data[calculate(index)];
     }
@@ -74,6 +104,18 @@ public final class CirArrayList<E> extends AbstractList<E> implements
             throw new IndexOutOfBoundsException("Index: " + index + " is out of bounds. Size = " + size());
     }
 
+    /**
+     * Checks whether the index is a valid insertion point
+     *
+     * @param index position to check, which may equal size()
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0
+     *                                   || index > size())
+     */
+    private void checkPositionIndex(int index) {
+        if ((index < 0 || index > curSize))
+            throw new IndexOutOfBoundsException("Index: " + index + " is out of bounds. Size = " + size());
+    }
+
     /**
      * Calculates real position in array given a logical position
      *
@@ -82,36 +124,94 @@ public final class CirArrayList<E> extends AbstractList<E> implements
      *
      */
     private int calculate(int index) {
-        return (head + index) % data.length;
+        return (head + index) & (data.length - 1);
     }
 
     /**
-     * Checks the capacity and resizes if above 75% capacity threshold
-     *
-     * @return void
-     *
+     * Doubles the capacity once every slot is in use
      */
     private void ensureCapacity() {
-        if(size() >= (0.75 * data.length)) // size() == curSize
-            resize(2 * size());
+        if(curSize == data.length)
+            resize(data.length << 1);
     }
 
     /**
-     * Resizes array (2x original size)
+     * Grows, once, to fit the given number of elements
      *
-     * @return void
+     * @param minCapacity number of elements the array must hold
+     */
+    private void ensureCapacity(int minCapacity) {
+        if(minCapacity > data.length)
+            resize(capacityFor(minCapacity));
+    }
+
+    /**
+     * @return the smallest power of two no less than the requested capacity
+     */
+    private static int capacityFor(int minCapacity) {
+        int capacity = (minCapacity <= 1) ? 1 : Integer.highestOneBit(minCapacity - 1) << 1;
+        if(capacity <= 0)
+            throw new OutOfMemoryError("Required array size too large: " + minCapacity);
+        return capacity;
+    }
+
+    /**
+     * Nulls out a run of logical positions so the elements can be collected
      *
+     * @param index logical position of the first slot
+     * @param count number of slots to clear
      */
-    private void resize(int newCapacity) {
+    private void clearSlots(int index, int count) {
+        int start = calculate(index);
+        int first = Math.min(count, data.length - start);
+        Arrays.fill(data, start, start + first, null);
+        Arrays.fill(data, 0, count - first, null);
+    }
 
+    /**
+     * Copies the contents, unwrapped, to the front of a new array
+     *
+     * @param newCapacity a power of two no smaller than size()
+     */
+    private void resize(int newCapacity) {
         E[] temp = (E[]) new Object[newCapacity];
-        for(int i = 0; i < size(); i++)
-            temp[i] = data[calculate(i)];
+        int first = Math.min(curSize, data.length - head);
+        System.arraycopy(data, head, temp, 0, first);
+        System.arraycopy(data, 0, temp, first, curSize - first);
         data = temp;
         head = 0;
-        tail = size()-1;
-
+    }
 
+    /**
+     * Moves a run of elements between slots, splitting the copy wherever the
+     * source or destination wraps around the end of the array.
+     *
+     * @param src     real index of the run's first element
+     * @param dst     real index the first element moves to
+     * @param count   number of elements in the run
+     * @param forward true to copy the run front to back, which is safe when
+     *                it moves toward lower indices; false for back to front
+     */
+    private void move(int src, int dst, int count, boolean forward) {
+        int mask = data.length - 1;
+        if(forward) {
+            while(count > 0) {
+                int n = Math.min(count, Math.min(data.length - src, data.length - dst));
+                System.arraycopy(data, src, data, dst, n);
+                src = (src + n) & mask;
+                dst = (dst + n) & mask;
+                count -= n;
+            }
+        }
+        else {
+            while(count > 0) {
+                int srcLast = (src + count - 1) & mask;
+                int dstLast = (dst + count - 1) & mask;
+                int n = Math.min(count, Math.min(srcLast, dstLast) + 1);
+                System.arraycopy(data, srcLast - n + 1, data, dstLast - n + 1, n);
+                count -= n;
+            }
+        }
     }
 
     /**
@@ -126,7 +226,6 @@ public final class CirArrayList<E> extends AbstractList<E> implements
      */
     @Override
     public E set(int index, E value) {
-        // todo: Students must code
         checkRange(index);
         int pos = calculate(index);
         E oldVal = data[pos];
@@ -138,71 +237,687 @@ public final class CirArrayList<E> extends AbstractList<E> implements
      * Inserts the specified element at the specified position in this list.
      * Shifts the element currently at that position (if any) and any
      * subsequent elements to the right (adds one to their indices).
+     * <p>Whichever side of the position holds fewer elements is the side
+     * that moves, so an insert costs at most size() / 2 element moves.</p>
      *
      * @param index index at which the specified element is to be inserted
      * @param value element to be inserted
+     * @throws IndexOutOfBoundsException if index is out of the range (index < 0
+     *                                   || index > size())
      */
     @Override
     public void add(int index, E value) {
-        // todo: Students must code
+        checkPositionIndex(index);
         ensureCapacity();
-        int pos = calculate(index); // True position in array
-
-        // if there are no elements, set head to the position (index 0, position ??)
-        // *protects against divide by zero in modulus*
-        if(size() == 0) {
-            data[pos] = value;
-            head = pos;
-            tail = pos;
-            // tail = (pos+1)%data.length;
-        }
-        // if the logical position is the head, then insert right before head and reassign head-variable
-        // *tail stays the same*
-        else if(index == 0) {
-            int i = (head-1);
-            if (i < 0) i = data.length-1;
-            head = i;
-            data[head] = value;
-        }
-        else{
-            // shift all array contents after pos right 1
-            for(int i = (pos + size() - index); i > pos; i--)
-                data[i % data.length] = data[(i-1) % data.length];
-            data[pos] = value;
-            tail = (tail + 1) % data.length;
+        if(index < curSize - index) {
+            // open the gap by moving the front section one slot earlier
+            int newHead = (head - 1) & (data.length - 1);
+            move(head, newHead, index, true);
+            head = newHead;
         }
+        else {
+            move(calculate(index), calculate(index + 1), curSize - index, false);
+        }
+        data[calculate(index)] = value;
         curSize++;
+        modCount++;
     }
 
     /**
      * Removes the element at the specified position in this list.  Shifts
      * any subsequent elements to the left (subtracts one from their indices).
      * Returns the element that was removed from the list.
+     * <p>Whichever side of the position holds fewer elements is the side
+     * that moves to close the gap.</p>
      *
      * @param index index of element to remove
      * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if index is out of the range (index < 0
+     *                                   || index >= size())
      */
     @Override
     public E remove(int index) {
-        // todo: Students must code
+        checkRange(index);
         int pos = calculate(index);
-
         E temp = data[pos];
-        data[pos] = null;
-        if(pos == head)
-            head = (head+1) % data.length;
-        else if(pos == tail)
-            tail = (tail-1) % data.length;
+        if(index < curSize - 1 - index) {
+            move(head, (head + 1) & (data.length - 1), index, false);
+            data[head] = null;
+            head = (head + 1) & (data.length - 1);
+        }
+        else {
+            move(calculate(index + 1), pos, curSize - 1 - index, true);
+            data[calculate(curSize - 1)] = null;
+        }
+        curSize--;
+        modCount++;
+        return temp;
+    }
+
+    /**
+     * Removes all of the elements from this list.
+     */
+    @Override
+    public void clear() {
+        clearSlots(0, curSize);
+        head = curSize = 0;
+        modCount++;
+    }
+
+    /**
+     * Appends all of the elements in the specified collection, in the order
+     * its iterator returns them.
+     *
+     * @param col collection containing elements to be added
+     * @return true if this list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> col) {
+        return addAll(curSize, col);
+    }
+
+    /**
+     * Inserts all of the elements in the specified collection at the
+     * specified position. The shorter side of the position moves once by
+     * the whole count, and the new elements are copied in with at most two
+     * array copies.
+     *
+     * @param index index at which to insert the first element
+     * @param col collection containing elements to be added
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if index is out of the range (index < 0
+     *                                   || index > size())
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> col) {
+        checkPositionIndex(index);
+        Object[] items = col.toArray();
+        int count = items.length;
+        if(count == 0)
+            return false;
+        ensureCapacity(curSize + count);
+        if(index < curSize - index) {
+            int newHead = (head - count) & (data.length - 1);
+            move(head, newHead, index, true);
+            head = newHead;
+        }
         else {
-            // shift all array contents after pos left 1
-            for(int i = pos; i < (pos + curSize-index-1); i++)
-                data[calculate(i)] = data[calculate(i+1)];
-            tail = (tail-1) % data.length;
+            move(calculate(index), calculate(index + count), curSize - index, false);
         }
+        int start = calculate(index);
+        int first = Math.min(count, data.length - start);
+        System.arraycopy(items, 0, data, start, first);
+        System.arraycopy(items, first, data, 0, count - first);
+        curSize += count;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and
+     * toIndex, exclusive, closing the gap with a single move of the shorter
+     * side. Also serves subList(from, to).clear().
+     *
+     * @param fromIndex index of first element to be removed
+     * @param toIndex index after last element to be removed
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if(fromIndex < 0 || toIndex > curSize || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("Range: [" + fromIndex + ", " + toIndex + ") Size = " + size());
+        int count = toIndex - fromIndex;
+        if(count == 0)
+            return;
+        if(fromIndex < curSize - toIndex) {
+            move(head, calculate(count), fromIndex, false);
+            clearSlots(0, count);
+            head = calculate(count);
+        }
+        else {
+            move(calculate(toIndex), calculate(fromIndex), curSize - toIndex, true);
+            clearSlots(curSize - count, count);
+        }
+        curSize -= count;
+        modCount++;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param value element to be appended
+     * @return true, as the list is never full
+     */
+    @Override
+    public boolean add(E value) {
+        addLast(value);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the front of this list.
+     *
+     * @param value the element to add
+     */
+    @Override
+    public void addFirst(E value) {
+        ensureCapacity();
+        head = (head - 1) & (data.length - 1);
+        data[head] = value;
+        curSize++;
+        modCount++;
+    }
+
+    /**
+     * Inserts the specified element at the end of this list.
+     *
+     * @param value the element to add
+     */
+    @Override
+    public void addLast(E value) {
+        ensureCapacity();
+        data[calculate(curSize)] = value;
+        curSize++;
+        modCount++;
+    }
+
+    /**
+     * Inserts the specified element at the front of this list.
+     *
+     * @param value the element to add
+     * @return true, as the list is never full
+     */
+    @Override
+    public boolean offerFirst(E value) {
+        addFirst(value);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the end of this list.
+     *
+     * @param value the element to add
+     * @return true, as the list is never full
+     */
+    @Override
+    public boolean offerLast(E value) {
+        addLast(value);
+        return true;
+    }
+
+    /**
+     * Removes and returns the first element of this list.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public E removeFirst() {
+        if(curSize == 0)
+            throw new NoSuchElementException();
+        return pollFirst();
+    }
+
+    /**
+     * Removes and returns the last element of this list.
+     *
+     * @return the last element
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public E removeLast() {
+        if(curSize == 0)
+            throw new NoSuchElementException();
+        return pollLast();
+    }
+
+    /**
+     * Removes and returns the first element of this list.
+     *
+     * @return the first element, or null if this list is empty
+     */
+    @Override
+    public E pollFirst() {
+        if(curSize == 0)
+            return null;
+        E temp = data[head];
+        data[head] = null;
+        head = (head + 1) & (data.length - 1);
         curSize--;
+        modCount++;
         return temp;
     }
 
+    /**
+     * Removes and returns the last element of this list.
+     *
+     * @return the last element, or null if this list is empty
+     */
+    @Override
+    public E pollLast() {
+        if(curSize == 0)
+            return null;
+        int pos = calculate(--curSize);
+        E temp = data[pos];
+        data[pos] = null;
+        modCount++;
+        return temp;
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public E getFirst() {
+        if(curSize == 0)
+            throw new NoSuchElementException();
+        return data[head];
+    }
+
+    /**
+     * Returns the last element of this list.
+     *
+     * @return the last element
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public E getLast() {
+        if(curSize == 0)
+            throw new NoSuchElementException();
+        return data[calculate(curSize - 1)];
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element, or null if this list is empty
+     */
+    @Override
+    public E peekFirst() {
+        return (curSize == 0) ? null : data[head];
+    }
+
+    /**
+     * Returns the last element of this list.
+     *
+     * @return the last element, or null if this list is empty
+     */
+    @Override
+    public E peekLast() {
+        return (curSize == 0) ? null : data[calculate(curSize - 1)];
+    }
+
+    /**
+     * Removes the first occurrence of the specified element.
+     *
+     * @param o element to remove, if present
+     * @return true if an element was removed
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        int index = indexOf(o);
+        if(index < 0)
+            return false;
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Removes the last occurrence of the specified element.
+     *
+     * @param o element to remove, if present
+     * @return true if an element was removed
+     */
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        int index = lastIndexOf(o);
+        if(index < 0)
+            return false;
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the end of this list.
+     *
+     * @param value the element to add
+     * @return true, as the list is never full
+     */
+    @Override
+    public boolean offer(E value) {
+        return offerLast(value);
+    }
+
+    /**
+     * Removes and returns the first element of this list.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Removes and returns the first element of this list.
+     *
+     * @return the first element, or null if this list is empty
+     */
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element, or null if this list is empty
+     */
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Pushes an element onto the front of this list.
+     *
+     * @param value the element to push
+     */
+    @Override
+    public void push(E value) {
+        addFirst(value);
+    }
+
+    /**
+     * Pops an element from the front of this list.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Returns an iterator over the elements in proper sequence. It reads the
+     * backing array directly instead of going through get(int), and fails
+     * fast if the list is structurally modified other than through the
+     * iterator's own remove.
+     *
+     * @return an iterator from first to last
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Performs the action for each element in order, one pass over each of
+     * the array's two occupied runs.
+     *
+     * @param action the action to perform
+     * @throws ConcurrentModificationException if the action structurally
+     *                                         modifies the list
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        E[] items = data;
+        int first = Math.min(curSize, items.length - head);
+        int second = curSize - first;
+        for(int i = head; i < head + first && modCount == expectedModCount; i++)
+            action.accept(items[i]);
+        for(int i = 0; i < second && modCount == expectedModCount; i++)
+            action.accept(items[i]);
+        if(modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Creates an ORDERED, SIZED and SUBSIZED spliterator that splits the
+     * index range in half, so parallel streams divide the work evenly. It
+     * binds to the list when created and fails fast if the list is
+     * structurally modified before traversal completes.
+     *
+     * @return a spliterator over the elements
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new Splitr(0, curSize, modCount);
+    }
+
+    /**
+     * Removes every element matching the filter with one compacting pass.
+     * The filter sees every element before anything moves, so an exception
+     * from it leaves the list unchanged.
+     *
+     * @param filter returns true for elements to remove
+     * @return true if any elements were removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        BitSet doomed = null;
+        for(int i = 0; i < curSize; i++) {
+            if(filter.test(data[calculate(i)])) {
+                if(doomed == null)
+                    doomed = new BitSet(curSize);
+                doomed.set(i);
+            }
+        }
+        if(modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+        if(doomed == null)
+            return false;
+
+        int kept = 0;
+        for(int i = 0; i < curSize; i++) {
+            if(!doomed.get(i))
+                data[calculate(kept++)] = data[calculate(i)];
+        }
+        clearSlots(kept, curSize - kept);
+        curSize = kept;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Replaces each element with the result of applying the operator to it,
+     * one pass over each of the array's two occupied runs.
+     *
+     * @param operator the function to apply to each element
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        int expectedModCount = modCount;
+        int first = Math.min(curSize, data.length - head);
+        int second = curSize - first;
+        for(int i = head; i < head + first && modCount == expectedModCount; i++)
+            data[i] = operator.apply(data[i]);
+        for(int i = 0; i < second && modCount == expectedModCount; i++)
+            data[i] = operator.apply(data[i]);
+        if(modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+        modCount++;
+    }
+
+    private final class Itr implements Iterator<E> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return (cursor < curSize);
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            int i = cursor;
+            if(i >= curSize)
+                throw new NoSuchElementException();
+            E[] items = data;
+            cursor = i + 1;
+            return items[(head + (lastReturned = i)) & (items.length - 1)];
+        }
+
+        @Override
+        public void remove() {
+            if(lastReturned < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            CirArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int mask = data.length - 1;
+            int i = cursor;
+            for(; i < curSize && modCount == expectedModCount; i++)
+                action.accept(data[(head + i) & mask]);
+            cursor = i;
+            lastReturned = i - 1;
+            checkForComodification();
+        }
+
+        private void checkForComodification() {
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Walks the ring from the tail back to the head, failing fast like Itr.
+     */
+    private final class DescendingItr implements Iterator<E> {
+        private int cursor = curSize - 1;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return (cursor >= 0);
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            int i = cursor;
+            if(i < 0)
+                throw new NoSuchElementException();
+            E[] items = data;
+            cursor = i - 1;
+            return items[(head + (lastReturned = i)) & (items.length - 1)];
+        }
+
+        @Override
+        public void remove() {
+            if(lastReturned < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            CirArrayList.this.remove(lastReturned);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Covers the logical positions [index, fence).
+     */
+    private final class Splitr implements Spliterator<E> {
+        private int index;
+        private final int fence;
+        private final int expectedModCount;
+
+        Splitr(int index, int fence, int expectedModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int mid = (index + fence) >>> 1;
+            return (index >= mid) ? null : new Splitr(index, index = mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            if(index >= fence)
+                return false;
+            E value = data[calculate(index++)];
+            action.accept(value);
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            E[] items = data;
+            int start = calculate(index);
+            int count = fence - index;
+            int first = Math.min(count, items.length - start);
+            index = fence;
+            for(int i = start; i < start + first; i++)
+                action.accept(items[i]);
+            for(int i = 0; i < count - first; i++)
+                action.accept(items[i]);
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements from last to first.
+     *
+     * @return an iterator in reverse sequential order
+     */
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new DescendingItr();
+    }
+
     /**
      * Reports the number of items in the List.
      *
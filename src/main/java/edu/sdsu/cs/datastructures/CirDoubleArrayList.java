@@ -0,0 +1,406 @@
+package edu.sdsu.cs.datastructures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+/**
+ * A circular array list of double values, stored unboxed.
+ * <p>Behaves like a CirArrayList&lt;Double&gt;: constant time insertion and
+ * removal at both ends, inserts and removals elsewhere shifting whichever
+ * side is shorter, and a power of two capacity indexed with a mask. Each
+ * element takes 8 bytes in one contiguous array instead of a reference to a
+ * separate Double object, and streams run over plain array slices.
+ * </p>
+ */
+public final class CirDoubleArrayList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Storage whose length is always a power of two.
+     */
+    private double[] data;
+
+    private int curSize;
+
+    private int head;
+
+    /**
+     * Builds a new, empty list.
+     */
+    public CirDoubleArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Builds a new, empty list with room for the given number of elements
+     * before it needs to grow.
+     *
+     * @param initialCapacity number of elements to make room for
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public CirDoubleArrayList(int initialCapacity) {
+        if(initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        data = new double[capacityFor(Math.max(initialCapacity, 1))];
+    }
+
+    /**
+     * Constructs a new list holding a copy of the array's elements.
+     *
+     * @param values the elements, in order
+     */
+    public CirDoubleArrayList(double[] values) {
+        this(values.length);
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index (0 based) of the element to return.
+     * @return element at the specified position in the list.
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0
+     *                                   || index >= size())
+     */
+    public double get(int index) {
+        checkRange(index);
+        return data[calculate(index)];
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the
+     * specified element.
+     *
+     * @param index index of the element to replace
+     * @param value element to be stored at the specified position
+     * @return element previously at the specified position
+     * @throws IndexOutOfBoundsException if index is out of the range (index < 0
+     *                                   || index >= size())
+     */
+    public double set(int index, double value) {
+        checkRange(index);
+        int pos = calculate(index);
+        double oldVal = data[pos];
+        data[pos] = value;
+        return oldVal;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param value element to be appended
+     */
+    public void add(double value) {
+        addLast(value);
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list,
+     * moving whichever side of the position holds fewer elements.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param value element to be inserted
+     * @throws IndexOutOfBoundsException if index is out of the range (index < 0
+     *                                   || index > size())
+     */
+    public void add(int index, double value) {
+        checkPositionIndex(index);
+        ensureCapacity(curSize + 1);
+        if(index < curSize - index) {
+            int newHead = (head - 1) & (data.length - 1);
+            move(head, newHead, index, true);
+            head = newHead;
+        }
+        else {
+            move(calculate(index), calculate(index + 1), curSize - index, false);
+        }
+        data[calculate(index)] = value;
+        curSize++;
+    }
+
+    /**
+     * Removes the element at the specified position in this list, moving
+     * whichever side of the position holds fewer elements.
+     *
+     * @param index index of element to remove
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if index is out of the range (index < 0
+     *                                   || index >= size())
+     */
+    public double remove(int index) {
+        checkRange(index);
+        int pos = calculate(index);
+        double temp = data[pos];
+        if(index < curSize - 1 - index) {
+            move(head, (head + 1) & (data.length - 1), index, false);
+            head = (head + 1) & (data.length - 1);
+        }
+        else {
+            move(calculate(index + 1), pos, curSize - 1 - index, true);
+        }
+        curSize--;
+        return temp;
+    }
+
+    /**
+     * Inserts the specified element at the front of this list.
+     *
+     * @param value the element to add
+     */
+    public void addFirst(double value) {
+        ensureCapacity(curSize + 1);
+        head = (head - 1) & (data.length - 1);
+        data[head] = value;
+        curSize++;
+    }
+
+    /**
+     * Inserts the specified element at the end of this list.
+     *
+     * @param value the element to add
+     */
+    public void addLast(double value) {
+        ensureCapacity(curSize + 1);
+        data[calculate(curSize)] = value;
+        curSize++;
+    }
+
+    /**
+     * Removes and returns the first element of this list.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if this list is empty
+     */
+    public double removeFirst() {
+        if(curSize == 0)
+            throw new NoSuchElementException();
+        double temp = data[head];
+        head = (head + 1) & (data.length - 1);
+        curSize--;
+        return temp;
+    }
+
+    /**
+     * Removes and returns the last element of this list.
+     *
+     * @return the last element
+     * @throws NoSuchElementException if this list is empty
+     */
+    public double removeLast() {
+        if(curSize == 0)
+            throw new NoSuchElementException();
+        return data[calculate(--curSize)];
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if this list is empty
+     */
+    public double getFirst() {
+        if(curSize == 0)
+            throw new NoSuchElementException();
+        return data[head];
+    }
+
+    /**
+     * Returns the last element of this list.
+     *
+     * @return the last element
+     * @throws NoSuchElementException if this list is empty
+     */
+    public double getLast() {
+        if(curSize == 0)
+            throw new NoSuchElementException();
+        return data[calculate(curSize - 1)];
+    }
+
+    /**
+     * Appends a run of an array's elements with at most two array copies.
+     *
+     * @param values source array
+     * @param offset position of the first element to append
+     * @param length number of elements to append
+     * @throws IndexOutOfBoundsException if the run lies outside the array
+     */
+    public void addAll(double[] values, int offset, int length) {
+        if(offset < 0 || length < 0 || offset > values.length - length)
+            throw new IndexOutOfBoundsException("Range: [" + offset + ", " + (offset + length)
+                    + ") Length = " + values.length);
+        ensureCapacity(curSize + length);
+        int start = calculate(curSize);
+        int first = Math.min(length, data.length - start);
+        System.arraycopy(values, offset, data, start, first);
+        System.arraycopy(values, offset + first, data, 0, length - first);
+        curSize += length;
+    }
+
+    /**
+     * Copies a run of this list's elements into an array with at most two
+     * array copies.
+     *
+     * @param index   position of the first element to copy
+     * @param dest    destination array
+     * @param destPos position in the destination for the first element
+     * @param length  number of elements to copy
+     * @throws IndexOutOfBoundsException if the run lies outside the list or
+     *                                   the destination
+     */
+    public void copyTo(int index, double[] dest, int destPos, int length) {
+        if(index < 0 || length < 0 || index > curSize - length)
+            throw new IndexOutOfBoundsException("Range: [" + index + ", " + (index + length)
+                    + ") Size = " + size());
+        int start = calculate(index);
+        int first = Math.min(length, data.length - start);
+        System.arraycopy(data, start, dest, destPos, first);
+        System.arraycopy(data, 0, dest, destPos + first, length - first);
+    }
+
+    /**
+     * Returns a new array holding every element in order.
+     *
+     * @return the elements, first to last
+     */
+    public double[] toArray() {
+        double[] res = new double[curSize];
+        copyTo(0, res, 0, curSize);
+        return res;
+    }
+
+    /**
+     * Returns an iterator over the elements that does not box them.
+     *
+     * @return an iterator from first to last
+     */
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return (cursor < curSize);
+            }
+
+            @Override
+            public double nextDouble() {
+                if(cursor >= curSize)
+                    throw new NoSuchElementException();
+                return data[calculate(cursor++)];
+            }
+        };
+    }
+
+    /**
+     * Performs the action for each element in order.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(DoubleConsumer action) {
+        int first = Math.min(curSize, data.length - head);
+        for(int i = head; i < head + first; i++)
+            action.accept(data[i]);
+        for(int i = 0; i < curSize - first; i++)
+            action.accept(data[i]);
+    }
+
+    /**
+     * Returns a sequential stream over the elements. It runs directly over
+     * the one or two array slices holding them, so it splits evenly for
+     * parallel use.
+     *
+     * @return a stream from first to last
+     */
+    public DoubleStream stream() {
+        int first = Math.min(curSize, data.length - head);
+        if(first == curSize)
+            return Arrays.stream(data, head, head + curSize);
+        return DoubleStream.concat(Arrays.stream(data, head, head + first),
+                Arrays.stream(data, 0, curSize - first));
+    }
+
+    /**
+     * Reports the number of items in the list.
+     *
+     * @return the item count.
+     */
+    public int size() {
+        return curSize;
+    }
+
+    /**
+     * Indicates if the list contains nothing.
+     *
+     * @return true if there are no elements
+     */
+    public boolean isEmpty() {
+        return (curSize == 0);
+    }
+
+    /**
+     * Removes all of the elements from this list.
+     */
+    public void clear() {
+        head = curSize = 0;
+    }
+
+    private void checkRange(int index) {
+        if ((index < 0 || index >= curSize))
+            throw new IndexOutOfBoundsException("Index: " + index + " is out of bounds. Size = " + size());
+    }
+
+    private void checkPositionIndex(int index) {
+        if ((index < 0 || index > curSize))
+            throw new IndexOutOfBoundsException("Index: " + index + " is out of bounds. Size = " + size());
+    }
+
+    private int calculate(int index) {
+        return (head + index) & (data.length - 1);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if(minCapacity > data.length) {
+            double[] temp = new double[capacityFor(minCapacity)];
+            copyTo(0, temp, 0, curSize);
+            data = temp;
+            head = 0;
+        }
+    }
+
+    private static int capacityFor(int minCapacity) {
+        int capacity = (minCapacity <= 1) ? 1 : Integer.highestOneBit(minCapacity - 1) << 1;
+        if(capacity <= 0)
+            throw new OutOfMemoryError("Required array size too large: " + minCapacity);
+        return capacity;
+    }
+
+    /**
+     * Moves a run of elements between slots, splitting the copy wherever the
+     * source or destination wraps; see CirArrayList.
+     */
+    private void move(int src, int dst, int count, boolean forward) {
+        int mask = data.length - 1;
+        if(forward) {
+            while(count > 0) {
+                int n = Math.min(count, Math.min(data.length - src, data.length - dst));
+                System.arraycopy(data, src, data, dst, n);
+                src = (src + n) & mask;
+                dst = (dst + n) & mask;
+                count -= n;
+            }
+        }
+        else {
+            while(count > 0) {
+                int srcLast = (src + count - 1) & mask;
+                int dstLast = (dst + count - 1) & mask;
+                int n = Math.min(count, Math.min(srcLast, dstLast) + 1);
+                System.arraycopy(data, srcLast - n + 1, data, dstLast - n + 1, n);
+                count -= n;
+            }
+        }
+    }
+}
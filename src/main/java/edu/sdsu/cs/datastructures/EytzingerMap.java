@@ -0,0 +1,291 @@
+package edu.sdsu.cs.datastructures;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable ordered map stored as a sorted array in Eytzinger (breadth
+ * first) order.
+ * <p>Slot 1 holds the median key and the children of slot i sit at 2i and
+ * 2i + 1, so a search reads the array front to back, and the first several
+ * levels share a handful of cache lines. Each step picks the next slot with
+ * arithmetic on the comparison's sign bit instead of a branch, which keeps
+ * the loop free of mispredictions and lets the processor run ahead to the
+ * next level. Iteration moves between slots by index arithmetic, so an
+ * iterator is the only allocation.
+ * </p>
+ * <p>Build one with {@link BinarySearchTree#freeze()} or {@link #of(MapADT)}
+ * once a map is no longer updated. The update operations throw
+ * UnsupportedOperationException.
+ * </p>
+ *
+ * @param <K> key type, compared with its natural ordering
+ * @param <V> value type
+ */
+public final class EytzingerMap<K extends Comparable<K>, V> implements OrderedMapADT<K, V> {
+
+    /**
+     * Slot 0 is unused so that the children of slot i are 2i and 2i + 1.
+     */
+    private final Object[] keys;
+    private final Object[] values;
+    private final int size;
+
+    private EytzingerMap(Object[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+        this.size = keys.length - 1;
+    }
+
+    /**
+     * Copies a map whose keys iterate in ascending order, such as any
+     * OrderedMapADT, into a new immutable map.
+     * @param source map to copy
+     * @return an immutable map with the same entries
+     * @throws IllegalArgumentException if the source's keys are not strictly
+     * ascending
+     */
+    public static <K extends Comparable<K>, V> EytzingerMap<K, V> of(MapADT<K, V> source) {
+        return of(source.keys(), source.values());
+    }
+
+    /**
+     * Builds an immutable map from sorted key and value iterators.
+     * @param keys keys in strictly ascending order
+     * @param values values corresponding to the keys, in the same order
+     * @return an immutable map holding every key/value pair
+     * @throws IllegalArgumentException if the keys are not strictly
+     * ascending or the iterators differ in length
+     */
+    public static <K extends Comparable<K>, V> EytzingerMap<K, V> of(Iterator<K> keys, Iterator<V> values) {
+        List<K> keyList = new ArrayList<>();
+        List<V> valueList = new ArrayList<>();
+        while(keys.hasNext() && values.hasNext()) {
+            K key = Objects.requireNonNull(keys.next(), "Null keys are not allowed");
+            if(!keyList.isEmpty() && keyList.get(keyList.size() - 1).compareTo(key) >= 0)
+                throw new IllegalArgumentException("Keys are not strictly ascending: "
+                        + keyList.get(keyList.size() - 1) + ", " + key);
+            keyList.add(key);
+            valueList.add(values.next());
+        }
+        if(keys.hasNext() || values.hasNext())
+            throw new IllegalArgumentException("Key and value counts differ");
+
+        Object[] keyArray = new Object[keyList.size() + 1];
+        Object[] valueArray = new Object[keyList.size() + 1];
+        int next = 0;
+        // an in-order walk of the implicit tree visits the slots in key order
+        for(int slot = first(1, keyList.size()); slot != 0; slot = successor(slot, keyList.size())) {
+            keyArray[slot] = keyList.get(next);
+            valueArray[slot] = valueList.get(next++);
+        }
+        return new EytzingerMap<>(keyArray, valueArray);
+    }
+
+    /**
+     * Returns true if the map has an object for the corresponding key.
+     * @param key object to search for
+     * @return true if within map, false otherwise
+     */
+    public boolean contains(K key) {
+        return (find(key) != 0);
+    }
+
+    /**
+     * Not supported; the map is immutable.
+     * @throws UnsupportedOperationException always
+     */
+    public V add(K key, V value) {
+        throw new UnsupportedOperationException("EytzingerMap is immutable");
+    }
+
+    /**
+     * Not supported; the map is immutable.
+     * @throws UnsupportedOperationException always
+     */
+    public boolean delete(K key) {
+        throw new UnsupportedOperationException("EytzingerMap is immutable");
+    }
+
+    /**
+     * Returns the value associated with the parameter key.
+     * @param key key to lookup in the map
+     * @return Value associated with key or null if not found
+     */
+    public V getValue(K key) {
+        return value(find(key));
+    }
+
+    /**
+     * Returns the first key found with the parameter value.
+     * @param value value to locate
+     * @return key of first item found with the matching value
+     */
+    public K getKey(V value) {
+        for(int slot = first(1, size); slot != 0; slot = successor(slot, size)) {
+            if(value.equals(values[slot]))
+                return key(slot);
+        }
+        return null;
+    }
+
+    /**
+     * Identifies the size of the map.
+     * @return Number of entries stored in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates if the map contains nothing.
+     * @return true if the map is empty, as the method cryptically indicates.
+     */
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Not supported; the map is immutable.
+     * @throws UnsupportedOperationException always
+     */
+    public void clear() {
+        throw new UnsupportedOperationException("EytzingerMap is immutable");
+    }
+
+    /**
+     * Provides a key iterator.
+     * @return Iterator over the keys, sorted
+     */
+    public Iterator<K> keys() {
+        return new SlotIterator<K>(first(1, size), null) {
+            @Override
+            K current(int slot) {
+                return key(slot);
+            }
+        };
+    }
+
+    /**
+     * Provides a key iterator over a range of keys.
+     * @param fromKey lowest key to include (inclusive)
+     * @param toKey highest key to stop at (exclusive)
+     * @return Iterator over the keys k, fromKey &lt;= k &lt; toKey, sorted
+     */
+    public Iterator<K> keys(K fromKey, K toKey) {
+        checkKey(toKey);
+        return new SlotIterator<K>(lowerBound(fromKey), toKey) {
+            @Override
+            K current(int slot) {
+                return key(slot);
+            }
+        };
+    }
+
+    /**
+     * Provides a value iterator. The values arrive corresponding to their
+     * keys in the key order.
+     * @return Iterator over the values.
+     */
+    public Iterator<V> values() {
+        return new SlotIterator<V>(first(1, size), null) {
+            @Override
+            V current(int slot) {
+                return value(slot);
+            }
+        };
+    }
+
+    private abstract class SlotIterator<T> implements Iterator<T> {
+        private final K toKey;
+        private int slot;
+
+        SlotIterator(int slot, K toKey) {
+            this.slot = slot;
+            this.toKey = toKey;
+        }
+
+        abstract T current(int slot);
+
+        @Override
+        public boolean hasNext() {
+            return (slot != 0 && (toKey == null || key(slot).compareTo(toKey) < 0));
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext())
+                throw new NoSuchElementException();
+            T res = current(slot);
+            slot = successor(slot, size);
+            return res;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * @return the slot holding exactly this key, or 0 if absent
+     */
+    private int find(K key) {
+        int slot = lowerBound(key);
+        return (slot != 0 && key.compareTo(key(slot)) == 0) ? slot : 0;
+    }
+
+    /**
+     * Descends without branching on the comparison: the sign bit of
+     * compareTo selects the right child when the slot's key is smaller.
+     * The slots turned right at are encoded in the trailing one bits of the
+     * final index; shifting them off leaves the last left turn, which is
+     * the first key not less than the search key.
+     * @return the slot of the smallest key &gt;= key, or 0 if there is none
+     */
+    private int lowerBound(K key) {
+        checkKey(key);
+        int slot = 1;
+        while(slot <= size)
+            slot = (slot << 1) | (key(slot).compareTo(key) >>> 31);
+        return slot >>> (Integer.numberOfTrailingZeros(~slot) + 1);
+    }
+
+    /**
+     * @return the leftmost slot of the subtree rooted at slot, or 0 if empty
+     */
+    private static int first(int slot, int size) {
+        if(slot > size)
+            return 0;
+        while((slot << 1) <= size)
+            slot <<= 1;
+        return slot;
+    }
+
+    /**
+     * @return the slot holding the next larger key, or 0 after the largest
+     */
+    private static int successor(int slot, int size) {
+        if((slot << 1 | 1) <= size)
+            return first(slot << 1 | 1, size);
+        // climb while coming up from a right child, then once more
+        return slot >>> (Integer.numberOfTrailingZeros(~slot) + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private K key(int slot) {
+        return (K) keys[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int slot) {
+        return (V) values[slot];
+    }
+
+    private void checkKey(K key) {
+        assert key != null : "Null keys are not allowed";
+    }
+}
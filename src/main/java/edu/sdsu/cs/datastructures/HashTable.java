@@ -1,6 +1,8 @@
 package edu.sdsu.cs.datastructures;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.math.*;
 
 /**
@@ -35,6 +37,17 @@ public class HashTable<K extends Comparable<K>, V> implements MapADT<K, V> {
         }
     }
 
+    /**
+     * Compiles the current entries into an immutable map with a minimal
+     * perfect hash, for tables that are filled once and then only read.
+     * Later changes to this table do not affect the copy.
+     * @return an immutable map with the same entries
+     * @throws IllegalStateException if no perfect hash function was found
+     */
+    public PerfectHashMap<K, V> compile() {
+        return PerfectHashMap.compile(this);
+    }
+
     /**
      * Returns the first key found with the parameter value.
      * @param value value to locate
@@ -261,8 +274,88 @@ public class HashTable<K extends Comparable<K>, V> implements MapADT<K, V> {
         return it;
     }
 
+    /**
+     * Provides a key spliterator which splits on ranges of buckets.
+     * @return Spliterator over the keys
+     */
+    @Override
+    public Spliterator<K> keySpliterator() {
+        return new BucketSpliterator<>(buckets, 0, buckets.length, size, entry -> entry.key);
+    }
+
+    /**
+     * Provides a key/value pair spliterator which splits on ranges of
+     * buckets.
+     * @return Spliterator over immutable key/value pairs
+     */
+    @Override
+    public Spliterator<Map.Entry<K, V>> entrySpliterator() {
+        return new BucketSpliterator<>(buckets, 0, buckets.length, size,
+                entry -> new AbstractMap.SimpleImmutableEntry<>(entry.key, entry.value));
+    }
+
+    /**
+     * Walks the buckets in [index, fence). Splitting hands the upper half of
+     * the remaining buckets to a new spliterator; only the unsplit original
+     * knows its exact size.
+     */
+    private final class BucketSpliterator<T> implements Spliterator<T> {
+        private final List<Entry<K, V>>[] table;
+        private final Function<Entry<K, V>, T> mapper;
+        private int index;
+        private int fence;
+        private long estimate;
+        private boolean sized;
+        private Iterator<Entry<K, V>> current;
+
+        private BucketSpliterator(List<Entry<K, V>>[] table, int index, int fence, long estimate,
+                                  Function<Entry<K, V>, T> mapper) {
+            this.table = table;
+            this.index = index;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.mapper = mapper;
+            sized = (index == 0 && fence == table.length);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while(current == null || !current.hasNext()) {
+                if(index >= fence)
+                    return false;
+                current = table[index++].iterator();
+            }
+            if(estimate > 0)
+                estimate--;
+            action.accept(mapper.apply(current.next()));
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if(mid <= index)
+                return null;
+            BucketSpliterator<T> upper = new BucketSpliterator<>(table, mid, fence, estimate >>> 1, mapper);
+            fence = mid;
+            estimate -= upper.estimate;
+            sized = false;
+            return upper;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.DISTINCT | Spliterator.NONNULL | (sized ? Spliterator.SIZED : 0);
+        }
+    }
+
     private int findIndex(K key) {
-        return key.hashCode() % buckets.length;
+        return Math.floorMod(key.hashCode(), buckets.length);
     }
     private void checkKey(K key) {
         assert key != null : "Null keys are not allowed";
@@ -1,6 +1,13 @@
 package edu.sdsu.cs.datastructures;
 
+import java.util.AbstractMap;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public interface MapADT<K extends Comparable<K>, V> {
     /**
      * Returns true if the map has an object for the corresponding key.
@@ -57,4 +64,59 @@ public interface MapADT<K extends Comparable<K>, V> {
      * @return Iterator over the values.
      */
     Iterator<V> values();
+    /**
+     * Provides a key spliterator. Implementations which can divide their
+     * storage override this to split it for parallel streams; by default
+     * the key iterator is split in batches.
+     * @return Spliterator over the keys
+     */
+    default Spliterator<K> keySpliterator() {
+        return Spliterators.spliterator(keys(), size(), Spliterator.DISTINCT);
+    }
+    /**
+     * Provides a key/value pair spliterator. Implementations which can divide
+     * their storage override this to split it for parallel streams; by
+     * default the key and value iterators are walked together and split in
+     * batches.
+     * @return Spliterator over immutable key/value pairs
+     */
+    default Spliterator<Map.Entry<K, V>> entrySpliterator() {
+        return Spliterators.spliterator(entries(keys(), values()), size(),
+                Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+    /**
+     * Provides a sequential stream of the keys; call parallel() on it to
+     * spread the work across the common ForkJoinPool.
+     * @return Stream over the keys
+     */
+    default Stream<K> keyStream() {
+        return StreamSupport.stream(keySpliterator(), false);
+    }
+    /**
+     * Provides a sequential stream of the key/value pairs; call parallel()
+     * on it to spread the work across the common ForkJoinPool.
+     * @return Stream over immutable key/value pairs
+     */
+    default Stream<Map.Entry<K, V>> entryStream() {
+        return StreamSupport.stream(entrySpliterator(), false);
+    }
+    /**
+     * Pairs a key iterator with the matching value iterator.
+     * @param keys iterator over a map's keys
+     * @param values iterator over the same map's values, in key order
+     * @return Iterator over immutable key/value pairs
+     */
+    static <K, V> Iterator<Map.Entry<K, V>> entries(Iterator<K> keys, Iterator<V> values) {
+        return new Iterator<Map.Entry<K, V>>() {
+            @Override
+            public boolean hasNext() {
+                return keys.hasNext();
+            }
+
+            @Override
+            public Map.Entry<K, V> next() {
+                return new AbstractMap.SimpleImmutableEntry<>(keys.next(), values.next());
+            }
+        };
+    }
 }
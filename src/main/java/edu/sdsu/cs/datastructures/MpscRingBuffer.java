@@ -0,0 +1,82 @@
+package edu.sdsu.cs.datastructures;
+
+/**
+ * A bounded, lock-free ring buffer for any number of producer threads and
+ * one consumer thread.
+ * <p>A producer claims a slot by advancing tail with a compare-and-set and
+ * then stores its element there; the consumer waits out the short gap
+ * between a claim and its store. A batch claims all of its slots with one
+ * compare-and-set, so it stays contiguous and costs the producers a single
+ * round of contention. Nothing is allocated.
+ * </p>
+ *
+ * @param <E> element type
+ */
+public final class MpscRingBuffer<E> extends AbstractRingBuffer<E> {
+
+    /**
+     * Builds an empty buffer.
+     *
+     * @param capacity most elements held at once, rounded up to a power of
+     *                 two
+     * @throws IllegalArgumentException if the capacity is less than one
+     */
+    public MpscRingBuffer(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Inserts the element if there is room, without waiting. Safe to call
+     * from any number of threads.
+     *
+     * @param e the element to add
+     * @return true if added, false if the buffer was full
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public boolean offer(E e) {
+        checkElement(e);
+        long t;
+        do {
+            t = tail;
+            if(t - headCache > mask && t - (headCache = head) > mask)
+                return false;
+        } while(!TAIL.compareAndSet(this, t, t + 1));
+        buffer.lazySet((int) t & mask, e);
+        return true;
+    }
+
+    /**
+     * Inserts as many elements from a run of the array as there is room for,
+     * claiming their slots together. Safe to call from any number of
+     * threads; a batch is never interleaved with another producer's
+     * elements.
+     *
+     * @param items  source array
+     * @param offset position of the first element to add
+     * @param length number of elements to try to add
+     * @return number of elements added, from the front of the run
+     * @throws NullPointerException      if any element is null
+     * @throws IndexOutOfBoundsException if the run lies outside the array
+     */
+    @Override
+    public int offerBatch(E[] items, int offset, int length) {
+        checkRun(items, offset, length);
+        for(int i = offset; i < offset + length; i++)
+            checkElement(items[i]);
+        long t;
+        int count;
+        do {
+            t = tail;
+            long free = capacity() - (t - headCache);
+            if(free < length)
+                free = capacity() - (t - (headCache = head));
+            count = (int) Math.min(free, length);
+            if(count <= 0)
+                return 0;
+        } while(!TAIL.compareAndSet(this, t, t + count));
+        for(int i = 0; i < count; i++)
+            buffer.lazySet((int) (t + i) & mask, items[offset + i]);
+        return count;
+    }
+}
@@ -0,0 +1,46 @@
+package edu.sdsu.cs.datastructures;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * A map whose keys are kept in ascending order.
+ * <p>In addition to the MapADT operations, ordered maps iterate their keys
+ * and values in ascending key order and support range scans over a
+ * contiguous slice of the key space.</p>
+ *
+ * @param <K> key type, compared with its natural ordering
+ * @param <V> value type
+ */
+public interface OrderedMapADT<K extends Comparable<K>, V> extends MapADT<K, V> {
+    /**
+     * Provides a key iterator over a range of keys.
+     * @param fromKey lowest key to include (inclusive)
+     * @param toKey highest key to stop at (exclusive)
+     * @return Iterator over the keys k, fromKey &lt;= k &lt; toKey, sorted
+     */
+    Iterator<K> keys(K fromKey, K toKey);
+
+    /**
+     * Provides a key spliterator reporting the keys' ascending order.
+     * @return Spliterator over the keys, sorted
+     */
+    @Override
+    default Spliterator<K> keySpliterator() {
+        return Spliterators.spliterator(keys(), size(), Spliterator.ORDERED
+                | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    /**
+     * Provides a key/value pair spliterator reporting the pairs' ascending
+     * key order.
+     * @return Spliterator over immutable key/value pairs, sorted by key
+     */
+    @Override
+    default Spliterator<Map.Entry<K, V>> entrySpliterator() {
+        return Spliterators.spliterator(MapADT.entries(keys(), values()), size(),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+}
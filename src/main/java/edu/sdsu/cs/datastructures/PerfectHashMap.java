@@ -0,0 +1,506 @@
+package edu.sdsu.cs.datastructures;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable map over a fixed key set, addressed through a minimal
+ * perfect hash function.
+ * <p>The function is built with the compress, hash and displace (CHD)
+ * method: keys are first hashed into small buckets, then each bucket,
+ * largest first, is given the smallest displacement that sends all of its
+ * keys to still empty slots. The n keys fill exactly n slots, so the key
+ * and value arrays have no gaps, and the only metadata is one int
+ * displacement per bucket of about five keys, between six and seven bits
+ * per key. A lookup reads one displacement and probes exactly one slot.
+ * </p>
+ * <p>Every hash is derived from the keys' hashCode, so keys sharing a
+ * hashCode cannot be separated. They share one slot instead and are told
+ * apart by comparing each of them, which is rare with well spread hash
+ * codes. A compiled map can be saved and loaded again without rebuilding.
+ * </p>
+ * <p>Because the saved displacements are tied to the hash codes seen at
+ * compile time, a map can only be loaded in another JVM if its keys have a
+ * hashCode computed from their value, such as String or Integer. Keys
+ * hashed by identity, enums among them, hash differently on every run.
+ * </p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class PerfectHashMap<K extends Comparable<K>, V> implements MapADT<K, V>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Average number of keys per bucket.
+     */
+    private static final int BUCKET_SIZE = 5;
+
+    /**
+     * Global seeds tried before giving up on a key set.
+     */
+    private static final int MAX_ATTEMPTS = 32;
+
+    /**
+     * Displacements tried for one bucket before starting over with a new
+     * global seed: at most this many, covering at most MAX_STRIDES values
+     * of d0.
+     */
+    private static final int MAX_DISPLACEMENT = 1 << 24;
+    private static final int MAX_STRIDES = 256;
+
+    private static final int FIRST_SEED = 0x5BD1E995;
+    private static final int STRIDE_SEED = 0x1B873593;
+
+    private final int seed;
+    private final int[] displacements;
+    /**
+     * One entry per distinct hashCode: the key, or a Shared group.
+     */
+    private final Object[] keys;
+    private final Object[] values;
+    private final int size;
+
+    /**
+     * The keys and values of a slot whose keys share a hashCode.
+     */
+    private static final class Shared implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] keys;
+        private final Object[] values;
+
+        private Shared(int count) {
+            keys = new Object[count];
+            values = new Object[count];
+        }
+    }
+
+    private PerfectHashMap(int seed, int[] displacements, Object[] keys, Object[] values, int size) {
+        this.seed = seed;
+        this.displacements = displacements;
+        this.keys = keys;
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Compiles the current contents of a map, typically a finished
+     * HashTable, into a new immutable map.
+     * @param source map to copy
+     * @return an immutable map with the same entries
+     * @throws IllegalStateException if no perfect hash function was found
+     */
+    public static <K extends Comparable<K>, V> PerfectHashMap<K, V> compile(MapADT<K, V> source) {
+        int count = source.size();
+        Object[] keyArray = new Object[count];
+        Object[] valueArray = new Object[count];
+        // hash in the high half, position in the low half: sorting groups
+        // the keys which share a hashCode
+        long[] byHash = new long[count];
+        Iterator<K> keyIt = source.keys();
+        Iterator<V> valueIt = source.values();
+        for(int i = 0; i < count; i++) {
+            keyArray[i] = keyIt.next();
+            valueArray[i] = valueIt.next();
+            byHash[i] = ((long) keyArray[i].hashCode() << 32) | i;
+        }
+        Arrays.sort(byHash);
+
+        int[] groupStart = new int[count + 1];
+        int groups = 0;
+        for(int i = 0; i < count; i++) {
+            if(i == 0 || (byHash[i] >>> 32) != (byHash[i - 1] >>> 32))
+                groupStart[groups++] = i;
+        }
+        groupStart[groups] = count;
+        int[] hashes = new int[groups];
+        for(int g = 0; g < groups; g++)
+            hashes[g] = (int) (byHash[groupStart[g]] >>> 32);
+
+        for(int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int[] displacements = new int[bucketCount(groups)];
+            int[] slots = place(hashes, attempt, displacements);
+            if(slots == null)
+                continue;
+            Object[] slotKeys = new Object[groups];
+            Object[] slotValues = new Object[groups];
+            for(int g = 0; g < groups; g++) {
+                int from = groupStart[g];
+                int to = groupStart[g + 1];
+                if(to - from == 1) {
+                    slotKeys[slots[g]] = keyArray[(int) byHash[from]];
+                    slotValues[slots[g]] = valueArray[(int) byHash[from]];
+                }
+                else {
+                    Shared shared = new Shared(to - from);
+                    for(int i = from; i < to; i++) {
+                        shared.keys[i - from] = keyArray[(int) byHash[i]];
+                        shared.values[i - from] = valueArray[(int) byHash[i]];
+                    }
+                    slotKeys[slots[g]] = shared;
+                }
+            }
+            return new PerfectHashMap<>(attempt, displacements, slotKeys, slotValues, count);
+        }
+        throw new IllegalStateException("No perfect hash function found for " + count + " keys");
+    }
+
+    private static int bucketCount(int slots) {
+        return Math.max(1, (slots + BUCKET_SIZE - 1) / BUCKET_SIZE);
+    }
+
+    /**
+     * Finds a displacement for every bucket.
+     * @return the slot assigned to each key, or null if some bucket could
+     * not be placed with this seed
+     */
+    private static int[] place(int[] hashes, int seed, int[] displacements) {
+        int count = hashes.length;
+        List<List<Integer>> buckets = new ArrayList<>(displacements.length);
+        for(int b = 0; b < displacements.length; b++)
+            buckets.add(new ArrayList<>());
+        for(int i = 0; i < count; i++)
+            buckets.get(bucket(hashes[i], seed, displacements.length)).add(i);
+
+        Integer[] byLoad = new Integer[displacements.length];
+        for(int b = 0; b < byLoad.length; b++)
+            byLoad[b] = b;
+        Arrays.sort(byLoad, (a, b) -> buckets.get(b).size() - buckets.get(a).size());
+
+        boolean[] taken = new boolean[count];
+        int[] slots = new int[count];
+        int[] tried = new int[BUCKET_SIZE << 2];
+        int nextFree = 0;
+        for(int b : byLoad) {
+            List<Integer> members = buckets.get(b);
+            if(members.isEmpty())
+                break;
+            if(members.size() == 1) {
+                // any free slot can be reached with d0 = 0
+                while(taken[nextFree])
+                    nextFree++;
+                int index = members.get(0);
+                displacements[b] = Math.floorMod(nextFree - first(hashes[index], seed, count), count);
+                taken[nextFree] = true;
+                slots[index] = nextFree;
+                continue;
+            }
+            if(tried.length < members.size())
+                tried = new int[members.size()];
+            int d = 0;
+            int limit = (int) Math.min(MAX_DISPLACEMENT, (long) count * MAX_STRIDES);
+            while(d <= limit && !fits(members, hashes, seed, d, taken, tried))
+                d++;
+            if(d > limit)
+                return null;
+            displacements[b] = d;
+            for(int i = 0; i < members.size(); i++) {
+                taken[tried[i]] = true;
+                slots[members.get(i)] = tried[i];
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * @return true if displacement d sends every member to a distinct free
+     * slot, which are left in tried
+     */
+    private static boolean fits(List<Integer> members, int[] hashes, int seed, int d, boolean[] taken,
+                                int[] tried) {
+        for(int i = 0; i < members.size(); i++) {
+            int slot = slot(hashes[members.get(i)], seed, d, taken.length);
+            if(taken[slot])
+                return false;
+            for(int j = 0; j < i; j++) {
+                if(tried[j] == slot)
+                    return false;
+            }
+            tried[i] = slot;
+        }
+        return true;
+    }
+
+    /**
+     * Reads a map written by save. Every key is checked against the slot it
+     * was stored in, so keys whose hashCode changed since compile, such as
+     * enums saved by another JVM, are rejected rather than silently missed.
+     * @param in stream to read; not closed
+     * @return the saved map
+     * @throws IOException if the stream cannot be read, holds no map, or
+     *                     holds keys that no longer hash to their slots
+     */
+    @SuppressWarnings("unchecked")
+    public static <K extends Comparable<K>, V> PerfectHashMap<K, V> load(InputStream in) throws IOException {
+        ObjectInputStream objects = new ObjectInputStream(in);
+        try {
+            return (PerfectHashMap<K, V>) objects.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Not a saved PerfectHashMap", e);
+        }
+    }
+
+    /**
+     * Writes the compiled map, so load can restore it without rebuilding the
+     * hash function. The keys and values must be Serializable.
+     * @param out stream to write; flushed but not closed
+     * @throws IOException if the stream cannot be written
+     */
+    public void save(OutputStream out) throws IOException {
+        ObjectOutputStream objects = new ObjectOutputStream(out);
+        objects.writeObject(this);
+        objects.flush();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if(keys.length != values.length || displacements.length != bucketCount(keys.length)
+                || size < keys.length)
+            throw new InvalidObjectException("Inconsistent PerfectHashMap");
+        for(int i = 0; i < keys.length; i++) {
+            Object[] group = (keys[i] instanceof Shared) ? ((Shared) keys[i]).keys : new Object[] {keys[i]};
+            if(group.length == 0)
+                throw new InvalidObjectException("Inconsistent PerfectHashMap");
+            for(Object key : group) {
+                if(key == null || slotOf(key.hashCode()) != i)
+                    throw new InvalidObjectException("Key " + key + " no longer hashes to its slot;"
+                            + " its hashCode is not stable across JVMs");
+            }
+        }
+    }
+
+    /**
+     * Returns true if the map has an object for the corresponding key.
+     * @param key object to search for
+     * @return true if within map, false otherwise
+     */
+    public boolean contains(K key) {
+        int slot = find(key);
+        if(slot < 0)
+            return false;
+        if(keys[slot] instanceof Shared)
+            return (indexOf(key, (Shared) keys[slot]) >= 0);
+        return matches(key, keys[slot]);
+    }
+
+    /**
+     * Not supported; the map is immutable.
+     * @throws UnsupportedOperationException always
+     */
+    public V add(K key, V value) {
+        throw new UnsupportedOperationException("PerfectHashMap is immutable");
+    }
+
+    /**
+     * Not supported; the map is immutable.
+     * @throws UnsupportedOperationException always
+     */
+    public boolean delete(K key) {
+        throw new UnsupportedOperationException("PerfectHashMap is immutable");
+    }
+
+    /**
+     * Returns the value associated with the parameter key.
+     * @param key key to lookup in the map
+     * @return Value associated with key or null if not found
+     */
+    @SuppressWarnings("unchecked")
+    public V getValue(K key) {
+        int slot = find(key);
+        if(slot < 0)
+            return null;
+        if(keys[slot] instanceof Shared) {
+            Shared shared = (Shared) keys[slot];
+            int index = indexOf(key, shared);
+            return (index < 0) ? null : (V) shared.values[index];
+        }
+        return matches(key, keys[slot]) ? (V) values[slot] : null;
+    }
+
+    /**
+     * Returns the first key found with the parameter value.
+     * @param value value to locate
+     * @return key of first item found with the matching value
+     */
+    public K getKey(V value) {
+        Iterator<K> keys = keys();
+        Iterator<V> values = values();
+        while(keys.hasNext()) {
+            K key = keys.next();
+            if(value.equals(values.next()))
+                return key;
+        }
+        return null;
+    }
+
+    /**
+     * Identifies the size of the map.
+     * @return Number of entries stored in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates if the map contains nothing.
+     * @return true if the map is empty, as the method cryptically indicates.
+     */
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Not supported; the map is immutable.
+     * @throws UnsupportedOperationException always
+     */
+    public void clear() {
+        throw new UnsupportedOperationException("PerfectHashMap is immutable");
+    }
+
+    /**
+     * Provides a key iterator.
+     * @return Iterator over the keys, in slot order
+     */
+    public Iterator<K> keys() {
+        return new SlotIterator<>(true);
+    }
+
+    /**
+     * Provides a value iterator. The values arrive corresponding to their
+     * keys in the key order.
+     * @return Iterator over the values.
+     */
+    public Iterator<V> values() {
+        return new SlotIterator<>(false);
+    }
+
+    /**
+     * Walks the slots in order, stepping through the members of shared ones.
+     */
+    private final class SlotIterator<T> implements Iterator<T> {
+        private final boolean wantKeys;
+        private int slot;
+        private int member;
+
+        private SlotIterator(boolean wantKeys) {
+            this.wantKeys = wantKeys;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (slot < keys.length);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if(!hasNext())
+                throw new NoSuchElementException();
+            Object res;
+            if(keys[slot] instanceof Shared) {
+                Shared shared = (Shared) keys[slot];
+                res = wantKeys ? shared.keys[member] : shared.values[member];
+                if(++member == shared.keys.length) {
+                    member = 0;
+                    slot++;
+                }
+            }
+            else {
+                res = wantKeys ? keys[slot] : values[slot];
+                slot++;
+            }
+            return (T) res;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * @return the only slot the key can be in, or -1 if the map is empty
+     */
+    private int find(K key) {
+        checkKey(key);
+        if(keys.length == 0)
+            return -1;
+        return slotOf(key.hashCode());
+    }
+
+    private int slotOf(int hash) {
+        return slot(hash, seed, displacements[bucket(hash, seed, displacements.length)], keys.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean matches(K key, Object stored) {
+        return (key.hashCode() == stored.hashCode() && key.compareTo((K) stored) == 0);
+    }
+
+    private int indexOf(K key, Shared shared) {
+        for(int i = 0; i < shared.keys.length; i++) {
+            if(matches(key, shared.keys[i]))
+                return i;
+        }
+        return -1;
+    }
+
+    private static int bucket(int hash, int seed, int bucketCount) {
+        return reduce(mix(hash, seed), bucketCount);
+    }
+
+    /**
+     * A displacement d encodes the pair d0 = d / n, d1 = d % n, and moves the
+     * key from its first choice by d0 steps of its own stride plus d1.
+     * Counting d upward tries every d1 before the next stride multiple, so
+     * any free slot is reachable.
+     */
+    private static int slot(int hash, int seed, int displacement, int slotCount) {
+        int d0 = displacement / slotCount;
+        int d1 = displacement - d0 * slotCount;
+        long stride = 1 + reduce(mix(hash, STRIDE_SEED + seed), slotCount - 1);
+        return (int) ((first(hash, seed, slotCount) + d0 * stride + d1) % slotCount);
+    }
+
+    private static int first(int hash, int seed, int slotCount) {
+        return reduce(mix(hash, FIRST_SEED + seed), slotCount);
+    }
+
+    /**
+     * Scrambles the hashCode with a seed so that different seeds give
+     * independent looking hashes (MurmurHash3 finalizer).
+     */
+    private static int mix(int hash, int seed) {
+        int h = hash ^ (seed * 0x9E3779B9);
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Maps a hash onto [0, range) with a multiply and shift instead of a
+     * division.
+     */
+    private static int reduce(int hash, int range) {
+        return (int) (((hash & 0xFFFFFFFFL) * range) >>> 32);
+    }
+
+    private void checkKey(K key) {
+        assert key != null : "Null keys are not allowed";
+    }
+}
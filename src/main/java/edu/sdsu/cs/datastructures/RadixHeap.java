@@ -0,0 +1,257 @@
+package edu.sdsu.cs.datastructures;
+
+import java.util.AbstractQueue;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * A monotone priority queue for integer priorities, such as timestamps, that
+ * never move backward.
+ * <p>Each element's priority comes from a ToLongFunction, and the element
+ * with the lowest priority leaves first; equal priorities leave in arrival
+ * order. The queue is monotone: an offer must not rank below the priority
+ * of the last element polled, which is exactly the pattern of an event
+ * simulation or a timer wheel, where nothing is scheduled in the past.
+ * </p>
+ * <p>It is a radix heap. Elements sit in 65 buckets chosen by the highest
+ * bit in which their priority differs from the last polled one; bucket 0
+ * holds priorities equal to it. Offer appends to a bucket without any
+ * comparisons. Poll takes from bucket 0 when it can; otherwise it finds the
+ * lowest occupied bucket from a bit mask, makes that bucket's minimum the
+ * new last priority and redistributes the bucket, every element of which
+ * lands in a strictly lower one. An element therefore moves at most once
+ * per bit of the spread between the priorities in the queue, so offer and
+ * poll are amortized O(1) for a bounded spread and never worse than 64
+ * moves per element.
+ * </p>
+ * <p>Buckets are CirArrayLists, paired with CirLongArrayLists caching each
+ * element's priority so it is computed only once. The iterator visits
+ * elements in no particular order and does not support remove.
+ * </p>
+ *
+ * @param <E> element type
+ */
+public final class RadixHeap<E> extends AbstractQueue<E> {
+
+    private static final int BUCKETS = Long.SIZE + 1;
+
+    private final ToLongFunction<? super E> priority;
+
+    private final CirArrayList<E>[] elements;
+
+    /**
+     * Priorities of the elements at the same index of elements, stored with
+     * the sign bit flipped so that unsigned order matches signed order.
+     */
+    private final CirLongArrayList[] keys;
+
+    /**
+     * Bit b - 1 is set while bucket b, for b from 1 to 64, is not empty.
+     */
+    private long occupied;
+
+    /**
+     * The last polled priority, sign bit flipped.
+     */
+    private long last;
+
+    private int size;
+
+    private int modCount;
+
+    /**
+     * Builds a new, empty queue.
+     *
+     * @param priority computes each element's priority; lower leaves first
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public RadixHeap(ToLongFunction<? super E> priority) {
+        this.priority = Objects.requireNonNull(priority);
+        elements = (CirArrayList<E>[]) new CirArrayList[BUCKETS];
+        keys = new CirLongArrayList[BUCKETS];
+        for(int b = 0; b < BUCKETS; b++) {
+            elements[b] = new CirArrayList<>();
+            keys[b] = new CirLongArrayList();
+        }
+        last = toKey(Long.MIN_VALUE);
+    }
+
+    /**
+     * Inserts the specified element into this queue.
+     *
+     * @param e the element to add
+     * @return true, as the queue is never full
+     * @throws IllegalArgumentException if the element's priority is below
+     *                                  that of the last element polled
+     */
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long key = toKey(priority.applyAsLong(e));
+        if(Long.compareUnsigned(key, last) < 0)
+            throw new IllegalArgumentException("Priority " + toPriority(key)
+                    + " is below the last polled priority " + toPriority(last));
+        place(e, key);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, or returns null if this
+     * queue is empty.
+     *
+     * @return the head of this queue or null if it is empty
+     */
+    @Override
+    public E poll() {
+        if(size == 0)
+            return null;
+        if(elements[0].isEmpty())
+            redistribute(Long.numberOfTrailingZeros(occupied) + 1);
+        size--;
+        modCount++;
+        keys[0].removeFirst();
+        return elements[0].removeFirst();
+    }
+
+    /**
+     * Retrieves, but does not remove, the head of this queue, or returns
+     * null if this queue is empty. When bucket 0 is empty this scans the
+     * lowest occupied bucket, which poll would redistribute anyway.
+     *
+     * @return the head of this queue or null if it is empty
+     */
+    @Override
+    public E peek() {
+        if(size == 0)
+            return null;
+        if(!elements[0].isEmpty())
+            return elements[0].getFirst();
+        int b = Long.numberOfTrailingZeros(occupied) + 1;
+        return elements[b].get(indexOfMin(keys[b]));
+    }
+
+    /**
+     * Reports the priority of the last element polled, below which no
+     * element may be offered.
+     *
+     * @return the last polled priority, or Long.MIN_VALUE before any poll
+     */
+    public long lastPriority() {
+        return toPriority(last);
+    }
+
+    /**
+     * Reports the number of items in this queue.
+     *
+     * @return the number of items in this queue.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every element and lifts the monotone restriction, so any
+     * priority may be offered again.
+     */
+    @Override
+    public void clear() {
+        for(int b = 0; b < BUCKETS; b++) {
+            elements[b].clear();
+            keys[b].clear();
+        }
+        occupied = 0;
+        last = toKey(Long.MIN_VALUE);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator over the elements in no particular order. It does
+     * not support remove.
+     *
+     * @return an Iterator over the elements in this queue.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private final int expectedModCount = modCount;
+            private int bucket;
+            private int index;
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return (remaining > 0);
+            }
+
+            @Override
+            public E next() {
+                if(modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if(remaining == 0)
+                    throw new NoSuchElementException();
+                while(index == elements[bucket].size()) {
+                    bucket++;
+                    index = 0;
+                }
+                remaining--;
+                return elements[bucket].get(index++);
+            }
+        };
+    }
+
+    /**
+     * Makes the minimum of bucket b the last priority and moves each of the
+     * bucket's elements, in order, to its bucket relative to that. Every
+     * lower bucket is empty beforehand, so arrival order among equal
+     * priorities survives the move.
+     */
+    private void redistribute(int b) {
+        CirArrayList<E> from = elements[b];
+        CirLongArrayList fromKeys = keys[b];
+        last = fromKeys.get(indexOfMin(fromKeys));
+        for(int i = 0; i < from.size(); i++)
+            place(from.get(i), fromKeys.get(i));
+        from.clear();
+        fromKeys.clear();
+        occupied &= ~(1L << (b - 1));
+    }
+
+    private void place(E e, long key) {
+        int b = Long.SIZE - Long.numberOfLeadingZeros(key ^ last);
+        elements[b].addLast(e);
+        keys[b].addLast(key);
+        if(b > 0)
+            occupied |= 1L << (b - 1);
+    }
+
+    /**
+     * @return the index of the first of the lowest keys
+     */
+    private static int indexOfMin(CirLongArrayList bucketKeys) {
+        int best = 0;
+        long min = bucketKeys.get(0);
+        for(int i = 1; i < bucketKeys.size(); i++) {
+            long key = bucketKeys.get(i);
+            if(Long.compareUnsigned(key, min) < 0) {
+                min = key;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static long toKey(long priority) {
+        return priority ^ Long.MIN_VALUE;
+    }
+
+    private static long toPriority(long key) {
+        return key ^ Long.MIN_VALUE;
+    }
+}
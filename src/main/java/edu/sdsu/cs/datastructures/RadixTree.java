@@ -0,0 +1,533 @@
+package edu.sdsu.cs.datastructures;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A compressed radix tree (Patricia trie) implementation of a map with
+ * String keys.
+ * <p>Each edge carries a run of characters rather than a single one, so a
+ * prefix shared by many keys is stored once and a chain of single-child
+ * nodes never forms. A lookup compares the key one character at a time
+ * against the edges it follows and never compares two whole strings; its
+ * cost depends on the key length, not on the number of entries.
+ * </p>
+ * <p>Children are kept in arrays sorted by their first character, grown
+ * as needed. Small fan-outs are scanned linearly and large ones binary
+ * searched. Visiting children in that order yields the keys in
+ * {@link String#compareTo} order, so the tree is also an ordered map with
+ * prefix and longest-prefix queries.
+ * </p>
+ *
+ * @param <V> value type
+ */
+public class RadixTree<V> implements OrderedMapADT<String, V> {
+
+    /**
+     * Child counts up to this are searched linearly.
+     */
+    private static final int LINEAR_SEARCH_LIMIT = 8;
+
+    private static final char[] EMPTY_LABEL = new char[0];
+
+    private Node<V> root = new Node<>(EMPTY_LABEL);
+    private int size;
+
+    private static final class Node<V> {
+        private char[] label;
+        private V value;
+        private boolean hasValue;
+        private char[] firsts;
+        private Node<V>[] children;
+        private int childCount;
+
+        private Node(char[] label) {
+            this.label = label;
+        }
+
+        /**
+         * @return index of the child whose label starts with c, or
+         * -(insertion point) - 1 if there is none
+         */
+        private int indexOf(char c) {
+            if(childCount <= LINEAR_SEARCH_LIMIT) {
+                for(int i = 0; i < childCount; i++) {
+                    if(firsts[i] == c)
+                        return i;
+                    if(firsts[i] > c)
+                        return -(i + 1);
+                }
+                return -(childCount + 1);
+            }
+            return Arrays.binarySearch(firsts, 0, childCount, c);
+        }
+
+        private Node<V> child(char c) {
+            int index = indexOf(c);
+            return (index >= 0) ? children[index] : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void insertChild(int index, Node<V> child) {
+            if(children == null) {
+                firsts = new char[2];
+                children = (Node<V>[]) new Node<?>[2];
+            }
+            else if(childCount == children.length) {
+                firsts = Arrays.copyOf(firsts, childCount << 1);
+                children = Arrays.copyOf(children, childCount << 1);
+            }
+            System.arraycopy(firsts, index, firsts, index + 1, childCount - index);
+            System.arraycopy(children, index, children, index + 1, childCount - index);
+            firsts[index] = child.label[0];
+            children[index] = child;
+            childCount++;
+        }
+
+        private void removeChild(int index) {
+            childCount--;
+            System.arraycopy(firsts, index + 1, firsts, index, childCount - index);
+            System.arraycopy(children, index + 1, children, index, childCount - index);
+            children[childCount] = null;
+        }
+    }
+
+    /**
+     * Returns true if the map has an object for the corresponding key.
+     * @param key object to search for
+     * @return true if within map, false otherwise
+     */
+    public boolean contains(String key) {
+        checkKey(key);
+        return (find(key) != null);
+    }
+
+    /**
+     * Adds the given key/value pair to the map.
+     * @param key Key to add to the map
+     * @param value Corresponding value to associate with the key
+     * @return the previous value associated with this key or null if new
+     */
+    public V add(String key, V value) {
+        checkKey(key);
+        Node<V> node = root;
+        int pos = 0;
+        while(pos < key.length()) {
+            int index = node.indexOf(key.charAt(pos));
+            if(index < 0) {
+                Node<V> leaf = new Node<>(key.substring(pos).toCharArray());
+                setValue(leaf, value);
+                node.insertChild(-(index + 1), leaf);
+                return null;
+            }
+            Node<V> child = node.children[index];
+            int matched = matchLength(child.label, key, pos);
+            if(matched < child.label.length) {
+                // the key leaves or ends inside the edge: split it there
+                Node<V> middle = new Node<>(Arrays.copyOf(child.label, matched));
+                child.label = Arrays.copyOfRange(child.label, matched, child.label.length);
+                node.children[index] = middle;
+                middle.insertChild(0, child);
+                if(pos + matched == key.length()) {
+                    setValue(middle, value);
+                }
+                else {
+                    Node<V> leaf = new Node<>(key.substring(pos + matched).toCharArray());
+                    setValue(leaf, value);
+                    middle.insertChild(-(middle.indexOf(leaf.label[0]) + 1), leaf);
+                }
+                return null;
+            }
+            pos += matched;
+            node = child;
+        }
+
+        V oldVal = node.value;
+        if(!node.hasValue)
+            setValue(node, value);
+        else
+            node.value = value;
+        return oldVal;
+    }
+
+    /**
+     * Removes the key/value pair identified by the key parameter from the map.
+     * @param key item to remove
+     * @return true if removed, false if not found or unable to remove
+     */
+    public boolean delete(String key) {
+        checkKey(key);
+        if(key.isEmpty()) {
+            if(!root.hasValue)
+                return false;
+            clearValue(root);
+            return true;
+        }
+        return delete(root, key, 0);
+    }
+
+    /**
+     * Removes the key below the node and compresses the edge to the child it
+     * passed through if that child no longer needs to exist on its own.
+     */
+    private boolean delete(Node<V> node, String key, int pos) {
+        int index = node.indexOf(key.charAt(pos));
+        if(index < 0)
+            return false;
+        Node<V> child = node.children[index];
+        int matched = matchLength(child.label, key, pos);
+        if(matched < child.label.length)
+            return false;
+
+        pos += matched;
+        if(pos == key.length()) {
+            if(!child.hasValue)
+                return false;
+            clearValue(child);
+        }
+        else if(!delete(child, key, pos)) {
+            return false;
+        }
+
+        if(!child.hasValue) {
+            if(child.childCount == 0) {
+                node.removeChild(index);
+            }
+            else if(child.childCount == 1) {
+                Node<V> grandchild = child.children[0];
+                char[] merged = Arrays.copyOf(child.label, child.label.length
+                        + grandchild.label.length);
+                System.arraycopy(grandchild.label, 0, merged, child.label.length,
+                        grandchild.label.length);
+                grandchild.label = merged;
+                node.children[index] = grandchild;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the value associated with the parameter key.
+     * @param key key to lookup in the map
+     * @return Value associated with key or null if not found
+     */
+    public V getValue(String key) {
+        checkKey(key);
+        Node<V> node = find(key);
+        return (node != null) ? node.value : null;
+    }
+
+    /**
+     * Returns the first key found with the parameter value.
+     * @param value value to locate
+     * @return key of first item found with the matching value
+     */
+    public String getKey(V value) {
+        Iterator<String> keys = keys();
+        Iterator<V> values = values();
+        while(keys.hasNext()) {
+            String key = keys.next();
+            if(value.equals(values.next()))
+                return key;
+        }
+        return null;
+    }
+
+    /**
+     * Identifies the size of the map.
+     * @return Number of entries stored in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates if the map contains nothing.
+     * @return true if the map is empty, as the method cryptically indicates.
+     */
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Resets the map to an empty state with no entries.
+     */
+    public void clear() {
+        root = new Node<>(EMPTY_LABEL);
+        size = 0;
+    }
+
+    /**
+     * Provides a key iterator.
+     * @return Iterator over the keys, sorted
+     */
+    public Iterator<String> keys() {
+        return new KeyIterator(null).enter(root);
+    }
+
+    /**
+     * Provides a key iterator over a range of keys.
+     * @param fromKey lowest key to include (inclusive)
+     * @param toKey highest key to stop at (exclusive)
+     * @return Iterator over the keys k, fromKey &lt;= k &lt; toKey, sorted
+     */
+    public Iterator<String> keys(String fromKey, String toKey) {
+        checkKey(fromKey);
+        checkKey(toKey);
+        return new KeyIterator(toKey).seek(fromKey);
+    }
+
+    /**
+     * Provides a value iterator. The values arrive corresponding to their
+     * keys in the key order.
+     * @return Iterator over the values.
+     */
+    public Iterator<V> values() {
+        return new EntryIterator<V>() {
+            @Override
+            V current(StringBuilder path, Node<V> node) {
+                return node.value;
+            }
+        }.enter(root);
+    }
+
+    /**
+     * Provides a key iterator over every key starting with the prefix.
+     * @param prefix leading characters shared by the keys to visit
+     * @return Iterator over the keys beginning with prefix, sorted
+     */
+    public Iterator<String> prefixIterator(String prefix) {
+        checkKey(prefix);
+        KeyIterator it = new KeyIterator(null);
+        Node<V> node = root;
+        int pos = 0;
+        while(pos < prefix.length()) {
+            node = node.child(prefix.charAt(pos));
+            if(node == null)
+                return it;
+            int matched = matchLength(node.label, prefix, pos);
+            if(matched < node.label.length && pos + matched < prefix.length())
+                return it;
+            pos += node.label.length;
+        }
+        // the prefix may end part way along the last edge
+        int overshoot = pos - prefix.length();
+        it.path.append(prefix);
+        it.path.append(node.label, node.label.length - overshoot, overshoot);
+        return it.enter(node);
+    }
+
+    /**
+     * Finds the longest key in the map which is a prefix of the query, the
+     * query itself included.
+     * @param query string to match against the stored keys
+     * @return the longest stored key that begins the query, or null if none
+     */
+    public String longestPrefixMatch(String query) {
+        checkKey(query);
+        Node<V> node = root;
+        int pos = 0;
+        int best = root.hasValue ? 0 : -1;
+        while(pos < query.length()) {
+            node = node.child(query.charAt(pos));
+            if(node == null || matchLength(node.label, query, pos) < node.label.length)
+                break;
+            pos += node.label.length;
+            if(node.hasValue)
+                best = pos;
+        }
+        return (best < 0) ? null : query.substring(0, best);
+    }
+
+    /**
+     * Key iterator which can start part way through the tree and stop before
+     * an upper bound.
+     */
+    private final class KeyIterator extends EntryIterator<String> {
+        private final String toKey;
+
+        KeyIterator(String toKey) {
+            this.toKey = toKey;
+        }
+
+        @Override
+        String current(StringBuilder path, Node<V> node) {
+            return path.toString();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return super.hasNext() && (toKey == null || compareTo(toKey) < 0);
+        }
+
+        /**
+         * Compares the pending key with the bound without building a String.
+         */
+        private int compareTo(String bound) {
+            int length = Math.min(path.length(), bound.length());
+            for(int i = 0; i < length; i++) {
+                int cmp = path.charAt(i) - bound.charAt(i);
+                if(cmp != 0)
+                    return cmp;
+            }
+            return path.length() - bound.length();
+        }
+
+        /**
+         * Rebuilds the traversal stack as it would stand just before the
+         * first key not less than fromKey.
+         */
+        KeyIterator seek(String fromKey) {
+            Node<V> node = root;
+            frames.push(new Frame<>(node, 0));
+            int pos = 0;
+            while(pos < fromKey.length()) {
+                Frame<V> frame = frames.peek();
+                int index = node.indexOf(fromKey.charAt(pos));
+                if(index < 0) {
+                    frame.next = -(index + 1);
+                    advance();
+                    return this;
+                }
+                Node<V> child = node.children[index];
+                int matched = matchLength(child.label, fromKey, pos);
+                if(matched < child.label.length) {
+                    // the whole subtree sorts on one side of fromKey
+                    boolean above = (pos + matched == fromKey.length()) ||
+                            child.label[matched] > fromKey.charAt(pos + matched);
+                    frame.next = above ? index : index + 1;
+                    advance();
+                    return this;
+                }
+                frame.next = index + 1;
+                path.append(child.label);
+                frames.push(new Frame<>(child, path.length()));
+                pos += matched;
+                node = child;
+            }
+            if(node.hasValue)
+                pending = node;
+            else
+                advance();
+            return this;
+        }
+    }
+
+    /**
+     * Pre-order walk of the tree which rebuilds each key in a shared buffer.
+     * After advance() the buffer holds the key of the pending node.
+     */
+    private abstract class EntryIterator<T> implements Iterator<T> {
+        final Deque<Frame<V>> frames = new ArrayDeque<>();
+        final StringBuilder path = new StringBuilder();
+        Node<V> pending;
+
+        abstract T current(StringBuilder path, Node<V> node);
+
+        /**
+         * Starts the walk at the node whose key is already in the buffer.
+         */
+        EntryIterator<T> enter(Node<V> node) {
+            frames.push(new Frame<>(node, path.length()));
+            if(node.hasValue)
+                pending = node;
+            else
+                advance();
+            return this;
+        }
+
+        void advance() {
+            pending = null;
+            while(!frames.isEmpty()) {
+                Frame<V> top = frames.peek();
+                if(top.next == top.node.childCount) {
+                    frames.pop();
+                    continue;
+                }
+                Node<V> child = top.node.children[top.next++];
+                path.setLength(top.pathLength);
+                path.append(child.label);
+                frames.push(new Frame<>(child, path.length()));
+                if(child.hasValue) {
+                    pending = child;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (pending != null);
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext())
+                throw new NoSuchElementException();
+            T res = current(path, pending);
+            advance();
+            return res;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class Frame<V> {
+        private final Node<V> node;
+        private final int pathLength;
+        private int next;
+
+        private Frame(Node<V> node, int pathLength) {
+            this.node = node;
+            this.pathLength = pathLength;
+        }
+    }
+
+    /**
+     * @return the node holding exactly this key, or null if absent
+     */
+    private Node<V> find(String key) {
+        Node<V> node = root;
+        int pos = 0;
+        while(pos < key.length()) {
+            node = node.child(key.charAt(pos));
+            if(node == null || matchLength(node.label, key, pos) < node.label.length)
+                return null;
+            pos += node.label.length;
+        }
+        return node.hasValue ? node : null;
+    }
+
+    /**
+     * @return how many leading characters of the label match the key from pos
+     */
+    private static int matchLength(char[] label, String key, int pos) {
+        int limit = Math.min(label.length, key.length() - pos);
+        int i = 0;
+        while(i < limit && label[i] == key.charAt(pos + i))
+            i++;
+        return i;
+    }
+
+    private void setValue(Node<V> node, V value) {
+        node.value = value;
+        node.hasValue = true;
+        size++;
+    }
+
+    private void clearValue(Node<V> node) {
+        node.value = null;
+        node.hasValue = false;
+        size--;
+    }
+
+    private void checkKey(String key) {
+        assert key != null : "Null keys are not allowed";
+    }
+}
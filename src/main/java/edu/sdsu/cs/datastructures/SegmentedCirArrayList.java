@@ -0,0 +1,625 @@
+package edu.sdsu.cs.datastructures;
+
+import java.util.AbstractList;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * A circular list stored in fixed size chunks, for lists too large to grow
+ * by copying.
+ * <p>Behaves like a CirArrayList, but the elements live in chunks of
+ * CHUNK_SIZE slots reached through a circular directory of chunk
+ * references. Growing at either end adds a chunk and, when the directory
+ * fills, doubles the directory, which copies only chunk references. No
+ * element is ever copied to grow, no allocation is larger than one chunk
+ * or the directory, and memory is never needed for two copies of the
+ * list. A chunk is released as soon as removals at either end empty it.
+ * </p>
+ * <p>get and set cost one extra array load over CirArrayList. Inserts and
+ * removals away from the ends shift whichever side is shorter, one chunk
+ * segment per array copy.
+ * </p>
+ */
+public final class SegmentedCirArrayList<E> extends AbstractList<E> implements
+        List<E>, Deque<E>, RandomAccess {
+
+    private static final int CHUNK_SHIFT = 10;
+
+    /**
+     * Slots per chunk; 4KB of references with compressed pointers, far below
+     * the size at which a collector treats an allocation as humongous.
+     */
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private static final int MIN_DIRECTORY = 8;
+
+    /**
+     * Chunk references, a power of two long. The chunks in use sit at
+     * first, first + 1, ... modulo the length; every other entry is null.
+     */
+    private Object[][] chunks;
+
+    /**
+     * Directory index of the chunk holding the first element.
+     */
+    private int first;
+
+    /**
+     * Offset of the first element within its chunk.
+     */
+    private int head;
+
+    private int curSize;
+
+    /**
+     * The most recently released chunk, kept so that a list hovering at a
+     * chunk boundary does not allocate on every crossing.
+     */
+    private Object[] spare;
+
+    /**
+     * Builds a new, empty SegmentedCirArrayList.
+     */
+    public SegmentedCirArrayList() {
+        chunks = new Object[MIN_DIRECTORY][];
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index (0 based) of the element to return.
+     * @return element at the specified position in the list.
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0
+     *                                   || index >= size())
+     */
+    @Override
+    public E get(int index) {
+        checkRange(index);
+        return element(head + index);
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the
+     * specified element.
+     *
+     * @param index index of the element to replace
+     * @param value element to be stored at the specified position
+     * @return element previously at the specified position
+     * @throws IndexOutOfBoundsException if index is out of the range (index < 0
+     *                                   || index >= size())
+     */
+    @Override
+    public E set(int index, E value) {
+        checkRange(index);
+        int pos = head + index;
+        E oldVal = element(pos);
+        chunk(pos)[pos & CHUNK_MASK] = value;
+        return oldVal;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * The shorter side grows by one at its end and then moves over by one.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param value element to be inserted
+     * @throws IndexOutOfBoundsException if index is out of the range (index < 0
+     *                                   || index > size())
+     */
+    @Override
+    public void add(int index, E value) {
+        checkPositionIndex(index);
+        if(index == 0) {
+            addFirst(value);
+        }
+        else if(index == curSize) {
+            addLast(value);
+        }
+        else if(index < curSize - index) {
+            addFirst(element(head));
+            move(head + 2, head + 1, index - 1, true);
+            set(index, value);
+        }
+        else {
+            addLast(element(head + curSize - 1));
+            move(head + index, head + index + 1, curSize - 2 - index, false);
+            set(index, value);
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in this list. The
+     * shorter side moves over by one and then shrinks at its end.
+     *
+     * @param index index of element to remove
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if index is out of the range (index < 0
+     *                                   || index >= size())
+     */
+    @Override
+    public E remove(int index) {
+        checkRange(index);
+        E temp = element(head + index);
+        if(index < curSize - 1 - index) {
+            move(head, head + 1, index, false);
+            pollFirst();
+        }
+        else {
+            move(head + index + 1, head + index, curSize - 1 - index, true);
+            pollLast();
+        }
+        return temp;
+    }
+
+    /**
+     * Removes all of the elements from this list and releases every chunk.
+     */
+    @Override
+    public void clear() {
+        chunks = new Object[MIN_DIRECTORY][];
+        first = head = curSize = 0;
+        spare = null;
+        modCount++;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param value element to be appended
+     * @return true, as the list is never full
+     */
+    @Override
+    public boolean add(E value) {
+        addLast(value);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the front of this list.
+     *
+     * @param value the element to add
+     */
+    @Override
+    public void addFirst(E value) {
+        if(curSize == 0) {
+            chunks[first] = allocate();
+            head = CHUNK_SIZE;
+        }
+        else if(head == 0) {
+            ensureDirectory(span() + 1);
+            first = (first - 1) & (chunks.length - 1);
+            chunks[first] = allocate();
+            head = CHUNK_SIZE;
+        }
+        chunks[first][--head] = value;
+        curSize++;
+        modCount++;
+    }
+
+    /**
+     * Inserts the specified element at the end of this list.
+     *
+     * @param value the element to add
+     */
+    @Override
+    public void addLast(E value) {
+        if(curSize == 0) {
+            chunks[first] = allocate();
+            head = 0;
+        }
+        else if(((head + curSize) & CHUNK_MASK) == 0) {
+            int index = (head + curSize) >>> CHUNK_SHIFT;
+            ensureDirectory(index + 1);
+            chunks[(first + index) & (chunks.length - 1)] = allocate();
+        }
+        int pos = head + curSize;
+        chunk(pos)[pos & CHUNK_MASK] = value;
+        curSize++;
+        modCount++;
+    }
+
+    /**
+     * Inserts the specified element at the front of this list.
+     *
+     * @param value the element to add
+     * @return true, as the list is never full
+     */
+    @Override
+    public boolean offerFirst(E value) {
+        addFirst(value);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the end of this list.
+     *
+     * @param value the element to add
+     * @return true, as the list is never full
+     */
+    @Override
+    public boolean offerLast(E value) {
+        addLast(value);
+        return true;
+    }
+
+    /**
+     * Removes and returns the first element of this list.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public E removeFirst() {
+        if(curSize == 0)
+            throw new NoSuchElementException();
+        return pollFirst();
+    }
+
+    /**
+     * Removes and returns the last element of this list.
+     *
+     * @return the last element
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public E removeLast() {
+        if(curSize == 0)
+            throw new NoSuchElementException();
+        return pollLast();
+    }
+
+    /**
+     * Removes and returns the first element of this list, releasing its
+     * chunk if that empties it.
+     *
+     * @return the first element, or null if this list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E pollFirst() {
+        if(curSize == 0)
+            return null;
+        Object[] chunk = chunks[first];
+        E temp = (E) chunk[head];
+        chunk[head++] = null;
+        curSize--;
+        modCount++;
+        if(curSize == 0 || head == CHUNK_SIZE) {
+            int emptied = first;
+            first = (first + 1) & (chunks.length - 1);
+            head = 0;
+            release(emptied);
+        }
+        return temp;
+    }
+
+    /**
+     * Removes and returns the last element of this list, releasing its
+     * chunk if that empties it.
+     *
+     * @return the last element, or null if this list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E pollLast() {
+        if(curSize == 0)
+            return null;
+        int pos = head + --curSize;
+        modCount++;
+        Object[] chunk = chunk(pos);
+        E temp = (E) chunk[pos & CHUNK_MASK];
+        chunk[pos & CHUNK_MASK] = null;
+        if(curSize == 0) {
+            head = 0;
+            release(first);
+        }
+        else if((pos & CHUNK_MASK) == 0) {
+            release((first + (pos >>> CHUNK_SHIFT)) & (chunks.length - 1));
+        }
+        return temp;
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public E getFirst() {
+        if(curSize == 0)
+            throw new NoSuchElementException();
+        return element(head);
+    }
+
+    /**
+     * Returns the last element of this list.
+     *
+     * @return the last element
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public E getLast() {
+        if(curSize == 0)
+            throw new NoSuchElementException();
+        return element(head + curSize - 1);
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element, or null if this list is empty
+     */
+    @Override
+    public E peekFirst() {
+        return (curSize == 0) ? null : element(head);
+    }
+
+    /**
+     * Returns the last element of this list.
+     *
+     * @return the last element, or null if this list is empty
+     */
+    @Override
+    public E peekLast() {
+        return (curSize == 0) ? null : element(head + curSize - 1);
+    }
+
+    /**
+     * Removes the first occurrence of the specified element.
+     *
+     * @param o element to remove, if present
+     * @return true if an element was removed
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        int index = indexOf(o);
+        if(index < 0)
+            return false;
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Removes the last occurrence of the specified element.
+     *
+     * @param o element to remove, if present
+     * @return true if an element was removed
+     */
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        int index = lastIndexOf(o);
+        if(index < 0)
+            return false;
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the end of this list.
+     *
+     * @param value the element to add
+     * @return true, as the list is never full
+     */
+    @Override
+    public boolean offer(E value) {
+        return offerLast(value);
+    }
+
+    /**
+     * Removes and returns the first element of this list.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Removes and returns the first element of this list.
+     *
+     * @return the first element, or null if this list is empty
+     */
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element, or null if this list is empty
+     */
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Pushes an element onto the front of this list.
+     *
+     * @param value the element to push
+     */
+    @Override
+    public void push(E value) {
+        addFirst(value);
+    }
+
+    /**
+     * Pops an element from the front of this list.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Returns an iterator over the elements from last to first.
+     *
+     * @return an iterator in reverse sequential order
+     */
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new Iterator<E>() {
+            private int cursor = curSize - 1;
+            private int lastReturned = -1;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return (cursor >= 0);
+            }
+
+            @Override
+            public E next() {
+                checkForComodification();
+                int i = cursor;
+                if(i < 0)
+                    throw new NoSuchElementException();
+                cursor = i - 1;
+                return element(head + (lastReturned = i));
+            }
+
+            @Override
+            public void remove() {
+                if(lastReturned < 0)
+                    throw new IllegalStateException();
+                checkForComodification();
+                SegmentedCirArrayList.this.remove(lastReturned);
+                lastReturned = -1;
+                expectedModCount = modCount;
+            }
+
+            private void checkForComodification() {
+                if(modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+            }
+        };
+    }
+
+    /**
+     * Reports the number of items in the List.
+     *
+     * @return the item count.
+     */
+    @Override
+    public int size() {
+        return curSize;
+    }
+
+    private void checkRange(int index) {
+        if ((index < 0 || index >= curSize))
+            throw new IndexOutOfBoundsException("Index: " + index + " is out of bounds. Size = " + size());
+    }
+
+    private void checkPositionIndex(int index) {
+        if ((index < 0 || index > curSize))
+            throw new IndexOutOfBoundsException("Index: " + index + " is out of bounds. Size = " + size());
+    }
+
+    /**
+     * @return the chunk holding the slot at pos, counted from the first
+     * slot of the first chunk
+     */
+    private Object[] chunk(int pos) {
+        return chunks[(first + (pos >>> CHUNK_SHIFT)) & (chunks.length - 1)];
+    }
+
+    @SuppressWarnings("unchecked")
+    private E element(int pos) {
+        return (E) chunk(pos)[pos & CHUNK_MASK];
+    }
+
+    /**
+     * @return the number of chunks holding elements
+     */
+    private int span() {
+        return (head + curSize + CHUNK_MASK) >>> CHUNK_SHIFT;
+    }
+
+    private Object[] allocate() {
+        Object[] chunk = (spare != null) ? spare : new Object[CHUNK_SIZE];
+        spare = null;
+        return chunk;
+    }
+
+    /**
+     * Drops a chunk from the directory, halving the directory once it is
+     * three quarters empty. The chunk's slots are already null, and first
+     * and head already describe the remaining elements.
+     */
+    private void release(int index) {
+        spare = chunks[index];
+        chunks[index] = null;
+        int used = span();
+        if(chunks.length > MIN_DIRECTORY && used < chunks.length >>> 2)
+            resizeDirectory(chunks.length >>> 1, used);
+    }
+
+    private void ensureDirectory(int needed) {
+        if(needed > chunks.length)
+            resizeDirectory(chunks.length << 1, span());
+    }
+
+    /**
+     * Copies the chunk references in order to the front of a new directory.
+     */
+    private void resizeDirectory(int length, int used) {
+        Object[][] temp = new Object[length][];
+        for(int i = 0; i < used; i++)
+            temp[i] = chunks[(first + i) & (chunks.length - 1)];
+        chunks = temp;
+        first = 0;
+    }
+
+    /**
+     * Moves a run of elements between slot positions, one array copy per
+     * stretch that stays within a single source and destination chunk.
+     * Runs to the right copy from the back so overlapping slots are read
+     * before they are overwritten.
+     */
+    private void move(int src, int dst, int count, boolean forward) {
+        if(forward) {
+            while(count > 0) {
+                int n = Math.min(count, Math.min(CHUNK_SIZE - (src & CHUNK_MASK),
+                        CHUNK_SIZE - (dst & CHUNK_MASK)));
+                System.arraycopy(chunk(src), src & CHUNK_MASK, chunk(dst), dst & CHUNK_MASK, n);
+                src += n;
+                dst += n;
+                count -= n;
+            }
+        }
+        else {
+            while(count > 0) {
+                int srcLast = src + count - 1;
+                int dstLast = dst + count - 1;
+                int n = Math.min(count, Math.min(srcLast & CHUNK_MASK, dstLast & CHUNK_MASK) + 1);
+                System.arraycopy(chunk(srcLast), (srcLast & CHUNK_MASK) - n + 1,
+                        chunk(dstLast), (dstLast & CHUNK_MASK) - n + 1, n);
+                count -= n;
+            }
+        }
+    }
+}
@@ -0,0 +1,440 @@
+package edu.sdsu.cs.datastructures;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free, thread-safe skip list implementation of an ordered map.
+ * <p>Every node links to its successors through markable references; a set
+ * mark on a node's link means the node is being removed, and any thread
+ * which encounters such a node helps unlink it. No operation ever blocks
+ * another, so throughput scales with the number of threads instead of
+ * serializing on a single lock.
+ * </p>
+ * <p>add, delete and getValue are linearizable. A key is present exactly
+ * while its node holds a non-null value: delete removes a key the moment it
+ * swaps that value to null, and add replaces values in place with a
+ * compare-and-set. For this reason the map does not accept null values.
+ * </p>
+ * <p>Iterators, range scans, size and clear are weakly consistent: they
+ * never throw because of concurrent modification and reflect every change
+ * completed before they started, but may or may not observe changes made
+ * while they run.
+ * </p>
+ *
+ * @param <K> key type, compared with its natural ordering
+ * @param <V> value type
+ */
+public final class SkipListMap<K extends Comparable<K>, V> implements OrderedMapADT<K, V> {
+
+    private static final int MAX_LEVEL = 31;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Object> VALUE =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Object.class, "value");
+
+    private final Node<K, V> head = new Node<>(null, null, MAX_LEVEL);
+    private final LongAdder size = new LongAdder();
+
+    private static final class Node<K, V> {
+        private final K key;
+        volatile Object value; // not private: updated through VALUE
+        private final AtomicMarkableReference<Node<K, V>>[] next;
+
+        @SuppressWarnings("unchecked")
+        private Node(K key, V value, int topLevel) {
+            this.key = key;
+            this.value = value;
+            next = (AtomicMarkableReference<Node<K, V>>[]) new AtomicMarkableReference<?>[topLevel + 1];
+            for(int level = 0; level <= topLevel; level++)
+                next[level] = new AtomicMarkableReference<>(null, false);
+        }
+
+        @SuppressWarnings("unchecked")
+        private V getValue() {
+            return (V) value;
+        }
+
+        private boolean casValue(Object expected, Object update) {
+            return VALUE.compareAndSet(this, expected, update);
+        }
+
+        private int topLevel() {
+            return next.length - 1;
+        }
+    }
+
+    /**
+     * Returns true if the map has an object for the corresponding key.
+     * @param key object to search for
+     * @return true if within map, false otherwise
+     */
+    public boolean contains(K key) {
+        return (getValue(key) != null);
+    }
+
+    /**
+     * Adds the given key/value pair to the map.
+     * @param key Key to add to the map
+     * @param value Corresponding value to associate with the key
+     * @return the previous value associated with this key or null if new
+     * @throws NullPointerException if the value is null
+     */
+    @SuppressWarnings("unchecked")
+    public V add(K key, V value) {
+        checkKey(key);
+        if(value == null)
+            throw new NullPointerException("Null values are not allowed");
+
+        Node<K, V>[] preds = newPath();
+        Node<K, V>[] succs = newPath();
+        int topLevel = randomLevel();
+        while(true) {
+            if(find(key, preds, succs)) {
+                Node<K, V> node = succs[0];
+                Object oldVal = node.value;
+                if(oldVal != null && node.casValue(oldVal, value))
+                    return (V) oldVal;
+                if(oldVal == null)
+                    mark(node); // help a concurrent delete finish first
+                continue;
+            }
+
+            Node<K, V> newNode = new Node<>(key, value, topLevel);
+            for(int level = 0; level <= topLevel; level++)
+                newNode.next[level].set(succs[level], false);
+            if(!preds[0].next[0].compareAndSet(succs[0], newNode, false, false))
+                continue;
+
+            // the key is now present; the upper levels only speed up searches
+            size.increment();
+            linkUpperLevels(newNode, preds, succs);
+            return null;
+        }
+    }
+
+    private void linkUpperLevels(Node<K, V> newNode, Node<K, V>[] preds, Node<K, V>[] succs) {
+        for(int level = 1; level <= newNode.topLevel(); level++) {
+            while(true) {
+                Node<K, V> succ = succs[level];
+                AtomicMarkableReference<Node<K, V>> link = newNode.next[level];
+                Node<K, V> current = link.getReference();
+                if(link.isMarked())
+                    return; // deleted while being linked
+                if(current != succ && !link.compareAndSet(current, succ, false, false))
+                    continue;
+                if(preds[level].next[level].compareAndSet(succ, newNode, false, false))
+                    break;
+                find(newNode.key, preds, succs);
+                if(succs[0] != newNode)
+                    return;
+            }
+        }
+    }
+
+    /**
+     * Removes the key/value pair identified by the key parameter from the map.
+     * @param key item to remove
+     * @return true if removed, false if not found or unable to remove
+     */
+    public boolean delete(K key) {
+        checkKey(key);
+        Node<K, V>[] preds = newPath();
+        Node<K, V>[] succs = newPath();
+        while(true) {
+            if(!find(key, preds, succs))
+                return false;
+            Node<K, V> node = succs[0];
+            Object oldVal = node.value;
+            if(oldVal == null)
+                return false; // another thread already removed it
+            if(node.casValue(oldVal, null)) {
+                size.decrement();
+                mark(node);
+                find(key, preds, succs); // unlink it
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the value associated with the parameter key.
+     * @param key key to lookup in the map
+     * @return Value associated with key or null if not found
+     */
+    public V getValue(K key) {
+        checkKey(key);
+        Node<K, V> node = ceiling(key);
+        return (node != null && key.compareTo(node.key) == 0) ? node.getValue() : null;
+    }
+
+    /**
+     * Returns the first key found with the parameter value.
+     * @param value value to locate
+     * @return key of first item found with the matching value
+     */
+    public K getKey(V value) {
+        for(Node<K, V> node = head.next[0].getReference(); node != null; node = node.next[0].getReference()) {
+            if(value.equals(node.value))
+                return node.key;
+        }
+        return null;
+    }
+
+    /**
+     * Identifies the size of the map.
+     * @return Number of entries stored in the map.
+     */
+    public int size() {
+        return (int) Math.max(0, size.sum());
+    }
+
+    /**
+     * Indicates if the map contains nothing.
+     * @return true if the map is empty, as the method cryptically indicates.
+     */
+    public boolean isEmpty() {
+        return !new NodeIterator<K>(head.next[0].getReference(), null) {
+            @Override
+            K current(Node<K, V> node, Object value) {
+                return node.key;
+            }
+        }.hasNext();
+    }
+
+    /**
+     * Resets the map to an empty state with no entries. Entries added
+     * concurrently with the clear may survive it.
+     */
+    public void clear() {
+        Iterator<K> it = keys();
+        while(it.hasNext())
+            delete(it.next());
+    }
+
+    /**
+     * Provides a key iterator.
+     * @return Iterator over the keys, sorted
+     */
+    public Iterator<K> keys() {
+        return new NodeIterator<K>(head.next[0].getReference(), null) {
+            @Override
+            K current(Node<K, V> node, Object value) {
+                return node.key;
+            }
+        };
+    }
+
+    /**
+     * Provides a key iterator over a range of keys.
+     * @param fromKey lowest key to include (inclusive)
+     * @param toKey highest key to stop at (exclusive)
+     * @return Iterator over the keys k, fromKey &lt;= k &lt; toKey, sorted
+     */
+    public Iterator<K> keys(K fromKey, K toKey) {
+        checkKey(fromKey);
+        checkKey(toKey);
+        return new NodeIterator<K>(ceiling(fromKey), toKey) {
+            @Override
+            K current(Node<K, V> node, Object value) {
+                return node.key;
+            }
+        };
+    }
+
+    /**
+     * Provides a value iterator. The values arrive corresponding to their
+     * keys in the key order.
+     * @return Iterator over the values.
+     */
+    public Iterator<V> values() {
+        return new NodeIterator<V>(head.next[0].getReference(), null) {
+            @Override
+            @SuppressWarnings("unchecked")
+            V current(Node<K, V> node, Object value) {
+                return (V) value;
+            }
+        };
+    }
+
+    /**
+     * Provides a weakly consistent key spliterator. The size is unknown
+     * since other threads may be changing it.
+     * @return Spliterator over the keys, sorted
+     */
+    @Override
+    public Spliterator<K> keySpliterator() {
+        return Spliterators.spliteratorUnknownSize(keys(), Spliterator.ORDERED | Spliterator.SORTED
+                | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * Provides a weakly consistent key/value pair spliterator. The size is
+     * unknown since other threads may be changing it.
+     * @return Spliterator over immutable key/value pairs, sorted by key
+     */
+    @Override
+    public Spliterator<Map.Entry<K, V>> entrySpliterator() {
+        Iterator<Map.Entry<K, V>> entries = new NodeIterator<Map.Entry<K, V>>(head.next[0].getReference(), null) {
+            @Override
+            @SuppressWarnings("unchecked")
+            Map.Entry<K, V> current(Node<K, V> node, Object value) {
+                return new AbstractMap.SimpleImmutableEntry<>(node.key, (V) value);
+            }
+        };
+        return Spliterators.spliteratorUnknownSize(entries, Spliterator.ORDERED
+                | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * Weakly consistent walk along the bottom level, skipping nodes removed
+     * before the iterator reaches them.
+     */
+    private abstract class NodeIterator<T> implements Iterator<T> {
+        private Node<K, V> node;
+        private Object value;
+        private final K toKey;
+
+        NodeIterator(Node<K, V> first, K toKey) {
+            this.node = first;
+            this.toKey = toKey;
+        }
+
+        abstract T current(Node<K, V> node, Object value);
+
+        @Override
+        public boolean hasNext() {
+            while(node != null && value == null) {
+                if(toKey != null && node.key.compareTo(toKey) >= 0) {
+                    node = null;
+                    break;
+                }
+                value = node.value;
+                if(value == null)
+                    node = node.next[0].getReference();
+            }
+            return (node != null);
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext())
+                throw new NoSuchElementException();
+            T res = current(node, value);
+            node = node.next[0].getReference();
+            value = null;
+            return res;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Locates the position of key on every level, unlinking any marked
+     * nodes passed along the way.
+     * @return true if the bottom level holds a node with the key
+     */
+    private boolean find(K key, Node<K, V>[] preds, Node<K, V>[] succs) {
+        boolean[] marked = {false};
+        retry:
+        while(true) {
+            Node<K, V> pred = head;
+            Node<K, V> curr = null;
+            for(int level = MAX_LEVEL; level >= 0; level--) {
+                curr = pred.next[level].getReference();
+                while(curr != null) {
+                    Node<K, V> succ = curr.next[level].get(marked);
+                    while(marked[0]) {
+                        if(!pred.next[level].compareAndSet(curr, succ, false, false))
+                            continue retry;
+                        curr = succ;
+                        if(curr == null)
+                            break;
+                        succ = curr.next[level].get(marked);
+                    }
+                    if(curr != null && curr.key.compareTo(key) < 0) {
+                        pred = curr;
+                        curr = succ;
+                    }
+                    else
+                        break;
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return (curr != null && key.compareTo(curr.key) == 0);
+        }
+    }
+
+    /**
+     * Read-only search for the lowest node whose key is at or above the
+     * parameter. Marked nodes are stepped over rather than unlinked.
+     */
+    private Node<K, V> ceiling(K key) {
+        boolean[] marked = {false};
+        Node<K, V> pred = head;
+        Node<K, V> curr = null;
+        for(int level = MAX_LEVEL; level >= 0; level--) {
+            curr = pred.next[level].getReference();
+            while(curr != null) {
+                Node<K, V> succ = curr.next[level].get(marked);
+                while(marked[0] && succ != null) {
+                    curr = succ;
+                    succ = curr.next[level].get(marked);
+                }
+                if(marked[0])
+                    curr = null;
+                else if(curr.key.compareTo(key) < 0) {
+                    pred = curr;
+                    curr = succ;
+                    continue;
+                }
+                break;
+            }
+        }
+        return curr;
+    }
+
+    /**
+     * Marks every link of a logically deleted node, top level first, so no
+     * new node can be linked behind it.
+     */
+    private void mark(Node<K, V> node) {
+        boolean[] marked = {false};
+        for(int level = node.topLevel(); level >= 0; level--) {
+            AtomicMarkableReference<Node<K, V>> link = node.next[level];
+            Node<K, V> succ = link.get(marked);
+            while(!marked[0]) {
+                link.compareAndSet(succ, succ, false, true);
+                succ = link.get(marked);
+            }
+        }
+    }
+
+    /**
+     * Chooses a level with probability 1/2^(level + 1).
+     */
+    private static int randomLevel() {
+        return Math.min(MAX_LEVEL, Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << MAX_LEVEL)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<K, V>[] newPath() {
+        return (Node<K, V>[]) new Node<?, ?>[MAX_LEVEL + 1];
+    }
+
+    private void checkKey(K key) {
+        assert key != null : "Null keys are not allowed";
+    }
+}
@@ -0,0 +1,385 @@
+package edu.sdsu.cs.datastructures;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A self-adjusting binary search tree implementation of an ordered map.
+ * <p>Every lookup, insert and delete splays the node it reached: a series
+ * of rotations moves that node to the root, roughly halving the depth of
+ * every node along the way. Frequently used keys therefore stay near the
+ * top, and a skewed workload where a few keys account for most requests
+ * costs far less than log n per access. Any sequence of operations runs
+ * in amortized O(log n) time each.
+ * </p>
+ * <p>In semi-splaying mode a node on a straight (zig-zig) path is only
+ * lifted halfway per step, so each access does about half the rotations.
+ * Hot keys still rise toward the root, just over several accesses instead
+ * of one, and the amortized bound is unchanged.
+ * </p>
+ *
+ * @param <K> key type, compared with its natural ordering
+ * @param <V> value type
+ */
+public class SplayTree<K extends Comparable<K>, V> implements OrderedMapADT<K, V> {
+
+    private final boolean semiSplay;
+    private Node<K, V> root;
+    private int size;
+
+    private static final class Node<K, V> {
+        private final K key;
+        private V value;
+        private Node<K, V> left;
+        private Node<K, V> right;
+        private Node<K, V> parent;
+
+        private Node(K key, V value, Node<K, V> parent) {
+            this.key = key;
+            this.value = value;
+            this.parent = parent;
+        }
+    }
+
+    /**
+     * Builds a new, empty tree which fully splays every accessed node.
+     */
+    public SplayTree() {
+        this(false);
+    }
+
+    /**
+     * Builds a new, empty tree.
+     * @param semiSplay true to lift accessed nodes halfway on straight paths,
+     *                  halving the restructuring done per access
+     */
+    public SplayTree(boolean semiSplay) {
+        this.semiSplay = semiSplay;
+    }
+
+    /**
+     * Returns true if the map has an object for the corresponding key.
+     * @param key object to search for
+     * @return true if within map, false otherwise
+     */
+    public boolean contains(K key) {
+        checkKey(key);
+        Node<K, V> node = access(key);
+        return (node != null && key.compareTo(node.key) == 0);
+    }
+
+    /**
+     * Adds the given key/value pair to the map.
+     * @param key Key to add to the map
+     * @param value Corresponding value to associate with the key
+     * @return the previous value associated with this key or null if new
+     */
+    public V add(K key, V value) {
+        checkKey(key);
+        Node<K, V> parent = null;
+        Node<K, V> node = root;
+        int cmp = 0;
+        while(node != null) {
+            cmp = key.compareTo(node.key);
+            if(cmp == 0) {
+                V oldVal = node.value;
+                node.value = value;
+                splay(node);
+                return oldVal;
+            }
+            parent = node;
+            node = (cmp < 0) ? node.left : node.right;
+        }
+
+        Node<K, V> newNode = new Node<>(key, value, parent);
+        if(parent == null)
+            root = newNode;
+        else if(cmp < 0)
+            parent.left = newNode;
+        else
+            parent.right = newNode;
+        size++;
+        splay(newNode);
+        return null;
+    }
+
+    /**
+     * Removes the key/value pair identified by the key parameter from the map.
+     * @param key item to remove
+     * @return true if removed, false if not found or unable to remove
+     */
+    public boolean delete(K key) {
+        checkKey(key);
+        Node<K, V> node = find(key);
+        if(node == null || key.compareTo(node.key) != 0) {
+            if(node != null)
+                splay(node);
+            return false;
+        }
+
+        Node<K, V> parent;
+        if(node.left != null && node.right != null) {
+            // replace the node with its successor, which has no left child
+            Node<K, V> successor = node.right;
+            while(successor.left != null)
+                successor = successor.left;
+            parent = (successor.parent == node) ? successor : successor.parent;
+            if(successor.parent != node) {
+                replace(successor, successor.right);
+                successor.right = node.right;
+                successor.right.parent = successor;
+            }
+            replace(node, successor);
+            successor.left = node.left;
+            successor.left.parent = successor;
+        }
+        else {
+            parent = node.parent;
+            replace(node, (node.left != null) ? node.left : node.right);
+        }
+        size--;
+        if(parent != null)
+            splay(parent);
+        return true;
+    }
+
+    /**
+     * Returns the value associated with the parameter key.
+     * @param key key to lookup in the map
+     * @return Value associated with key or null if not found
+     */
+    public V getValue(K key) {
+        checkKey(key);
+        Node<K, V> node = access(key);
+        return (node != null && key.compareTo(node.key) == 0) ? node.value : null;
+    }
+
+    /**
+     * Returns the first key found with the parameter value.
+     * @param value value to locate
+     * @return key of first item found with the matching value
+     */
+    public K getKey(V value) {
+        for(Node<K, V> node = first(root); node != null; node = successor(node)) {
+            if(value.equals(node.value))
+                return node.key;
+        }
+        return null;
+    }
+
+    /**
+     * Identifies the size of the map.
+     * @return Number of entries stored in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates if the map contains nothing.
+     * @return true if the map is empty, as the method cryptically indicates.
+     */
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Resets the map to an empty state with no entries.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Provides a key iterator. Iterating does not restructure the tree.
+     * @return Iterator over the keys, sorted
+     */
+    public Iterator<K> keys() {
+        return new NodeIterator<K>(first(root), null) {
+            @Override
+            K current(Node<K, V> node) {
+                return node.key;
+            }
+        };
+    }
+
+    /**
+     * Provides a key iterator over a range of keys. Iterating does not
+     * restructure the tree.
+     * @param fromKey lowest key to include (inclusive)
+     * @param toKey highest key to stop at (exclusive)
+     * @return Iterator over the keys k, fromKey &lt;= k &lt; toKey, sorted
+     */
+    public Iterator<K> keys(K fromKey, K toKey) {
+        checkKey(fromKey);
+        checkKey(toKey);
+        Node<K, V> start = null;
+        for(Node<K, V> node = root; node != null; ) {
+            if(node.key.compareTo(fromKey) < 0)
+                node = node.right;
+            else {
+                start = node;
+                node = node.left;
+            }
+        }
+        return new NodeIterator<K>(start, toKey) {
+            @Override
+            K current(Node<K, V> node) {
+                return node.key;
+            }
+        };
+    }
+
+    /**
+     * Provides a value iterator. The values arrive corresponding to their
+     * keys in the key order.
+     * @return Iterator over the values.
+     */
+    public Iterator<V> values() {
+        return new NodeIterator<V>(first(root), null) {
+            @Override
+            V current(Node<K, V> node) {
+                return node.value;
+            }
+        };
+    }
+
+    /**
+     * Follows successor links, which the parent pointers make O(1)
+     * amortized, stopping before the optional upper bound.
+     */
+    private abstract class NodeIterator<T> implements Iterator<T> {
+        private Node<K, V> node;
+        private final K toKey;
+
+        NodeIterator(Node<K, V> first, K toKey) {
+            this.node = first;
+            this.toKey = toKey;
+        }
+
+        abstract T current(Node<K, V> node);
+
+        @Override
+        public boolean hasNext() {
+            return (node != null && (toKey == null || node.key.compareTo(toKey) < 0));
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext())
+                throw new NoSuchElementException();
+            T res = current(node);
+            node = successor(node);
+            return res;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Searches for the key and splays the last node visited.
+     * @return the node holding the key, or the last node on the search path
+     */
+    private Node<K, V> access(K key) {
+        Node<K, V> node = find(key);
+        if(node != null)
+            splay(node);
+        return node;
+    }
+
+    /**
+     * Plain search without restructuring.
+     * @return the node holding the key, or the last node on the search path
+     */
+    private Node<K, V> find(K key) {
+        Node<K, V> node = root;
+        Node<K, V> last = null;
+        while(node != null) {
+            last = node;
+            int cmp = key.compareTo(node.key);
+            if(cmp == 0)
+                return node;
+            node = (cmp < 0) ? node.left : node.right;
+        }
+        return last;
+    }
+
+    private void splay(Node<K, V> node) {
+        while(node.parent != null) {
+            Node<K, V> parent = node.parent;
+            Node<K, V> grandparent = parent.parent;
+            if(grandparent == null)
+                rotate(node);                                   // zig
+            else if((grandparent.left == parent) == (parent.left == node)) {
+                rotate(parent);                                 // zig-zig
+                if(semiSplay)
+                    node = parent;
+                else
+                    rotate(node);
+            }
+            else {
+                rotate(node);                                   // zig-zag
+                rotate(node);
+            }
+        }
+    }
+
+    /**
+     * Rotates a node above its parent.
+     */
+    private void rotate(Node<K, V> node) {
+        Node<K, V> parent = node.parent;
+        if(parent.left == node) {
+            parent.left = node.right;
+            if(node.right != null)
+                node.right.parent = parent;
+            node.right = parent;
+        }
+        else {
+            parent.right = node.left;
+            if(node.left != null)
+                node.left.parent = parent;
+            node.left = parent;
+        }
+        replace(parent, node);
+        parent.parent = node;
+    }
+
+    /**
+     * Hangs the replacement where the node hung from its parent.
+     */
+    private void replace(Node<K, V> node, Node<K, V> replacement) {
+        Node<K, V> parent = node.parent;
+        if(parent == null)
+            root = replacement;
+        else if(parent.left == node)
+            parent.left = replacement;
+        else
+            parent.right = replacement;
+        if(replacement != null)
+            replacement.parent = parent;
+    }
+
+    private Node<K, V> first(Node<K, V> node) {
+        if(node != null)
+            while(node.left != null)
+                node = node.left;
+        return node;
+    }
+
+    private Node<K, V> successor(Node<K, V> node) {
+        if(node.right != null)
+            return first(node.right);
+        while(node.parent != null && node.parent.right == node)
+            node = node.parent;
+        return node.parent;
+    }
+
+    private void checkKey(K key) {
+        assert key != null : "Null keys are not allowed";
+    }
+}
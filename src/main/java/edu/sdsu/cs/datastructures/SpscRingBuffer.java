@@ -0,0 +1,73 @@
+package edu.sdsu.cs.datastructures;
+
+/**
+ * A bounded, lock-free ring buffer for exactly one producer thread and one
+ * consumer thread.
+ * <p>With a single producer no slot is ever contended: the producer stores
+ * the element and then publishes it with an ordered write of tail, and the
+ * consumer frees it the same way through head. A handoff costs two plain
+ * stores and, only when the cached counter runs out, one read of the other
+ * side's cache line. Nothing is allocated.
+ * </p>
+ *
+ * @param <E> element type
+ */
+public final class SpscRingBuffer<E> extends AbstractRingBuffer<E> {
+
+    /**
+     * Builds an empty buffer.
+     *
+     * @param capacity most elements held at once, rounded up to a power of
+     *                 two
+     * @throws IllegalArgumentException if the capacity is less than one
+     */
+    public SpscRingBuffer(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Inserts the element if there is room, without waiting. Producer thread
+     * only.
+     *
+     * @param e the element to add
+     * @return true if added, false if the buffer was full
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public boolean offer(E e) {
+        checkElement(e);
+        long t = tail;
+        if(t - headCache > mask && t - (headCache = head) > mask)
+            return false;
+        buffer.lazySet((int) t & mask, e);
+        TAIL.lazySet(this, t + 1);
+        return true;
+    }
+
+    /**
+     * Inserts as many elements from a run of the array as there is room for,
+     * publishing them with a single write of tail. Producer thread only.
+     *
+     * @param items  source array
+     * @param offset position of the first element to add
+     * @param length number of elements to try to add
+     * @return number of elements added, from the front of the run
+     * @throws NullPointerException      if any element is null
+     * @throws IndexOutOfBoundsException if the run lies outside the array
+     */
+    @Override
+    public int offerBatch(E[] items, int offset, int length) {
+        checkRun(items, offset, length);
+        for(int i = offset; i < offset + length; i++)
+            checkElement(items[i]);
+        long t = tail;
+        long free = capacity() - (t - headCache);
+        if(free < length)
+            free = capacity() - (t - (headCache = head));
+        int count = (int) Math.min(free, length);
+        for(int i = 0; i < count; i++)
+            buffer.lazySet((int) (t + i) & mask, items[offset + i]);
+        TAIL.lazySet(this, t + count);
+        return count;
+    }
+}
@@ -0,0 +1,244 @@
+package edu.sdsu.cs.datastructures;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A tiered vector: a list stored as a circular array of fixed size circular
+ * blocks.
+ * <p>Every block but the last holds exactly blockSize elements, so an index
+ * splits into a block number and an offset with a shift and a mask, and get
+ * and set stay constant time. An insert or removal shifts elements only
+ * within its own block; each later block then passes one element across
+ * its boundary, which a circular block does in constant time at either end.
+ * With blockSize kept near the square root of the size, a middle insert or
+ * removal costs O(sqrt(n)) instead of the O(n) shift of a single array.
+ * </p>
+ * <p>Both tiers are CirArrayLists. The block size doubles, or halves, when
+ * the block count drifts outside [blockSize / 16, blockSize / 4], which
+ * rebuilds the list in linear time and so adds only amortized constant
+ * cost per operation.
+ * </p>
+ *
+ * @param <E> element type
+ */
+public final class TieredArrayList<E> extends AbstractList<E> implements
+        List<E>, RandomAccess {
+
+    private static final int MIN_SHIFT = 4;
+
+    /**
+     * The block count may reach blockSize shifted right by this. Passing
+     * an element across a block boundary costs several calls, while shifting
+     * within a block is one array copy, so the balance point has blocks
+     * several times longer than the block count.
+     */
+    private static final int RATIO_SHIFT = 2;
+
+    private CirArrayList<CirArrayList<E>> blocks;
+
+    /**
+     * log2 of the block size.
+     */
+    private int shift;
+
+    private int curSize;
+
+    /**
+     * Builds a new, empty TieredArrayList.
+     */
+    public TieredArrayList() {
+        shift = MIN_SHIFT;
+        blocks = new CirArrayList<>();
+    }
+
+    /**
+     * Constructs a new TieredArrayList containing all the items in the input
+     * parameter.
+     *
+     * @param col the Collection from which to base
+     */
+    public TieredArrayList(Collection<? extends E> col) {
+        this();
+        rebuild(col.toArray(), shiftFor(col.size()));
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index (0 based) of the element to return.
+     * @return element at the specified position in the list.
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0
+     *                                   || index >= size())
+     */
+    public E get(int index) {
+        checkRange(index);
+        return blocks.get(index >>> shift).get(index & mask());
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the
+     * specified element.
+     *
+     * @param index index of the element to replace
+     * @param value element to be stored at the specified position
+     * @return element previously at the specified position
+     * @throws IndexOutOfBoundsException if index is out of the range (index < 0
+     *                                   || index >= size())
+     */
+    public E set(int index, E value) {
+        checkRange(index);
+        return blocks.get(index >>> shift).set(index & mask(), value);
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * Shifts the element currently at that position (if any) and any
+     * subsequent elements to the right.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param value element to be inserted
+     * @throws IndexOutOfBoundsException if index is out of the range (index < 0
+     *                                   || index > size())
+     */
+    public void add(int index, E value) {
+        checkPositionIndex(index);
+        int blockSize = 1 << shift;
+        int k = index >>> shift;
+        if(k == blocks.size()) {
+            blocks.addLast(newBlock());
+        }
+
+        // the full block gives up its last element before taking the new
+        // one, so no block ever grows past blockSize
+        CirArrayList<E> block = blocks.get(k);
+        E carry = null;
+        boolean carrying = (block.size() == blockSize);
+        if(carrying)
+            carry = block.removeLast();
+        block.add(index & mask(), value);
+        for(int j = k + 1; carrying; j++) {
+            if(j == blocks.size()) {
+                blocks.addLast(newBlock());
+            }
+            block = blocks.get(j);
+            E next = null;
+            carrying = (block.size() == blockSize);
+            if(carrying)
+                next = block.removeLast();
+            block.addFirst(carry);
+            carry = next;
+        }
+        curSize++;
+        modCount++;
+        if(blocks.size() > (blockSize >>> RATIO_SHIFT))
+            rebuild(toArray(), shift + 1);
+    }
+
+    /**
+     * Removes the element at the specified position in this list. Shifts any
+     * subsequent elements to the left.
+     *
+     * @param index index of element to remove
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if index is out of the range (index < 0
+     *                                   || index >= size())
+     */
+    public E remove(int index) {
+        checkRange(index);
+        int k = index >>> shift;
+        E temp = blocks.get(k).remove(index & mask());
+        for(int j = k + 1; j < blocks.size(); j++) {
+            blocks.get(j - 1).addLast(blocks.get(j).removeFirst());
+        }
+        if(blocks.getLast().isEmpty())
+            blocks.removeLast();
+        curSize--;
+        modCount++;
+        if(shift > MIN_SHIFT && blocks.size() < (1 << shift) >>> (RATIO_SHIFT + 2))
+            rebuild(toArray(), shift - 1);
+        return temp;
+    }
+
+    /**
+     * Removes all of the elements from this list. The list will be empty
+     * after this call returns.
+     */
+    public void clear() {
+        blocks.clear();
+        shift = MIN_SHIFT;
+        curSize = 0;
+        modCount++;
+    }
+
+    /**
+     * Reports the number of items in the List.
+     *
+     * @return the item count.
+     */
+    public int size() {
+        return curSize;
+    }
+
+    /**
+     * Returns an array holding every element in order, copied block by
+     * block.
+     *
+     * @return the elements, first to last
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] res = new Object[curSize];
+        int pos = 0;
+        for(CirArrayList<E> block : blocks) {
+            for(E value : block)
+                res[pos++] = value;
+        }
+        return res;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rebuild(Object[] items, int newShift) {
+        shift = newShift;
+        int blockSize = 1 << shift;
+        blocks = new CirArrayList<>((items.length + blockSize - 1) >>> shift);
+        for(int start = 0; start < items.length; start += blockSize) {
+            CirArrayList<E> block = newBlock();
+            for(int i = start; i < Math.min(items.length, start + blockSize); i++)
+                block.addLast((E) items[i]);
+            blocks.addLast(block);
+        }
+        curSize = items.length;
+    }
+
+    private CirArrayList<E> newBlock() {
+        return new CirArrayList<>(1 << shift);
+    }
+
+    /**
+     * @return the smallest shift whose block count is within the limit for
+     * the given element count
+     */
+    private static int shiftFor(int count) {
+        int s = MIN_SHIFT;
+        while(((long) count >>> s) > (1L << s >>> RATIO_SHIFT))
+            s++;
+        return s;
+    }
+
+    private int mask() {
+        return (1 << shift) - 1;
+    }
+
+    private void checkRange(int index) {
+        if ((index < 0 || index >= curSize))
+            throw new IndexOutOfBoundsException("Index: " + index + " is out of bounds. Size = " + size());
+    }
+
+    private void checkPositionIndex(int index) {
+        if ((index < 0 || index > curSize))
+            throw new IndexOutOfBoundsException("Index: " + index + " is out of bounds. Size = " + size());
+    }
+}
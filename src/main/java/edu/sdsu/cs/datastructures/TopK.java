@@ -0,0 +1,262 @@
+package edu.sdsu.cs.datastructures;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collector;
+
+/**
+ * Keeps the k best elements seen in a stream of any length.
+ * <p>"Best" follows the priority queue convention: the k elements that
+ * would leave first were every element offered to an ArrayPriorityQueue
+ * and k of them polled. Lower elements rank first, and equal elements rank
+ * in arrival order, so the result does not depend on how ties fall.
+ * </p>
+ * <p>The retained elements form a binary heap with the one that ranks last
+ * at the root. An offer that ranks no better than the root is rejected
+ * after one comparison; otherwise it replaces the root and sifts down in
+ * O(log k) time. Memory stays proportional to k however many elements
+ * pass through, which makes it suited to ranking counts too numerous to
+ * hold in a full queue.
+ * </p>
+ * <p>Partial results built on separate threads combine with merge, and
+ * collector wraps the whole structure for use with streams.
+ * </p>
+ *
+ * @param <E> element type
+ */
+public final class TopK<E> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int k;
+    private final Comparator<? super E> order;
+
+    private Object[] heap;
+
+    /**
+     * Arrival number of the element at the same index of heap.
+     */
+    private long[] sequence;
+
+    private int size;
+
+    private long nextSequence;
+
+    /**
+     * Builds a new, empty TopK ranking elements by their natural order.
+     *
+     * @param k the number of elements to keep
+     * @throws IllegalArgumentException if k is less than one
+     */
+    @SuppressWarnings("unchecked")
+    public TopK(int k) {
+        this(k, (Comparator<? super E>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Builds a new, empty TopK ranking elements by the given comparator;
+     * lower elements rank first.
+     *
+     * @param k     the number of elements to keep
+     * @param order how to rank the elements
+     * @throws IllegalArgumentException if k is less than one
+     */
+    public TopK(int k, Comparator<? super E> order) {
+        if(k < 1)
+            throw new IllegalArgumentException("Illegal k: " + k);
+        this.k = k;
+        this.order = Objects.requireNonNull(order);
+        int capacity = Math.min(k, DEFAULT_CAPACITY);
+        heap = new Object[capacity];
+        sequence = new long[capacity];
+    }
+
+    /**
+     * Returns a collector that gathers the k best elements of a stream
+     * into a list, best first. Parallel streams build one TopK per thread
+     * and merge them.
+     *
+     * @param k     the number of elements to keep
+     * @param order how to rank the elements
+     * @param <E>   element type
+     * @return a collector producing the best elements, best first
+     */
+    public static <E> Collector<E, ?, List<E>> collector(int k, Comparator<?
+            super E> order) {
+        return Collector.of(() -> new TopK<E>(k, order), TopK::offer, TopK::merge, TopK::toList);
+    }
+
+    /**
+     * Considers the element for a place among the best k.
+     *
+     * @param e the element to consider
+     * @return true if the element was kept, false if k better ones are
+     * already held
+     */
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long seq = nextSequence++;
+        if(size < k) {
+            if(size == heap.length) {
+                int capacity = (int) Math.min(k, (long) size << 1);
+                heap = Arrays.copyOf(heap, capacity);
+                sequence = Arrays.copyOf(sequence, capacity);
+            }
+            siftUp(size++, e, seq);
+            return true;
+        }
+        // a newcomer ranks after every equal element, so a tie with the
+        // root is a rejection
+        if(order.compare(e, elementAt(0)) >= 0)
+            return false;
+        siftDown(0, e, seq);
+        return true;
+    }
+
+    /**
+     * Offers every element another TopK holds, best first, as though they
+     * arrived after everything offered here so far. The other TopK is left
+     * unchanged.
+     *
+     * @param other the partial result to fold in
+     * @return this TopK
+     */
+    public TopK<E> merge(TopK<? extends E> other) {
+        for(E e : other.toList()) {
+            if(!offer(e))
+                break;
+        }
+        return this;
+    }
+
+    /**
+     * Returns the elements held, best first.
+     *
+     * @return a new list of at most k elements
+     */
+    @SuppressWarnings("unchecked")
+    public List<E> toList() {
+        TopK<E> copy = new TopK<>(k, order);
+        copy.heap = Arrays.copyOf(heap, size);
+        copy.sequence = Arrays.copyOf(sequence, size);
+        copy.size = size;
+
+        Object[] ranked = new Object[size];
+        for(int i = size - 1; i >= 0; i--)
+            ranked[i] = copy.pollLast();
+        List<E> result = new ArrayList<>(size);
+        for(Object e : ranked)
+            result.add((E) e);
+        return result;
+    }
+
+    /**
+     * Returns the element that ranks last among those held, the one the
+     * next better offer would displace.
+     *
+     * @return the last ranked element, or null if empty
+     */
+    public E peekLast() {
+        return (size == 0) ? null : elementAt(0);
+    }
+
+    /**
+     * Reports the number of elements held, at most k.
+     *
+     * @return the element count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates if no elements are held.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Reports how many elements this TopK keeps.
+     *
+     * @return k
+     */
+    public int capacity() {
+        return k;
+    }
+
+    /**
+     * Removes every element held.
+     */
+    public void clear() {
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+    }
+
+    private E pollLast() {
+        E last = elementAt(0);
+        int end = --size;
+        E e = elementAt(end);
+        long seq = sequence[end];
+        heap[end] = null;
+        if(end > 0)
+            siftDown(0, e, seq);
+        return last;
+    }
+
+    /**
+     * Moves the hole at index i toward the root until e, with its sequence
+     * number, no longer ranks after its parent, then fills the hole.
+     */
+    private void siftUp(int i, E e, long seq) {
+        while(i > 0) {
+            int parent = (i - 1) >>> 1;
+            if(!ranksAfter(e, seq, parent))
+                break;
+            heap[i] = heap[parent];
+            sequence[i] = sequence[parent];
+            i = parent;
+        }
+        heap[i] = e;
+        sequence[i] = seq;
+    }
+
+    /**
+     * Moves the hole at index i toward the leaves until neither child ranks
+     * after e, then fills the hole.
+     */
+    private void siftDown(int i, E e, long seq) {
+        int half = size >>> 1;
+        while(i < half) {
+            int child = (i << 1) + 1;
+            int right = child + 1;
+            if(right < size && ranksAfter(elementAt(right), sequence[right], child))
+                child = right;
+            if(ranksAfter(e, seq, child))
+                break;
+            heap[i] = heap[child];
+            sequence[i] = sequence[child];
+            i = child;
+        }
+        heap[i] = e;
+        sequence[i] = seq;
+    }
+
+    /**
+     * @return true if e, stamped seq, ranks after the element at index
+     */
+    private boolean ranksAfter(E e, long seq, int index) {
+        int cmp = order.compare(e, elementAt(index));
+        return (cmp > 0 || (cmp == 0 && seq > sequence[index]));
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int index) {
+        return (E) heap[index];
+    }
+}
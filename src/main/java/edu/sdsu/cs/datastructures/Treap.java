@@ -0,0 +1,657 @@
+package edu.sdsu.cs.datastructures;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A balanced ordered map built on a treap: a binary search tree on the keys
+ * which is simultaneously a heap on random node priorities, giving expected
+ * O(log n) height regardless of insertion order.
+ * <p>All restructuring goes through two primitives, split and join. On top
+ * of them the map offers bulk union, intersection and difference which run
+ * in O(m log(n / m + 1)) expected work for maps of sizes m &lt;= n, and
+ * which recurse on the two split halves in parallel on the common
+ * ForkJoinPool once the inputs are large enough.
+ * </p>
+ * <p>Nodes are never modified after construction; every update copies the
+ * path from the root to the change. The bulk operations may therefore
+ * share whole subtrees between this map and the maps passed to them,
+ * and an argument is never changed by an operation on this map.
+ * </p>
+ * <p>The same persistence makes versions cheap: snapshot() captures the
+ * current root in O(1) time, and the snapshot shares every node the map
+ * has not since replaced, so each version costs memory only for the paths
+ * that changed after it. Versions nobody references are reclaimed by the
+ * garbage collector. Iterators likewise walk the version current when they
+ * were created.
+ * </p>
+ * <p>The map is thread-safe. Each update builds its new version off to the
+ * side and publishes it with a compare-and-set on the root, retrying if
+ * another writer got there first, so readers and snapshots never block
+ * and never see a partially applied update.
+ * </p>
+ *
+ * @param <K> key type, compared with its natural ordering
+ * @param <V> value type
+ */
+public class Treap<K extends Comparable<K>, V> implements OrderedMapADT<K, V> {
+
+    /**
+     * Combined input size below which the bulk operations stop forking.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 12;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Treap, Node> ROOT =
+            AtomicReferenceFieldUpdater.newUpdater(Treap.class, Node.class, "root");
+
+    private volatile Node<K, V> root;
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final int priority;
+        private final int size;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+
+        private Node(K key, V value, int priority, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = 1 + size(left) + size(right);
+        }
+
+        /**
+         * Copies this node's entry over new children.
+         */
+        private Node<K, V> with(Node<K, V> newLeft, Node<K, V> newRight) {
+            return new Node<>(key, value, priority, newLeft, newRight);
+        }
+    }
+
+    /**
+     * The pieces of a tree split around a key.
+     */
+    private static final class Split<K, V> {
+        private final Node<K, V> lower;
+        private final Node<K, V> match;
+        private final Node<K, V> higher;
+
+        private Split(Node<K, V> lower, Node<K, V> match, Node<K, V> higher) {
+            this.lower = lower;
+            this.match = match;
+            this.higher = higher;
+        }
+    }
+
+    /**
+     * Builds a new, empty treap.
+     */
+    public Treap() {
+        root = null;
+    }
+
+    private Treap(Node<K, V> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns true if the map has an object for the corresponding key.
+     * @param key object to search for
+     * @return true if within map, false otherwise
+     */
+    public boolean contains(K key) {
+        return (find(root, key) != null);
+    }
+
+    /**
+     * Adds the given key/value pair to the map.
+     * @param key Key to add to the map
+     * @param value Corresponding value to associate with the key
+     * @return the previous value associated with this key or null if new
+     */
+    public V add(K key, V value) {
+        checkKey(key);
+        int priority = ThreadLocalRandom.current().nextInt();
+        while(true) {
+            Node<K, V> current = root;
+            Node<K, V> existing = find(current, key);
+            if(publish(current, insert(current, key, value, (existing == null) ? priority : existing.priority)))
+                return (existing == null) ? null : existing.value;
+        }
+    }
+
+    /**
+     * Removes the key/value pair identified by the key parameter from the map.
+     * @param key item to remove
+     * @return true if removed, false if not found or unable to remove
+     */
+    public boolean delete(K key) {
+        checkKey(key);
+        while(true) {
+            Node<K, V> current = root;
+            if(find(current, key) == null)
+                return false;
+            if(publish(current, remove(current, key)))
+                return true;
+        }
+    }
+
+    /**
+     * Returns the value associated with the parameter key.
+     * @param key key to lookup in the map
+     * @return Value associated with key or null if not found
+     */
+    public V getValue(K key) {
+        Node<K, V> node = find(root, key);
+        return (node == null) ? null : node.value;
+    }
+
+    /**
+     * Returns the first key found with the parameter value.
+     * @param value value to locate
+     * @return key of first item found with the matching value
+     */
+    public K getKey(V value) {
+        for(NodeIterator<K> it = new KeyIterator(root, null); it.hasNext(); ) {
+            Node<K, V> node = it.nextNode();
+            if(value.equals(node.value))
+                return node.key;
+        }
+        return null;
+    }
+
+    /**
+     * Identifies the size of the map.
+     * @return Number of entries stored in the map.
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Indicates if the map contains nothing.
+     * @return true if the map is empty, as the method cryptically indicates.
+     */
+    public boolean isEmpty() {
+        return (root == null);
+    }
+
+    /**
+     * Resets the map to an empty state with no entries.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Provides a key iterator.
+     * @return Iterator over the keys, sorted
+     */
+    public Iterator<K> keys() {
+        return new KeyIterator(root, null);
+    }
+
+    /**
+     * Provides a key iterator over a range of keys.
+     * @param fromKey lowest key to include (inclusive)
+     * @param toKey highest key to stop at (exclusive)
+     * @return Iterator over the keys k, fromKey &lt;= k &lt; toKey, sorted
+     */
+    public Iterator<K> keys(K fromKey, K toKey) {
+        checkKey(fromKey);
+        checkKey(toKey);
+        return new KeyIterator(root, fromKey) {
+            @Override
+            public boolean hasNext() {
+                return super.hasNext() && peekKey().compareTo(toKey) < 0;
+            }
+        };
+    }
+
+    /**
+     * Provides a value iterator. The values arrive corresponding to their
+     * keys in the key order.
+     * @return Iterator over the values.
+     */
+    public Iterator<V> values() {
+        return new NodeIterator<V>(root, null) {
+            @Override
+            public V next() {
+                return nextNode().value;
+            }
+        };
+    }
+
+    /**
+     * Provides a key spliterator over the current version which splits on
+     * subtrees and knows the exact size of every piece.
+     * @return Spliterator over the keys, sorted
+     */
+    @Override
+    public Spliterator<K> keySpliterator() {
+        return new TreeSpliterator<>(root, node -> node.key, null);
+    }
+
+    /**
+     * Provides a key/value pair spliterator over the current version which
+     * splits on subtrees and knows the exact size of every piece.
+     * @return Spliterator over immutable key/value pairs, sorted by key
+     */
+    @Override
+    public Spliterator<Map.Entry<K, V>> entrySpliterator() {
+        return new TreeSpliterator<>(root,
+                node -> new AbstractMap.SimpleImmutableEntry<>(node.key, node.value),
+                Map.Entry.comparingByKey());
+    }
+
+    /**
+     * Captures the current contents of the map in O(1) time. The snapshot
+     * is an independent map: later updates to either one are not seen by
+     * the other.
+     * @return a new map holding this map's current entries
+     */
+    public Treap<K, V> snapshot() {
+        return new Treap<>(root);
+    }
+
+    /**
+     * Splits this map around a key. Entries with keys at or above the
+     * parameter move to the returned map; the rest stay in this one.
+     * @param key lowest key to move into the returned map
+     * @return a map holding every entry whose key is at or above the key
+     */
+    public Treap<K, V> split(K key) {
+        checkKey(key);
+        Split<K, V> parts;
+        Node<K, V> current;
+        do {
+            current = root;
+            parts = split(current, key);
+        } while(!publish(current, parts.lower));
+        return new Treap<>((parts.match == null) ? parts.higher : join3(null, parts.match, parts.higher));
+    }
+
+    /**
+     * Appends every entry of another map whose keys all lie above this map's
+     * keys, in O(log n) time. The parameter map is left unchanged.
+     * @param higher map whose lowest key exceeds this map's highest key
+     * @throws IllegalArgumentException if the key ranges overlap
+     */
+    public void join(Treap<K, V> higher) {
+        Node<K, V> appended = higher.root;
+        Node<K, V> current;
+        do {
+            current = root;
+            if(current != null && appended != null && max(current).key.compareTo(min(appended).key) >= 0)
+                throw new IllegalArgumentException("Keys of the joined map must all exceed this map's keys");
+        } while(!publish(current, join2(current, appended)));
+    }
+
+    /**
+     * Adds every entry of another map to this one. Where both maps hold a
+     * key, this map's value is kept. The parameter map is left unchanged.
+     * @param other entries to add
+     */
+    public void union(Treap<K, V> other) {
+        apply(Operation.UNION, other.root);
+    }
+
+    /**
+     * Retains only the keys this map shares with another, keeping this
+     * map's values. The parameter map is left unchanged.
+     * @param other keys to retain
+     */
+    public void intersection(Treap<K, V> other) {
+        apply(Operation.INTERSECTION, other.root);
+    }
+
+    /**
+     * Removes every key another map holds from this one. The parameter map
+     * is left unchanged.
+     * @param other keys to remove
+     */
+    public void difference(Treap<K, V> other) {
+        apply(Operation.DIFFERENCE, other.root);
+    }
+
+    private void apply(Operation operation, Node<K, V> other) {
+        Node<K, V> current;
+        do {
+            current = root;
+        } while(!publish(current, ForkJoinPool.commonPool().invoke(new SetOperation<>(operation, current, other))));
+    }
+
+    /**
+     * Installs a new version of the tree if no other writer has replaced the
+     * version it was built from.
+     */
+    private boolean publish(Node<K, V> expected, Node<K, V> replacement) {
+        return ROOT.compareAndSet(this, expected, replacement);
+    }
+
+    private enum Operation {
+        UNION, INTERSECTION, DIFFERENCE
+    }
+
+    /**
+     * One step of a join-based bulk operation on trees a and b. The root
+     * with the higher priority splits the other tree; the operation then
+     * recurses on the two lower halves and on the two higher halves, in
+     * parallel for large inputs, and joins the results back around the
+     * root if the operation keeps its key. Entries from a win over b.
+     */
+    private static final class SetOperation<K extends Comparable<K>, V> extends RecursiveTask<Node<K, V>> {
+        private static final long serialVersionUID = 1L;
+
+        private final Operation operation;
+        private final Node<K, V> a;
+        private final Node<K, V> b;
+
+        private SetOperation(Operation operation, Node<K, V> a, Node<K, V> b) {
+            this.operation = operation;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        protected Node<K, V> compute() {
+            if(a == null)
+                return (operation == Operation.UNION) ? b : null;
+            if(b == null)
+                return (operation == Operation.INTERSECTION) ? null : a;
+
+            boolean aIsRoot = a.priority >= b.priority;
+            Node<K, V> top = aIsRoot ? a : b;
+            Split<K, V> parts = split(aIsRoot ? b : a, top.key);
+            SetOperation<K, V> lower = aIsRoot
+                    ? new SetOperation<>(operation, a.left, parts.lower)
+                    : new SetOperation<>(operation, parts.lower, b.left);
+            SetOperation<K, V> higher = aIsRoot
+                    ? new SetOperation<>(operation, a.right, parts.higher)
+                    : new SetOperation<>(operation, parts.higher, b.right);
+
+            Node<K, V> lowerResult;
+            Node<K, V> higherResult;
+            if(a.size + b.size > PARALLEL_THRESHOLD) {
+                lower.fork();
+                higherResult = higher.compute();
+                lowerResult = lower.join();
+            }
+            else {
+                lowerResult = lower.compute();
+                higherResult = higher.compute();
+            }
+
+            // entry from a holding top's key, if any
+            Node<K, V> fromA = aIsRoot ? a : parts.match;
+            boolean inB = !aIsRoot || parts.match != null;
+            Node<K, V> kept;
+            switch(operation) {
+                case UNION:
+                    kept = (fromA != null) ? fromA : b;
+                    break;
+                case INTERSECTION:
+                    kept = (fromA != null && inB) ? fromA : null;
+                    break;
+                default:
+                    kept = (fromA != null && !inB) ? fromA : null;
+                    break;
+            }
+            return (kept == null) ? join2(lowerResult, higherResult) : join3(lowerResult, kept, higherResult);
+        }
+    }
+
+    private static <K, V> int size(Node<K, V> node) {
+        return (node == null) ? 0 : node.size;
+    }
+
+    private Node<K, V> find(Node<K, V> node, K key) {
+        while(node != null) {
+            int cmp = key.compareTo(node.key);
+            if(cmp == 0)
+                return node;
+            node = (cmp < 0) ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private static <K, V> Node<K, V> min(Node<K, V> node) {
+        while(node.left != null)
+            node = node.left;
+        return node;
+    }
+
+    private static <K, V> Node<K, V> max(Node<K, V> node) {
+        while(node.right != null)
+            node = node.right;
+        return node;
+    }
+
+    private Node<K, V> insert(Node<K, V> node, K key, V value, int priority) {
+        if(node == null || priority > node.priority) {
+            Split<K, V> parts = split(node, key);
+            return new Node<>(key, value, priority, parts.lower, parts.higher);
+        }
+        int cmp = key.compareTo(node.key);
+        if(cmp < 0)
+            return node.with(insert(node.left, key, value, priority), node.right);
+        if(cmp > 0)
+            return node.with(node.left, insert(node.right, key, value, priority));
+        return new Node<>(key, value, priority, node.left, node.right);
+    }
+
+    private Node<K, V> remove(Node<K, V> node, K key) {
+        int cmp = key.compareTo(node.key);
+        if(cmp < 0)
+            return node.with(remove(node.left, key), node.right);
+        if(cmp > 0)
+            return node.with(node.left, remove(node.right, key));
+        return join2(node.left, node.right);
+    }
+
+    /**
+     * Splits a tree into the keys below, equal to and above the key.
+     */
+    private static <K extends Comparable<K>, V> Split<K, V> split(Node<K, V> node, K key) {
+        if(node == null)
+            return new Split<>(null, null, null);
+        int cmp = key.compareTo(node.key);
+        if(cmp == 0)
+            return new Split<>(node.left, node, node.right);
+        if(cmp < 0) {
+            Split<K, V> parts = split(node.left, key);
+            return new Split<>(parts.lower, parts.match, node.with(parts.higher, node.right));
+        }
+        Split<K, V> parts = split(node.right, key);
+        return new Split<>(node.with(node.left, parts.lower), parts.match, parts.higher);
+    }
+
+    /**
+     * Joins two trees where every key of the first precedes every key of
+     * the second.
+     */
+    private static <K, V> Node<K, V> join2(Node<K, V> lower, Node<K, V> higher) {
+        if(lower == null)
+            return higher;
+        if(higher == null)
+            return lower;
+        if(lower.priority >= higher.priority)
+            return lower.with(lower.left, join2(lower.right, higher));
+        return higher.with(join2(lower, higher.left), higher.right);
+    }
+
+    /**
+     * Joins two trees around the entry of a middle node whose key lies
+     * between them, placing the entry by its priority.
+     */
+    private static <K, V> Node<K, V> join3(Node<K, V> lower, Node<K, V> middle, Node<K, V> higher) {
+        if((lower == null || middle.priority >= lower.priority) && (higher == null || middle.priority >= higher.priority))
+            return middle.with(lower, higher);
+        if(higher == null || (lower != null && lower.priority >= higher.priority))
+            return lower.with(lower.left, join3(lower.right, middle, higher));
+        return higher.with(join3(lower, middle, higher.left), higher.right);
+    }
+
+    /**
+     * In-order walk with an explicit stack, optionally starting at the first
+     * key at or above a lower bound.
+     */
+    private abstract class NodeIterator<T> implements Iterator<T> {
+        private final Deque<Node<K, V>> path = new ArrayDeque<>();
+
+        NodeIterator(Node<K, V> start, K fromKey) {
+            Node<K, V> node = start;
+            while(node != null) {
+                if(fromKey != null && node.key.compareTo(fromKey) < 0)
+                    node = node.right;
+                else {
+                    path.push(node);
+                    node = node.left;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        K peekKey() {
+            return path.peek().key;
+        }
+
+        Node<K, V> nextNode() {
+            if(!hasNext())
+                throw new NoSuchElementException();
+            Node<K, V> node = path.pop();
+            for(Node<K, V> child = node.right; child != null; child = child.left)
+                path.push(child);
+            return node;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Covers a lone node followed by the whole subtree to its right. A split
+     * hands the lone node and the subtree's left branch to a new spliterator
+     * and keeps the subtree's root as the new lone node in front of its
+     * right branch. The nodes never change, so the pieces are immutable
+     * and their sizes exact.
+     */
+    private static final class TreeSpliterator<K, V, T> implements Spliterator<T> {
+        private final Function<Node<K, V>, T> mapper;
+        private final Comparator<? super T> comparator;
+        private Node<K, V> pending;
+        private Node<K, V> subtree;
+        private Deque<Node<K, V>> path;
+        private long remaining;
+
+        private TreeSpliterator(Node<K, V> subtree, Function<Node<K, V>, T> mapper, Comparator<? super T> comparator) {
+            this.subtree = subtree;
+            this.mapper = mapper;
+            this.comparator = comparator;
+            remaining = size(subtree);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if(path == null) {
+                path = new ArrayDeque<>();
+                pushLeft(subtree);
+            }
+            Node<K, V> node;
+            if(pending != null) {
+                node = pending;
+                pending = null;
+            }
+            else if(!path.isEmpty()) {
+                node = path.pop();
+                pushLeft(node.right);
+            }
+            else
+                return false;
+            remaining--;
+            action.accept(mapper.apply(node));
+            return true;
+        }
+
+        private void pushLeft(Node<K, V> node) {
+            for(; node != null; node = node.left)
+                path.push(node);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if(path != null || subtree == null)
+                return null;
+            if(pending == null && subtree.left == null) {
+                // nothing to hand off on the left, so the root waits as
+                // pending and the right subtree is split instead
+                pending = subtree;
+                subtree = subtree.right;
+                if(subtree == null)
+                    return null;
+            }
+            TreeSpliterator<K, V, T> prefix = new TreeSpliterator<>(subtree.left, mapper, comparator);
+            if(pending != null) {
+                prefix.pending = pending;
+                prefix.remaining++;
+            }
+            pending = subtree;
+            subtree = subtree.right;
+            remaining -= prefix.remaining;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL
+                    | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return comparator;
+        }
+    }
+
+    private class KeyIterator extends NodeIterator<K> {
+        KeyIterator(Node<K, V> start, K fromKey) {
+            super(start, fromKey);
+        }
+
+        @Override
+        public K next() {
+            return nextNode().key;
+        }
+    }
+
+    private void checkKey(K key) {
+        assert key != null : "Null keys are not allowed";
+    }
+}
@@ -0,0 +1,196 @@
+package edu.sdsu.cs.util;
+
+import edu.sdsu.cs.datastructures.AddressablePriorityQueue;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times single source shortest paths over random sparse graphs, comparing
+ * Dijkstra's algorithm with decrease-key against the lazy deletion variant
+ * that re-offers a node whenever its distance improves.
+ * <p>Every epoch doubles the number of nodes. Each node has an edge to the
+ * next node, so every node is reachable, plus random edges with random
+ * weights. Both variants must find the same distances.</p>
+ */
+public final class GraphTimer {
+
+    private static final int DEFAULT_START_SIZE = 1 << 16;
+
+    /**
+     * The number of times the node count doubles during the tests.
+     */
+    private static final int DEFAULT_NUM_EPOCHS = 5;
+
+    private static final int RANDOM_EDGES_PER_NODE = 4;
+
+    private static final int MAX_WEIGHT = 100;
+
+    private GraphTimer() {
+    }
+
+    /**
+     * Runs both Dijkstra variants over graphs of growing size.
+     *
+     * @return A list, ready for writing, with the output results
+     */
+    public static List<String> timeDijkstra() {
+        List<String> decreaseKey = new LinkedList<>();
+        List<String> lazy = new LinkedList<>();
+        Random dice = new Random(310);
+
+        for (int epoch = 0; epoch < DEFAULT_NUM_EPOCHS; epoch++) {
+            Graph graph = new Graph(DEFAULT_START_SIZE << epoch, dice);
+
+            long startTime = System.nanoTime();
+            long[] expected = decreaseKeyDistances(graph);
+            decreaseKey.add(formatResult(graph.nodes, System.nanoTime() -
+                    startTime));
+
+            startTime = System.nanoTime();
+            long[] actual = lazyDistances(graph);
+            lazy.add(formatResult(graph.nodes, System.nanoTime() -
+                    startTime));
+
+            if (!Arrays.equals(expected, actual)) {
+                throw new IllegalStateException("Dijkstra variants disagree");
+            }
+        }
+
+        List<String> output = new LinkedList<>();
+        output.add(OutputStrings.getTimeTag());
+        writeSection(output, "AddressablePriorityQueue: decreaseKey",
+                decreaseKey);
+        writeSection(output, "PriorityQueue: re-offer, skip stale",
+                lazy);
+        output.add(OutputStrings.getTimeTag());
+        return output;
+    }
+
+    private static long[] decreaseKeyDistances(Graph graph) {
+        long[] dist = new long[graph.nodes];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        AddressablePriorityQueue.Handle<Entry>[] handles = newHandleArray
+                (graph.nodes);
+        AddressablePriorityQueue<Entry> queue = new
+                AddressablePriorityQueue<>();
+
+        dist[0] = 0;
+        handles[0] = queue.insert(new Entry(0, 0));
+        for (Entry next = queue.poll(); next != null; next = queue.poll()) {
+            for (int e = graph.offsets[next.node]; e < graph.offsets[next
+                    .node + 1]; e++) {
+                int target = graph.targets[e];
+                long candidate = next.distance + graph.weights[e];
+                if (candidate < dist[target]) {
+                    dist[target] = candidate;
+                    AddressablePriorityQueue.Handle<Entry> handle =
+                            handles[target];
+                    if (handle == null) {
+                        handles[target] = queue.insert(new Entry(target,
+                                candidate));
+                    } else {
+                        handle.decreaseKey(new Entry(target, candidate));
+                    }
+                }
+            }
+        }
+        return dist;
+    }
+
+    private static long[] lazyDistances(Graph graph) {
+        long[] dist = new long[graph.nodes];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        PriorityQueue<Entry> queue = new PriorityQueue<>();
+
+        dist[0] = 0;
+        queue.offer(new Entry(0, 0));
+        for (Entry next = queue.poll(); next != null; next = queue.poll()) {
+            if (next.distance > dist[next.node]) {
+                continue;
+            }
+            for (int e = graph.offsets[next.node]; e < graph.offsets[next
+                    .node + 1]; e++) {
+                int target = graph.targets[e];
+                long candidate = next.distance + graph.weights[e];
+                if (candidate < dist[target]) {
+                    dist[target] = candidate;
+                    queue.offer(new Entry(target, candidate));
+                }
+            }
+        }
+        return dist;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static AddressablePriorityQueue.Handle<Entry>[] newHandleArray
+            (int length) {
+        return (AddressablePriorityQueue.Handle<Entry>[]) new
+                AddressablePriorityQueue.Handle[length];
+    }
+
+    /**
+     * A node waiting in the queue at a tentative distance.
+     */
+    private static final class Entry implements Comparable<Entry> {
+        private final int node;
+        private final long distance;
+
+        Entry(int node, long distance) {
+            this.node = node;
+            this.distance = distance;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Long.compare(distance, other.distance);
+        }
+    }
+
+    /**
+     * Adjacency lists packed into arrays: the edges leaving node n are
+     * offsets[n] up to offsets[n + 1].
+     */
+    private static final class Graph {
+        private final int nodes;
+        private final int[] offsets;
+        private final int[] targets;
+        private final int[] weights;
+
+        Graph(int nodes, Random dice) {
+            this.nodes = nodes;
+            int degree = RANDOM_EDGES_PER_NODE + 1;
+            offsets = new int[nodes + 1];
+            targets = new int[nodes * degree];
+            weights = new int[nodes * degree];
+            for (int n = 0; n < nodes; n++) {
+                int base = n * degree;
+                offsets[n] = base;
+                targets[base] = (n + 1) % nodes;
+                weights[base] = MAX_WEIGHT;
+                for (int e = 1; e < degree; e++) {
+                    targets[base + e] = dice.nextInt(nodes);
+                    weights[base + e] = 1 + dice.nextInt(MAX_WEIGHT);
+                }
+            }
+            offsets[nodes] = nodes * degree;
+        }
+    }
+
+    private static String formatResult(int count, long elapsedNanos) {
+        return String.format("Size %07d: %8d mS", count, TimeUnit
+                .NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    private static void writeSection(List<String> output, String title,
+                                     List<String> results) {
+        output.add(OutputStrings.simpleDivider());
+        output.add(OutputStrings.titleDivider(title));
+        output.add(OutputStrings.simpleDivider());
+        output.addAll(results);
+    }
+}
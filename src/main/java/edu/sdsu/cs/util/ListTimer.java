@@ -124,10 +124,8 @@ public final class ListTimer {
 
         writeSeparator(output, String.format("%s: remove( <middle> )", sut
                 .getClass()));
-
-        // todo: BEGIN STUDENT CODE SECTION
-        output.add("REMOVE THIS AND REPLACE WITH CORRECT RESULTS");
-        // todo: END STUDENT CODE SECTION
+        test(new AddCommand<>(sut, values, false), endingSize, new
+                RemoveMiddleCommand<>(sut), endingSize, null, output);
 
         writeSeparator(output, String.format("%s: remove( 0 )", sut.getClass
                 ()));
@@ -136,9 +134,8 @@ public final class ListTimer {
 
         writeSeparator(output, String.format("%s: remove( <last> )", sut
                 .getClass()));
-        // todo: BEGIN STUDENT CODE SECTION
-        output.add("REMOVE THIS AND REPLACE WITH CORRECT RESULTS");
-        // todo: END STUDENT CODE SECTION
+        test(new AddCommand<>(sut, values, false), endingSize, new
+                RemoveLastCommand<>(sut), endingSize, null, output);
         return output;
     }
 
@@ -239,6 +236,28 @@ public final class ListTimer {
         }
     }
 
+    private static class RemoveMiddleCommand<E1> extends ListCommand<E1> {
+        RemoveMiddleCommand(List<E1> underTest) {
+            super(underTest, null);
+        }
+
+        @Override
+        public void execute() {
+            sut.remove(sut.size() >> 1);
+        }
+    }
+
+    private static class RemoveLastCommand<E1> extends ListCommand<E1> {
+        RemoveLastCommand(List<E1> underTest) {
+            super(underTest, null);
+        }
+
+        @Override
+        public void execute() {
+            sut.remove(sut.size() - 1);
+        }
+    }
+
     private static final class SetCommand<E1> extends ListCommand<E1> {
 
         int cursor = 0;
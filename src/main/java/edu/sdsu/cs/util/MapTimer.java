@@ -0,0 +1,331 @@
+package edu.sdsu.cs.util;
+
+import edu.sdsu.cs.datastructures.MapADT;
+import edu.sdsu.cs.datastructures.OrderedMapADT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * A selection of methods used to performance test on any data structure
+ * implementing the MapADT interface.
+ * <p>Every epoch doubles the number of keys. Within an epoch the same keys
+ * are inserted, looked up in shuffled order and, for ordered maps, used as
+ * the starting points of fixed-width range scans.</p>
+ */
+public final class MapTimer {
+
+    private static final int DEFAULT_START_SIZE = 1 << 14;
+
+    /**
+     * The number of times the input size doubles during the tests.
+     */
+    private static final int DEFAULT_NUM_EPOCHS = 5;
+
+    /**
+     * Number of consecutive keys visited by each range scan.
+     */
+    private static final int RANGE_SCAN_WIDTH = 64;
+
+    /**
+     * Total operations shared among the threads of a concurrent test.
+     */
+    private static final int CONCURRENT_OPS = 1 << 22;
+
+    /**
+     * One in this many concurrent operations writes; the rest are lookups.
+     */
+    private static final int CONCURRENT_WRITE_RATIO = 10;
+
+    /**
+     * Lookups performed per stored key in the skewed test.
+     */
+    private static final int SKEWED_LOOKUPS_PER_KEY = 4;
+
+    /**
+     * Keeps the JIT from discarding lookups whose results go unused.
+     */
+    private static volatile long sink;
+
+    private MapTimer() {
+    }
+
+    /**
+     * Performs insert, lookup and (for ordered maps) range scan timings.
+     *
+     * @param sut    Any data structure implementing the MapADT interface
+     * @param keys   The object to use when generating test keys
+     * @param <K>    What types of keys go in the map
+     * @return A list, ready for writing, with the output results
+     */
+    public static <K extends Comparable<K>> List<String> timeMap(MapADT<K,
+            Integer> sut, IValueGenerator<K> keys) {
+        List<String> inserts = new LinkedList<>();
+        List<String> lookups = new LinkedList<>();
+        List<String> scans = new LinkedList<>();
+        Random dice = new Random(310);
+
+        for (int epoch = 0; epoch < DEFAULT_NUM_EPOCHS; epoch++) {
+            int count = DEFAULT_START_SIZE << epoch;
+            List<K> testKeys = generateKeys(keys, count);
+
+            long startTime = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                sut.add(testKeys.get(i), i);
+            }
+            inserts.add(formatResult(count, System.nanoTime() - startTime));
+
+            Collections.shuffle(testKeys, dice);
+            lookups.add(formatResult(count, timeLookups(sut, testKeys)));
+
+            if (sut instanceof OrderedMapADT) {
+                scans.add(formatResult(count, timeRangeScans(
+                        (OrderedMapADT<K, Integer>) sut, testKeys, dice)));
+            }
+            sut.clear();
+        }
+
+        List<String> output = new LinkedList<>();
+        output.add(OutputStrings.getTimeTag());
+        writeSection(output, String.format("%s: add( K, V )", sut.getClass()
+                .getSimpleName()), inserts);
+        writeSection(output, String.format("%s: getValue( K )", sut
+                .getClass().getSimpleName()), lookups);
+        if (!scans.isEmpty()) {
+            writeSection(output, String.format("%s: keys( K, K ) x%d", sut
+                    .getClass().getSimpleName(), RANGE_SCAN_WIDTH), scans);
+        }
+        output.add(OutputStrings.getTimeTag());
+        return output;
+    }
+
+    /**
+     * Times a fixed, read-mostly workload split evenly across a doubling
+     * number of threads. A map which scales reports falling times.
+     *
+     * @param sut        A thread-safe data structure implementing MapADT
+     * @param keys       The object to use when generating test keys
+     * @param maxThreads highest thread count to test
+     * @param <K>        What types of keys go in the map
+     * @return A list, ready for writing, with the output results
+     * @throws InterruptedException if interrupted waiting for the workers
+     */
+    public static <K extends Comparable<K>> List<String> timeConcurrentMap
+            (MapADT<K, Integer> sut, IValueGenerator<K> keys, int
+                    maxThreads) throws InterruptedException {
+        List<K> testKeys = generateKeys(keys, DEFAULT_START_SIZE << 2);
+        for (int i = 0; i < testKeys.size(); i++) {
+            sut.add(testKeys.get(i), i);
+        }
+
+        List<String> output = new LinkedList<>();
+        output.add(OutputStrings.getTimeTag());
+        writeSection(output, String.format("%s: %d ops, 1/%d writes", sut
+                .getClass().getSimpleName(), CONCURRENT_OPS,
+                CONCURRENT_WRITE_RATIO), new LinkedList<>());
+        for (int threads = 1; threads <= maxThreads; threads <<= 1) {
+            output.add(String.format("Threads %03d: %8d mS", threads,
+                    TimeUnit.NANOSECONDS.toMillis(runConcurrent(sut,
+                            testKeys, threads))));
+        }
+        output.add(OutputStrings.getTimeTag());
+        sut.clear();
+        return output;
+    }
+
+    /**
+     * Times lookups whose keys follow a Zipf distribution: the k-th most
+     * popular key is requested with probability proportional to
+     * 1 / k^exponent. Which keys are popular is chosen at random.
+     *
+     * @param sut      Any data structure implementing the MapADT interface
+     * @param name     Label for the results
+     * @param keys     The object to use when generating test keys
+     * @param exponent skew of the distribution; 0 is uniform
+     * @param <K>      What types of keys go in the map
+     * @return A list, ready for writing, with the output results
+     */
+    public static <K extends Comparable<K>> List<String> timeSkewedLookups
+            (MapADT<K, Integer> sut, String name, IValueGenerator<K> keys,
+             double exponent) {
+        List<String> lookups = new LinkedList<>();
+        Random dice = new Random(310);
+
+        for (int epoch = 0; epoch < DEFAULT_NUM_EPOCHS; epoch++) {
+            List<K> distinct = new ArrayList<>(new LinkedHashSet<>
+                    (generateKeys(keys, DEFAULT_START_SIZE << epoch)));
+            for (int i = 0; i < distinct.size(); i++) {
+                sut.add(distinct.get(i), i);
+            }
+            Collections.shuffle(distinct, dice);
+            List<K> requests = zipfSample(distinct, distinct.size() *
+                    SKEWED_LOOKUPS_PER_KEY, exponent, dice);
+            lookups.add(formatResult(requests.size(), timeLookups(sut,
+                    requests)));
+            sut.clear();
+        }
+
+        List<String> output = new LinkedList<>();
+        output.add(OutputStrings.getTimeTag());
+        writeSection(output, String.format("%s: getValue( K ), zipf %.2f",
+                name, exponent), lookups);
+        output.add(OutputStrings.getTimeTag());
+        return output;
+    }
+
+    /**
+     * Times lookups in a map built once per epoch and never changed, such
+     * as an immutable map. Building is not timed.
+     *
+     * @param name   Label for the results
+     * @param build  Creates the map under test from the epoch's keys; each
+     *               key's value is its position in the list
+     * @param keys   The object to use when generating test keys
+     * @param <K>    What types of keys go in the map
+     * @return A list, ready for writing, with the output results
+     */
+    public static <K extends Comparable<K>> List<String> timeStaticLookups
+            (String name, Function<List<K>, MapADT<K, Integer>> build,
+             IValueGenerator<K> keys) {
+        List<String> lookups = new LinkedList<>();
+        Random dice = new Random(310);
+
+        for (int epoch = 0; epoch < DEFAULT_NUM_EPOCHS; epoch++) {
+            List<K> testKeys = generateKeys(keys, DEFAULT_START_SIZE << epoch);
+            MapADT<K, Integer> sut = build.apply(testKeys);
+            Collections.shuffle(testKeys, dice);
+            lookups.add(formatResult(testKeys.size(), timeLookups(sut,
+                    testKeys)));
+        }
+
+        List<String> output = new LinkedList<>();
+        output.add(OutputStrings.getTimeTag());
+        writeSection(output, name + ": getValue( K ), static", lookups);
+        output.add(OutputStrings.getTimeTag());
+        return output;
+    }
+
+    private static <K> List<K> zipfSample(List<K> byPopularity, int count,
+                                          double exponent, Random dice) {
+        double[] cumulative = new double[byPopularity.size()];
+        double total = 0;
+        for (int rank = 0; rank < cumulative.length; rank++) {
+            total += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+
+        List<K> sample = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int pos = Arrays.binarySearch(cumulative, dice.nextDouble() *
+                    total);
+            sample.add(byPopularity.get(Math.min((pos < 0) ? -(pos + 1) :
+                    pos, cumulative.length - 1)));
+        }
+        return sample;
+    }
+
+    private static <K extends Comparable<K>> long runConcurrent(MapADT<K,
+            Integer> sut, List<K> testKeys, int threads) throws
+            InterruptedException {
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(threads);
+        final int opsPerThread = CONCURRENT_OPS / threads;
+
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                ThreadLocalRandom dice = ThreadLocalRandom.current();
+                long found = 0;
+                try {
+                    start.await();
+                    for (int op = 0; op < opsPerThread; op++) {
+                        K key = testKeys.get(dice.nextInt(testKeys.size()));
+                        if (dice.nextInt(CONCURRENT_WRITE_RATIO) == 0) {
+                            sut.add(key, op);
+                        } else if (sut.getValue(key) != null) {
+                            found++;
+                        }
+                    }
+                    sink += found;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        long startTime = System.nanoTime();
+        start.countDown();
+        done.await();
+        return System.nanoTime() - startTime;
+    }
+
+    private static <K> List<K> generateKeys(IValueGenerator<K> keys, int
+            count) {
+        List<K> testKeys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            testKeys.add(keys.generate());
+        }
+        return testKeys;
+    }
+
+    private static <K extends Comparable<K>> long timeLookups(MapADT<K, ?>
+            sut, List<K> testKeys) {
+        long found = 0;
+        long startTime = System.nanoTime();
+        for (K key : testKeys) {
+            if (sut.getValue(key) != null) found++;
+        }
+        long elapsed = System.nanoTime() - startTime;
+        sink += found;
+        return elapsed;
+    }
+
+    private static <K extends Comparable<K>> long timeRangeScans
+            (OrderedMapADT<K, ?> sut, List<K> testKeys, Random dice) {
+        List<K> sorted = new ArrayList<>(testKeys);
+        Collections.sort(sorted);
+        int scans = testKeys.size() / RANGE_SCAN_WIDTH;
+        int[] starts = new int[scans];
+        for (int i = 0; i < scans; i++) {
+            starts[i] = dice.nextInt(sorted.size() - RANGE_SCAN_WIDTH);
+        }
+
+        long visited = 0;
+        long startTime = System.nanoTime();
+        for (int start : starts) {
+            Iterator<K> range = sut.keys(sorted.get(start), sorted.get(start
+                    + RANGE_SCAN_WIDTH));
+            while (range.hasNext()) {
+                range.next();
+                visited++;
+            }
+        }
+        long elapsed = System.nanoTime() - startTime;
+        sink += visited;
+        return elapsed;
+    }
+
+    private static String formatResult(int count, long elapsedNanos) {
+        return String.format("Size %07d: %8d mS", count, TimeUnit
+                .NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    private static void writeSection(List<String> output, String title,
+                                     List<String> results) {
+        output.add(OutputStrings.simpleDivider());
+        output.add(OutputStrings.titleDivider(title));
+        output.add(OutputStrings.simpleDivider());
+        output.addAll(results);
+    }
+}
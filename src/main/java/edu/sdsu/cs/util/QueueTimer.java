@@ -0,0 +1,473 @@
+package edu.sdsu.cs.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A selection of methods used to performance test on any data structure
+ * implementing the java.util.Deque interface.
+ * <p>Every epoch doubles the number of elements. Within an epoch the deque
+ * is filled at the tail, run as a FIFO queue at that size, run as a stack
+ * and finally drained from the tail.</p>
+ */
+public final class QueueTimer {
+
+    private static final int DEFAULT_START_SIZE = 1 << 16;
+
+    /**
+     * The number of times the input size doubles during the tests.
+     */
+    private static final int DEFAULT_NUM_EPOCHS = 5;
+
+    /**
+     * Queue operations performed per element held in the steady state test.
+     */
+    private static final int CHURN_PER_ELEMENT = 4;
+
+    /**
+     * Priority queues start smaller, since a sorted array queue inserts in
+     * linear time.
+     */
+    private static final int PRIORITY_START_SIZE = 1 << 12;
+
+    /**
+     * Bulk builds never shift element by element, so they start large
+     * enough to reach a million items in the last epoch.
+     */
+    private static final int BULK_START_SIZE = 1 << 16;
+
+    /**
+     * Events processed per simulation run, whatever the number pending.
+     */
+    private static final int SIMULATION_EVENTS = 1 << 20;
+
+    /**
+     * Events are scheduled between one and this many ticks ahead.
+     */
+    private static final int SIMULATION_MAX_DELAY = 1 << 10;
+
+    /**
+     * Offer and poll pairs performed, across all threads, per concurrent
+     * queue test.
+     */
+    private static final int CONCURRENT_PAIRS = 1 << 20;
+
+    /**
+     * Elements in the concurrent queue before the threads start, so polls
+     * see a realistic heap depth.
+     */
+    private static final int CONCURRENT_PREFILL = 1 << 14;
+
+    /**
+     * Elements passed from the producers to the consumer per handoff test.
+     */
+    private static final int HANDOFF_COUNT = 1 << 21;
+
+    /**
+     * Keeps the JIT from discarding removals whose results go unused.
+     */
+    private static volatile long sink;
+
+    private QueueTimer() {
+    }
+
+    /**
+     * Performs fill, FIFO, LIFO and drain timings.
+     *
+     * @param sut    Any data structure implementing the java.util.Deque
+     *               interface
+     * @param values The object to use when populating test data
+     * @param <E>    What types of values go in the deque
+     * @return A list, ready for writing, with the output results
+     */
+    public static <E> List<String> timeDeque(Deque<E> sut, IValueGenerator<E>
+            values) {
+        List<String> fills = new LinkedList<>();
+        List<String> fifo = new LinkedList<>();
+        List<String> lifo = new LinkedList<>();
+        List<String> drains = new LinkedList<>();
+
+        for (int epoch = 0; epoch < DEFAULT_NUM_EPOCHS; epoch++) {
+            int count = DEFAULT_START_SIZE << epoch;
+            List<E> testValues = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                testValues.add(values.generate());
+            }
+
+            long startTime = System.nanoTime();
+            for (E value : testValues) {
+                sut.offerLast(value);
+            }
+            fills.add(formatResult(count, System.nanoTime() - startTime));
+
+            fifo.add(formatResult(count * CHURN_PER_ELEMENT, timeChurn(sut,
+                    testValues, false)));
+            lifo.add(formatResult(count * CHURN_PER_ELEMENT, timeChurn(sut,
+                    testValues, true)));
+
+            long removed = 0;
+            startTime = System.nanoTime();
+            while (sut.pollLast() != null) {
+                removed++;
+            }
+            drains.add(formatResult(count, System.nanoTime() - startTime));
+            sink += removed;
+        }
+
+        String name = sut.getClass().getSimpleName();
+        List<String> output = new LinkedList<>();
+        output.add(OutputStrings.getTimeTag());
+        writeSection(output, name + ": offerLast( E )", fills);
+        writeSection(output, name + ": offerLast( E ) + pollFirst( )", fifo);
+        writeSection(output, name + ": push( E ) + pop( )", lifo);
+        writeSection(output, name + ": pollLast( )", drains);
+        output.add(OutputStrings.getTimeTag());
+        return output;
+    }
+
+    /**
+     * Times filling a priority queue with offer and then emptying it with
+     * poll, doubling the element count every epoch.
+     *
+     * @param sut    Any data structure implementing the java.util.Queue
+     *               interface
+     * @param name   Label for the results
+     * @param values The object to use when populating test data
+     * @param <E>    What types of values go in the queue
+     * @return A list, ready for writing, with the output results
+     */
+    public static <E> List<String> timePriorityQueue(Queue<E> sut, String
+            name, IValueGenerator<E> values) {
+        List<String> offers = new LinkedList<>();
+        List<String> polls = new LinkedList<>();
+
+        for (int epoch = 0; epoch < DEFAULT_NUM_EPOCHS; epoch++) {
+            int count = PRIORITY_START_SIZE << epoch;
+            List<E> testValues = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                testValues.add(values.generate());
+            }
+
+            long startTime = System.nanoTime();
+            for (E value : testValues) {
+                sut.offer(value);
+            }
+            offers.add(formatResult(count, System.nanoTime() - startTime));
+
+            long hashes = 0;
+            startTime = System.nanoTime();
+            for (E value = sut.poll(); value != null; value = sut.poll()) {
+                hashes += value.hashCode();
+            }
+            polls.add(formatResult(count, System.nanoTime() - startTime));
+            sink += hashes;
+        }
+
+        List<String> output = new LinkedList<>();
+        output.add(OutputStrings.getTimeTag());
+        writeSection(output, name + ": offer( E )", offers);
+        writeSection(output, name + ": poll( )", polls);
+        output.add(OutputStrings.getTimeTag());
+        return output;
+    }
+
+    /**
+     * Times building a queue from a whole collection at once, doubling the
+     * collection's size each epoch.
+     *
+     * @param builder Makes a populated queue from a collection
+     * @param name    Label for the results
+     * @param values  The object to use when populating test data
+     * @param <E>     What types of values go in the queue
+     * @return A list, ready for writing, with the output results
+     */
+    public static <E> List<String> timeBulkBuild(Function<Collection<E>,
+            Queue<E>> builder, String name, IValueGenerator<E> values) {
+        List<String> builds = new LinkedList<>();
+
+        for (int epoch = 0; epoch < DEFAULT_NUM_EPOCHS; epoch++) {
+            int count = BULK_START_SIZE << epoch;
+            List<E> testValues = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                testValues.add(values.generate());
+            }
+
+            long startTime = System.nanoTime();
+            Queue<E> built = builder.apply(testValues);
+            builds.add(formatResult(count, System.nanoTime() - startTime));
+            sink += built.peek().hashCode();
+        }
+
+        List<String> output = new LinkedList<>();
+        output.add(OutputStrings.getTimeTag());
+        writeSection(output, name + ": build from Collection", builds);
+        output.add(OutputStrings.getTimeTag());
+        return output;
+    }
+
+    /**
+     * Times a discrete event simulation in the hold model: each step polls
+     * the earliest event and schedules one a random delay after it, so the
+     * number of pending events stays fixed. It doubles each epoch.
+     *
+     * @param sut  Any priority queue; it is cleared before each epoch
+     * @param name Label for the results
+     * @return A list, ready for writing, with the output results
+     */
+    public static List<String> timeEventSimulation(Queue<Event> sut, String
+            name) {
+        Random dice = new Random(SIMULATION_EVENTS);
+        int[] delays = new int[SIMULATION_EVENTS];
+        for (int i = 0; i < delays.length; i++) {
+            delays[i] = 1 + dice.nextInt(SIMULATION_MAX_DELAY);
+        }
+        List<String> steps = new LinkedList<>();
+
+        for (int epoch = 0; epoch < DEFAULT_NUM_EPOCHS; epoch++) {
+            int pending = PRIORITY_START_SIZE << epoch;
+            sut.clear();
+            for (int i = 0; i < pending; i++) {
+                sut.offer(new Event(delays[i]));
+            }
+
+            long clock = 0;
+            long startTime = System.nanoTime();
+            for (int delay : delays) {
+                Event next = sut.poll();
+                clock = next.time;
+                sut.offer(new Event(clock + delay));
+            }
+            steps.add(formatResult(pending, System.nanoTime() - startTime));
+            sink += clock;
+        }
+        sut.clear();
+
+        List<String> output = new LinkedList<>();
+        output.add(OutputStrings.getTimeTag());
+        writeSection(output, String.format("%s: %d events by pending count",
+                name, SIMULATION_EVENTS), steps);
+        output.add(OutputStrings.getTimeTag());
+        return output;
+    }
+
+    /**
+     * A simulation event, ranked by the time it fires.
+     */
+    public static final class Event implements Comparable<Event> {
+        private final long time;
+
+        Event(long time) {
+            this.time = time;
+        }
+
+        /**
+         * Reports when the event fires.
+         *
+         * @return the firing time
+         */
+        public long getTime() {
+            return time;
+        }
+
+        @Override
+        public int compareTo(Event other) {
+            return Long.compare(time, other.time);
+        }
+    }
+
+    /**
+     * Times threads that each alternate one offer with one poll against a
+     * shared queue, doubling the number of threads up to the maximum.
+     *
+     * @param sut        Any thread-safe queue
+     * @param name       Label for the results
+     * @param values     The object to use when populating test data
+     * @param maxThreads the most threads to run at once
+     * @param <E>        What types of values go in the queue
+     * @return A list, ready for writing, with the output results
+     * @throws InterruptedException if interrupted waiting for a thread
+     */
+    public static <E> List<String> timeConcurrentQueue(BlockingQueue<E> sut,
+                                                       String name,
+                                                       IValueGenerator<E>
+                                                               values, int
+                                                               maxThreads)
+            throws InterruptedException {
+        List<E> testValues = new ArrayList<>(CONCURRENT_PREFILL);
+        for (int i = 0; i < CONCURRENT_PREFILL; i++) {
+            testValues.add(values.generate());
+        }
+        sut.addAll(testValues);
+
+        List<String> output = new LinkedList<>();
+        output.add(OutputStrings.getTimeTag());
+        writeSection(output, String.format("%s: %d offer + poll pairs",
+                name, CONCURRENT_PAIRS), new LinkedList<>());
+        for (int threads = 1; threads <= maxThreads; threads <<= 1) {
+            long elapsed = runConcurrentQueue(sut, testValues, threads);
+            output.add(String.format("Threads %03d: %8d mS", threads,
+                    TimeUnit.NANOSECONDS.toMillis(elapsed)));
+        }
+        output.add(OutputStrings.getTimeTag());
+        sut.clear();
+        return output;
+    }
+
+    private static <E> long runConcurrentQueue(BlockingQueue<E> sut,
+                                               List<E> testValues, int
+                                                       threadCount)
+            throws InterruptedException {
+        Thread[] threads = new Thread[threadCount];
+        long[] hashes = new long[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            final int id = t;
+            threads[t] = new Thread(() -> {
+                long sum = 0;
+                for (int i = id; i < CONCURRENT_PAIRS; i += threadCount) {
+                    sut.offer(testValues.get(i % testValues.size()));
+                    E value = sut.poll();
+                    if (value != null) {
+                        sum += value.hashCode();
+                    }
+                }
+                hashes[id] = sum;
+            });
+        }
+
+        long startTime = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - startTime;
+        for (long hash : hashes) {
+            sink += hash;
+        }
+        return elapsed;
+    }
+
+    /**
+     * Times passing elements from producer threads to the calling thread
+     * through a bounded queue, doubling the number of producers up to the
+     * maximum. A producer that finds the queue full, or a consumer that
+     * finds it empty, yields and tries again.
+     *
+     * @param name         Label for the results
+     * @param offer        adds one element, returning false if full; called
+     *                     from the producer threads
+     * @param poll         removes one element, returning null if empty;
+     *                     called from the consumer thread
+     * @param values       The object to use when populating test data
+     * @param maxProducers the most producer threads to run at once
+     * @param <E>          What types of values go in the queue
+     * @return A list, ready for writing, with the output results
+     * @throws InterruptedException if interrupted waiting for a producer
+     */
+    public static <E> List<String> timeHandoff(String name, Predicate<E>
+            offer, Supplier<E> poll, IValueGenerator<E> values, int
+            maxProducers) throws InterruptedException {
+        List<E> testValues = new ArrayList<>(HANDOFF_COUNT);
+        for (int i = 0; i < HANDOFF_COUNT; i++) {
+            testValues.add(values.generate());
+        }
+
+        List<String> output = new LinkedList<>();
+        output.add(OutputStrings.getTimeTag());
+        writeSection(output, String.format("%s: %d handoffs", name,
+                HANDOFF_COUNT), new LinkedList<>());
+        for (int producers = 1; producers <= maxProducers; producers <<= 1) {
+            long elapsed = runHandoff(offer, poll, testValues, producers);
+            output.add(String.format("Producers %03d: %8d mS %6d nS/op",
+                    producers, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    elapsed / HANDOFF_COUNT));
+        }
+        output.add(OutputStrings.getTimeTag());
+        return output;
+    }
+
+    private static <E> long runHandoff(Predicate<E> offer, Supplier<E> poll,
+                                       List<E> testValues, int producers)
+            throws InterruptedException {
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            List<E> share = testValues.subList(testValues.size() * p /
+                    producers, testValues.size() * (p + 1) / producers);
+            threads[p] = new Thread(() -> {
+                for (E value : share) {
+                    while (!offer.test(value)) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+
+        long hashes = 0;
+        long startTime = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (int received = 0; received < testValues.size(); ) {
+            E value = poll.get();
+            if (value == null) {
+                Thread.yield();
+            } else {
+                hashes += value.hashCode();
+                received++;
+            }
+        }
+        long elapsed = System.nanoTime() - startTime;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        sink += hashes;
+        return elapsed;
+    }
+
+    /**
+     * Alternates one insert with one removal, keeping the size constant.
+     */
+    private static <E> long timeChurn(Deque<E> sut, List<E> testValues,
+                                      boolean stack) {
+        int ops = testValues.size() * CHURN_PER_ELEMENT;
+        long hashes = 0;
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ops; i++) {
+            E value = testValues.get(i % testValues.size());
+            if (stack) {
+                sut.push(value);
+                hashes += sut.pop().hashCode();
+            } else {
+                sut.offerLast(value);
+                hashes += sut.pollFirst().hashCode();
+            }
+        }
+        long elapsed = System.nanoTime() - startTime;
+        sink += hashes;
+        return elapsed;
+    }
+
+    private static String formatResult(int count, long elapsedNanos) {
+        return String.format("Size %07d: %8d mS", count, TimeUnit
+                .NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    private static void writeSection(List<String> output, String title,
+                                     List<String> results) {
+        output.add(OutputStrings.simpleDivider());
+        output.add(OutputStrings.titleDivider(title));
+        output.add(OutputStrings.simpleDivider());
+        output.addAll(results);
+    }
+}
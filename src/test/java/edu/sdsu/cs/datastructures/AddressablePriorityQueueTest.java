@@ -0,0 +1,141 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the handle based priority queue.
+ */
+public class AddressablePriorityQueueTest extends TestCase {
+
+    private static final int DEFAULT_TEST_SIZE = 8086;
+
+    private AddressablePriorityQueue<Integer> sut;
+
+    public void setUp() throws Exception {
+        super.setUp();
+        sut = new AddressablePriorityQueue<>();
+    }
+
+    public void test_constructorDefault_correctInitialValues() {
+        assertThat(sut.size(), is(0));
+        assertNull(sut.peek());
+        assertNull(sut.poll());
+        try {
+            sut.remove();
+            fail("NoSuchElementException expected.");
+        } catch (NoSuchElementException e) {
+            assertTrue(true);
+        }
+    }
+
+    /**
+     * Applies random inserts, polls, priority changes and handle removals,
+     * checking every poll against a plain list searched for its minimum.
+     */
+    public void test_handleOperations_matchReference() {
+        List<AddressablePriorityQueue.Handle<Integer>> live = new
+                ArrayList<>();
+        Random dice = new Random(310);
+        for (int i = 0; i < DEFAULT_TEST_SIZE << 2; i++) {
+            int op = live.isEmpty() ? 0 : dice.nextInt(5);
+            if (op <= 1) {
+                live.add(sut.insert(dice.nextInt(DEFAULT_TEST_SIZE)));
+            } else if (op == 2) {
+                AddressablePriorityQueue.Handle<Integer> min = live.get(0);
+                for (AddressablePriorityQueue.Handle<Integer> h : live) {
+                    if (h.element() < min.element()) {
+                        min = h;
+                    }
+                }
+                assertThat(sut.poll(), is(min.element()));
+                live.removeIf(h -> !h.isQueued());
+            } else if (op == 3) {
+                AddressablePriorityQueue.Handle<Integer> h = live.get(dice
+                        .nextInt(live.size()));
+                h.updatePriority(dice.nextInt(DEFAULT_TEST_SIZE));
+            } else {
+                AddressablePriorityQueue.Handle<Integer> h = live.remove
+                        (dice.nextInt(live.size()));
+                assertTrue(h.remove());
+                assertFalse(h.remove());
+            }
+            assertThat(sut.size(), is(live.size()));
+        }
+
+        int previous = Integer.MIN_VALUE;
+        while (!sut.isEmpty()) {
+            int current = sut.poll();
+            assertTrue(current >= previous);
+            previous = current;
+        }
+    }
+
+    public void test_decreaseKey_movesToFrontAndKeepsArrivalOrder() {
+        List<AddressablePriorityQueue.Handle<Integer>> handles = new
+                ArrayList<>();
+        for (int i = 0; i < DEFAULT_TEST_SIZE; i++) {
+            handles.add(sut.insert(DEFAULT_TEST_SIZE + i));
+        }
+        handles.get(DEFAULT_TEST_SIZE - 1).decreaseKey(0);
+        handles.get(DEFAULT_TEST_SIZE / 2).decreaseKey(0);
+        assertSame(sut.peekHandle(), handles.get(DEFAULT_TEST_SIZE / 2));
+        assertThat(sut.poll(), is(0));
+        assertSame(sut.peekHandle(), handles.get(DEFAULT_TEST_SIZE - 1));
+
+        try {
+            handles.get(0).decreaseKey(DEFAULT_TEST_SIZE << 1);
+            fail("IllegalArgumentException expected.");
+        } catch (IllegalArgumentException e) {
+            assertTrue(true);
+        }
+    }
+
+    public void test_updateAfterPoll_exception() {
+        AddressablePriorityQueue.Handle<Integer> handle = sut.insert(1);
+        sut.poll();
+        assertFalse(handle.isQueued());
+        try {
+            handle.updatePriority(2);
+            fail("IllegalStateException expected.");
+        } catch (IllegalStateException e) {
+            assertTrue(true);
+        }
+    }
+
+    public void test_iterator_priorityChangedDuringIteration_failsFast() {
+        List<AddressablePriorityQueue.Handle<Integer>> handles = new
+                ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            handles.add(sut.insert(i));
+        }
+        Iterator<Integer> it = sut.iterator();
+        it.next();
+        handles.get(15).decreaseKey(-1);
+        try {
+            it.next();
+            fail("ConcurrentModificationException expected.");
+        } catch (ConcurrentModificationException e) {
+            assertTrue(true);
+        }
+
+        it = sut.iterator();
+        it.next();
+        handles.get(3).updatePriority(99);
+        try {
+            it.next();
+            fail("ConcurrentModificationException expected.");
+        } catch (ConcurrentModificationException e) {
+            assertTrue(true);
+        }
+    }
+}
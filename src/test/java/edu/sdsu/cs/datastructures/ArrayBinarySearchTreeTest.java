@@ -0,0 +1,94 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the array backed binary search tree.
+ */
+public class ArrayBinarySearchTreeTest extends TestCase {
+
+    private static final int TEST_SIZE = 1 << 15;
+
+    private final Random dice = new Random(310);
+
+    private void assertSameContents(TreeMap<Integer, Integer> expected,
+                                    ArrayBinarySearchTree<Integer, Integer>
+                                            sut) {
+        assertThat(sut.size(), is(equalTo(expected.size())));
+        Iterator<Integer> keys = sut.keys();
+        Iterator<Integer> values = sut.values();
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertThat(keys.next(), is(equalTo(entry.getKey())));
+            assertThat(values.next(), is(equalTo(entry.getValue())));
+        }
+        assertFalse(keys.hasNext());
+    }
+
+    public void test_randomOperations_matchTreeMap() {
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        ArrayBinarySearchTree<Integer, Integer> sut = new
+                ArrayBinarySearchTree<>();
+        for (int i = 0; i < TEST_SIZE; i++) {
+            int key = dice.nextInt(TEST_SIZE >> 2);
+            switch (dice.nextInt(4)) {
+                case 0:
+                    assertThat(sut.delete(key), is(expected.remove(key) !=
+                            null));
+                    break;
+                case 1:
+                    assertThat(sut.getValue(key), is(expected.get(key)));
+                    break;
+                default:
+                    assertThat(sut.add(key, i), is(expected.put(key, i)));
+            }
+        }
+        assertSameContents(expected, sut);
+    }
+
+    public void test_deleteThenAdd_reusesFreedSlots() {
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        ArrayBinarySearchTree<Integer, Integer> sut = new
+                ArrayBinarySearchTree<>(64);
+        for (int round = 0; round < 16; round++) {
+            for (int i = 0; i < 64; i++) {
+                int key = dice.nextInt(1 << 20);
+                sut.add(key, round);
+                expected.put(key, round);
+            }
+            while (expected.size() > 32) {
+                Integer key = expected.firstKey();
+                expected.remove(key);
+                assertTrue(sut.delete(key));
+            }
+        }
+        assertSameContents(expected, sut);
+
+        sut.clear();
+        assertTrue(sut.isEmpty());
+        assertFalse(sut.keys().hasNext());
+    }
+
+    public void test_keysRange_onlyKeysInRange() {
+        ArrayBinarySearchTree<Integer, Integer> sut = new
+                ArrayBinarySearchTree<>();
+        for (int i = 0; i < 1024; i += 2) {
+            sut.add((i * 7) % 1024, i);
+        }
+
+        Iterator<Integer> range = sut.keys(101, 201);
+        for (int expected = 102; expected < 201; expected += 2) {
+            assertThat(range.next(), is(equalTo(expected)));
+        }
+        assertFalse(range.hasNext());
+        assertThat(sut.getKey(14), is(equalTo(98)));
+    }
+}
@@ -5,9 +5,11 @@ import edu.sdsu.cs.util.NameGenerator;
 import junit.framework.TestCase;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Queue;
+import java.util.Random;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -97,6 +99,143 @@ public class ArrayPriorityQueueTest extends TestCase {
         }
     }
 
+    public void test_heapMode_priorityOrder_lowestFirst() {
+        final Queue<Integer> priorityQueue = new ArrayPriorityQueue<>
+                (ArrayPriorityQueue.Mode.HEAP);
+        for (Integer value : getSymmetricIntegers()) {
+            priorityQueue.offer(value);
+        }
+        assertThat(priorityQueue.size(), is(DEFAULT_TEST_SIZE));
+        for (int i = 1; i <= DEFAULT_TEST_SIZE; i++) {
+            assertThat(priorityQueue.poll(), is(i));
+        }
+        assertNull(priorityQueue.poll());
+    }
+
+    /**
+     * Interleaves offers and polls of items drawn from a few priorities;
+     * the heap must release equal items in arrival order, exactly as the
+     * sorted mode does.
+     */
+    public void test_heapMode_equalPriorities_arrivalOrderKept() {
+        Queue<Job> sorted = new ArrayPriorityQueue<>();
+        Queue<Job> heap = new ArrayPriorityQueue<>(ArrayPriorityQueue.Mode
+                .HEAP);
+        Random dice = new Random(310);
+        for (int i = 0; i < DEFAULT_TEST_SIZE; i++) {
+            if (dice.nextInt(3) == 0) {
+                assertSame(sorted.poll(), heap.poll());
+            } else {
+                Job job = new Job(dice.nextInt(8), i);
+                sorted.offer(job);
+                heap.offer(job);
+            }
+        }
+        while (!sorted.isEmpty()) {
+            assertSame(sorted.poll(), heap.poll());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    public void test_heapMode_iteratorRemove_unsupported() {
+        Queue<String> heap = new ArrayPriorityQueue<>(ArrayPriorityQueue
+                .Mode.HEAP);
+        for (String name : TEST_NAMES.subList(0, 16)) {
+            heap.offer(name);
+        }
+        Iterator<String> it = heap.iterator();
+        assertThat(it.next(), is(heap.peek()));
+        try {
+            it.remove();
+            fail("UnsupportedOperationException expected.");
+        } catch (UnsupportedOperationException e) {
+            assertTrue(true);
+        }
+    }
+
+    public void test_heapMode_clear_empties() {
+        Queue<Integer> heap = new ArrayPriorityQueue<>(ArrayPriorityQueue
+                .Mode.HEAP);
+        for (Integer value : getSymmetricIntegers()) {
+            heap.offer(value);
+        }
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        heap.offer(7);
+        assertThat(heap.poll(), is(7));
+    }
+
+    /**
+     * Bulk loads batches of tied jobs, some larger and some smaller than
+     * the queue already holds, into both modes; each must poll exactly as
+     * a queue fed one offer at a time.
+     */
+    public void test_offerAll_matchesSequentialOffers() {
+        for (ArrayPriorityQueue.Mode mode : ArrayPriorityQueue.Mode.values()) {
+            ArrayPriorityQueue<Job> bulk = new ArrayPriorityQueue<>(mode);
+            Queue<Job> single = new ArrayPriorityQueue<>();
+            Random dice = new Random(48);
+            int id = 0;
+            for (int batch = 0; batch < 12; batch++) {
+                List<Job> jobs = new ArrayList<>();
+                int count = dice.nextInt(batch < 4 ? 64 : 2048);
+                for (int i = 0; i < count; i++) {
+                    jobs.add(new Job(dice.nextInt(16), id++));
+                }
+                bulk.offerAll(jobs);
+                for (Job job : jobs) {
+                    single.offer(job);
+                }
+                for (int i = dice.nextInt(32); i > 0; i--) {
+                    assertSame(single.poll(), bulk.poll());
+                }
+                assertThat(bulk.size(), is(single.size()));
+            }
+            while (!single.isEmpty()) {
+                assertSame(single.poll(), bulk.poll());
+            }
+            assertTrue(bulk.isEmpty());
+        }
+    }
+
+    public void test_constructorCollection_heapMode_priorityOrder() {
+        final Queue<Integer> priorityQueue = new ArrayPriorityQueue<>
+                (ArrayPriorityQueue.Mode.HEAP, getSymmetricIntegers());
+        for (int i = 1; i <= DEFAULT_TEST_SIZE; i++) {
+            assertThat(priorityQueue.poll(), is(i));
+        }
+        assertNull(priorityQueue.poll());
+    }
+
+    public void test_offerAll_empty_unchanged() {
+        assertFalse(((ArrayPriorityQueue<String>) sut).offerAll(new
+                ArrayList<String>()));
+        assertThat(sut.size(), is(0));
+    }
+
+    /**
+     * Compares by priority alone, so distinct jobs can tie.
+     */
+    private static final class Job implements Comparable<Job> {
+        private final int priority;
+        private final int id;
+
+        Job(int priority, int id) {
+            this.priority = priority;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Job other) {
+            return Integer.compare(priority, other.priority);
+        }
+
+        @Override
+        public String toString() {
+            return priority + "#" + id;
+        }
+    }
+
     private List<Integer> getSymmetricIntegers() {
         final List<Integer> values = new ArrayList<>();
         for (int i = DEFAULT_TEST_SIZE; i > 0; i--) {
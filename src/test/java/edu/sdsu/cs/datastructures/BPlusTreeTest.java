@@ -0,0 +1,107 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the B+tree ordered map.
+ */
+public class BPlusTreeTest extends TestCase {
+
+    private static final int TEST_SIZE = 4096;
+    private static final int SMALL_ORDER = 4;
+
+    private OrderedMapADT<Integer, Integer> sut;
+
+    public void setUp() throws Exception {
+        super.setUp();
+        sut = new BPlusTree<>(SMALL_ORDER);
+    }
+
+    public void test_constructorDefault_initializedCorrectly() {
+        assertThat(sut.size(), is(equalTo(0)));
+        assertTrue(sut.isEmpty());
+        assertFalse(sut.keys().hasNext());
+    }
+
+    public void test_constructorSmallOrder_exception() {
+        try {
+            new BPlusTree<Integer, Integer>(SMALL_ORDER - 1);
+            fail("IllegalArgumentException expected.");
+        } catch (IllegalArgumentException e) {
+            assertTrue(true);
+        }
+    }
+
+    public void test_add_existingKey_returnsPreviousValue() {
+        assertNull(sut.add(1, 10));
+        assertThat(sut.add(1, 11), is(equalTo(10)));
+        assertThat(sut.getValue(1), is(equalTo(11)));
+        assertThat(sut.size(), is(equalTo(1)));
+    }
+
+    public void test_randomOperations_matchTreeMap() {
+        final TreeMap<Integer, Integer> expected = new TreeMap<>();
+        final Random dice = new Random(310);
+        for (int i = 0; i < TEST_SIZE << 2; i++) {
+            int key = dice.nextInt(TEST_SIZE);
+            if (dice.nextInt(3) == 0) {
+                assertThat(sut.delete(key), is(expected.remove(key) != null));
+            } else {
+                assertThat(sut.add(key, i), is(expected.put(key, i)));
+            }
+        }
+
+        assertThat(sut.size(), is(equalTo(expected.size())));
+        Iterator<Integer> keys = sut.keys();
+        Iterator<Integer> values = sut.values();
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertThat(keys.next(), is(equalTo(entry.getKey())));
+            assertThat(values.next(), is(equalTo(entry.getValue())));
+            assertTrue(sut.contains(entry.getKey()));
+        }
+        assertFalse(keys.hasNext());
+        assertFalse(values.hasNext());
+    }
+
+    public void test_deleteAll_emptyTree() {
+        for (int i = 0; i < TEST_SIZE; i++) {
+            sut.add(i, i);
+        }
+        for (int i = TEST_SIZE - 1; i >= 0; i--) {
+            assertTrue(sut.delete(i));
+            assertFalse(sut.contains(i));
+        }
+        assertTrue(sut.isEmpty());
+        assertFalse(sut.delete(0));
+    }
+
+    public void test_keysRange_onlyKeysInRange() {
+        for (int i = 0; i < TEST_SIZE; i += 2) {
+            sut.add(i, i);
+        }
+
+        Iterator<Integer> range = sut.keys(101, 201);
+        for (int expected = 102; expected < 201; expected += 2) {
+            assertThat(range.next(), is(equalTo(expected)));
+        }
+        assertFalse(range.hasNext());
+        assertFalse(sut.keys(TEST_SIZE, TEST_SIZE << 1).hasNext());
+    }
+
+    public void test_getKey_findsValue() {
+        for (int i = 0; i < TEST_SIZE; i++) {
+            sut.add(i, -i);
+        }
+        assertThat(sut.getKey(-310), is(equalTo(310)));
+        assertNull(sut.getKey(1));
+    }
+}
@@ -0,0 +1,169 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the binary search tree and its sorted bulk builder.
+ */
+public class BinarySearchTreeTest extends TestCase {
+
+    private static final int TEST_SIZE = 1 << 16;
+
+    private Integer[] getSequentialIntArray(int size) {
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++)
+            values[i] = i;
+
+        return values;
+    }
+
+    public void test_fromSortedArray_allEntriesInOrder() {
+        Integer[] keys = getSequentialIntArray(TEST_SIZE);
+        BinarySearchTree<Integer, Integer> sut = BinarySearchTree.fromSorted
+                (keys, keys);
+
+        assertThat(sut.size(), is(equalTo(TEST_SIZE)));
+        Iterator<Integer> sortedKeys = sut.keys();
+        Iterator<Integer> sortedValues = sut.values();
+        for (int i = 0; i < TEST_SIZE; i++) {
+            assertThat(sortedKeys.next(), is(equalTo(i)));
+            assertThat(sortedValues.next(), is(equalTo(i)));
+        }
+        assertFalse(sortedKeys.hasNext());
+        assertFalse(sortedValues.hasNext());
+    }
+
+    public void test_fromSortedSnapshot_lookupsAndUpdatesWork() {
+        BinarySearchTree<Integer, Integer> source = new BinarySearchTree<>();
+        for (int i = 0; i < 1024; i++) {
+            source.add((i * 7) % 1024, i);
+        }
+        BinarySearchTree<Integer, Integer> sut = BinarySearchTree.fromSorted
+                (source);
+
+        assertThat(sut.size(), is(equalTo(source.size())));
+        for (int i = 0; i < 1024; i++) {
+            assertThat(sut.getValue(i), is(equalTo(source.getValue(i))));
+        }
+        assertTrue(sut.delete(310));
+        assertNull(sut.add(5000, 1));
+        assertThat(sut.size(), is(equalTo(1024)));
+    }
+
+    public void test_fromSortedUnsorted_exception() {
+        try {
+            BinarySearchTree.fromSorted(new Integer[]{1, 3, 2}, new
+                    Integer[]{1, 2, 3});
+            fail("IllegalArgumentException expected.");
+        } catch (IllegalArgumentException e) {
+            assertTrue(true);
+        }
+
+        try {
+            BinarySearchTree.fromSorted(new Integer[]{1, 1}, new Integer[]{1,
+                    2});
+            fail("IllegalArgumentException expected for duplicates.");
+        } catch (IllegalArgumentException e) {
+            assertTrue(true);
+        }
+    }
+
+    public void test_fromSortedEmpty_emptyTree() {
+        BinarySearchTree<Integer, Integer> sut = BinarySearchTree.fromSorted
+                (new Integer[0], new Integer[0]);
+
+        assertTrue(sut.isEmpty());
+        assertThat(sut.size(), is(equalTo(0)));
+        assertNull(sut.getValue(1));
+    }
+
+    public void test_delete_keepsValuesWithKeys() {
+        BinarySearchTree<Integer, Integer> sut = new BinarySearchTree<>();
+        int[] keys = {50, 25, 75, 10, 30, 60, 90, 27};
+        for (int key : keys) {
+            sut.add(key, -key);
+        }
+
+        assertTrue(sut.delete(50));
+        assertThat(sut.size(), is(equalTo(keys.length - 1)));
+        for (int key : keys) {
+            if (key != 50) assertThat(sut.getValue(key), is(equalTo(-key)));
+        }
+    }
+
+    public void test_keysRange_onlyKeysInRange() {
+        BinarySearchTree<Integer, Integer> sut = new BinarySearchTree<>();
+        for (int i = 0; i < 1024; i += 2) {
+            sut.add((i * 7) % 1024, i);
+        }
+
+        Iterator<Integer> range = sut.keys(101, 201);
+        for (int expected = 102; expected < 201; expected += 2) {
+            assertThat(range.next(), is(equalTo(expected)));
+        }
+        assertFalse(range.hasNext());
+    }
+
+    public void test_parallelKeyStream_sortedAndComplete() {
+        Integer[] keys = getSequentialIntArray(TEST_SIZE);
+        BinarySearchTree<Integer, Integer> sut = BinarySearchTree.fromSorted
+                (keys, keys);
+
+        List<Integer> streamed = sut.keyStream().parallel().collect
+                (Collectors.toList());
+        assertThat(streamed, is(equalTo(new ArrayList<>(Arrays.asList(keys)))));
+        assertThat(sut.entryStream().parallel().filter(entry -> entry.getKey()
+                .equals(entry.getValue())).count(), is(equalTo((long)
+                TEST_SIZE)));
+    }
+
+    /**
+     * Ascending inserts leave an unbalanced tree with no left children at
+     * all, which must still split into many ordered pieces.
+     */
+    public void test_keySpliterator_ascendingInserts_splits() {
+        BinarySearchTree<Integer, Integer> sut = new BinarySearchTree<>();
+        for (int key = 0; key < 1000; key++) {
+            sut.add(key, key);
+        }
+
+        assertNotNull(sut.keySpliterator().trySplit());
+        List<Spliterator<Integer>> pieces = new ArrayList<>();
+        splitAll(sut.keySpliterator(), pieces);
+        assertTrue(pieces.size() >= 64);
+        List<Integer> streamed = new ArrayList<>();
+        for (Spliterator<Integer> piece : pieces) {
+            piece.forEachRemaining(streamed::add);
+        }
+        assertThat(streamed, is(equalTo(new ArrayList<>(Arrays.asList
+                (getSequentialIntArray(1000))))));
+        assertThat(sut.keyStream().parallel().collect(Collectors.toList()),
+                is(equalTo(streamed)));
+    }
+
+    /**
+     * Splits recursively until no piece splits further, keeping the pieces
+     * in encounter order.
+     */
+    private static <T> void splitAll(Spliterator<T> spliterator,
+                                     List<Spliterator<T>> pieces) {
+        Spliterator<T> prefix = spliterator.trySplit();
+        if (prefix == null) {
+            pieces.add(spliterator);
+            return;
+        }
+        splitAll(prefix, pieces);
+        splitAll(spliterator, pieces);
+    }
+}
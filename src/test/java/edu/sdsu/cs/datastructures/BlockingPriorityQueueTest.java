@@ -0,0 +1,143 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit and multi-thread tests for the blocking priority queue in both
+ * modes.
+ */
+public class BlockingPriorityQueueTest extends TestCase {
+
+    private static final int DEFAULT_TEST_SIZE = 8086;
+    private static final int NUM_THREADS = 4;
+    private static final int OPS_PER_THREAD = 20000;
+
+    public void test_strictMode_lowestFirstAndArrivalOrder() {
+        BlockingPriorityQueue<Job> sut = new BlockingPriorityQueue<>();
+        List<Job> expected = new ArrayList<>();
+        Random dice = new Random(310);
+        for (int i = 0; i < DEFAULT_TEST_SIZE; i++) {
+            Job job = new Job(dice.nextInt(16), i);
+            sut.offer(job);
+            expected.add(job);
+        }
+        expected.sort(null);
+        assertThat(sut.size(), is(DEFAULT_TEST_SIZE));
+        assertSame(sut.peek(), expected.get(0));
+
+        List<Job> drained = new ArrayList<>();
+        assertThat(sut.drainTo(drained, 10), is(10));
+        for (int i = 0; i < 10; i++) {
+            assertSame(drained.get(i), expected.get(i));
+        }
+        for (int i = 10; i < DEFAULT_TEST_SIZE; i++) {
+            assertSame(sut.poll(), expected.get(i));
+        }
+        assertNull(sut.poll());
+    }
+
+    public void test_relaxedMode_drainTo_everyElementOnce() {
+        BlockingPriorityQueue<Integer> sut = new BlockingPriorityQueue<>(8);
+        for (int i = 0; i < DEFAULT_TEST_SIZE; i++) {
+            sut.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+        assertThat(sut.drainTo(drained), is(DEFAULT_TEST_SIZE));
+        drained.sort(null);
+        for (int i = 0; i < DEFAULT_TEST_SIZE; i++) {
+            assertThat(drained.get(i), is(i));
+        }
+        assertTrue(sut.isEmpty());
+    }
+
+    public void test_pollTimeout_emptyQueue_returnsNull() throws Exception {
+        BlockingPriorityQueue<Integer> sut = new BlockingPriorityQueue<>();
+        assertNull(sut.poll(10, TimeUnit.MILLISECONDS));
+    }
+
+    public void test_take_waitsForProducer() throws Exception {
+        BlockingPriorityQueue<Integer> sut = new BlockingPriorityQueue<>(4);
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sut.put(42);
+        });
+        producer.start();
+        assertThat(sut.take(), is(42));
+        producer.join();
+    }
+
+    /**
+     * Producers offer distinct values while consumers take them; every
+     * value must be taken exactly once, checked with sums.
+     */
+    public void test_relaxedMode_concurrentProducersConsumers() throws
+            Exception {
+        BlockingPriorityQueue<Integer> sut = new BlockingPriorityQueue<>
+                (NUM_THREADS * 2);
+        AtomicLong taken = new AtomicLong();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < NUM_THREADS; t++) {
+            final int id = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < OPS_PER_THREAD; i++) {
+                    sut.offer(i * NUM_THREADS + id);
+                }
+            }));
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < OPS_PER_THREAD; i++) {
+                        taken.addAndGet(sut.take());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long n = (long) NUM_THREADS * OPS_PER_THREAD;
+        assertThat(taken.get(), is(n * (n - 1) / 2));
+        assertTrue(sut.isEmpty());
+        assertNull(sut.poll());
+    }
+
+    /**
+     * Compares by priority alone, so distinct jobs can tie.
+     */
+    private static final class Job implements Comparable<Job> {
+        private final int priority;
+        private final int id;
+
+        Job(int priority, int id) {
+            this.priority = priority;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Job other) {
+            return Integer.compare(priority, other.priority);
+        }
+
+        @Override
+        public String toString() {
+            return priority + "#" + id;
+        }
+    }
+}
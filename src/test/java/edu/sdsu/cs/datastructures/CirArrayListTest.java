@@ -4,9 +4,16 @@ import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.ArrayDeque;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.core.IsEqual.equalTo;
@@ -147,6 +154,210 @@ public class CirArrayListTest extends TestCase {
         }
     }
 
+    public void test_addRemove_randomPositions_matchArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        Random dice = new Random(310);
+        for (int i = 0; i < TEST_SIZE << 4; i++) {
+            // drift the size up and down so the contents wrap repeatedly
+            boolean grow = ((i / TEST_SIZE) % 2 == 0);
+            if (expected.isEmpty() || dice.nextInt(3) != 0 == grow) {
+                int index = dice.nextInt(expected.size() + 1);
+                sut.add(index, i);
+                expected.add(index, i);
+            } else {
+                int index = dice.nextInt(expected.size());
+                assertThat(sut.remove(index), is(equalTo(expected.remove
+                        (index))));
+            }
+        }
+        assertThat(sut, is(equalTo(expected)));
+    }
+
+    public void test_add_indexOutOfBounds_exceptionThrown() {
+        try {
+            sut.add(1, VALUE_IGNORE);
+            fail("IndexOutOfBoundsException expected for > size()");
+        } catch (IndexOutOfBoundsException e) {
+            assertTrue(true);
+        }
+    }
+
+    public void test_bulkAddAndRemoveRange_matchArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        Random dice = new Random(310);
+        int next = 0;
+        for (int i = 0; i < 512; i++) {
+            if (expected.size() < 64 || dice.nextBoolean()) {
+                List<Integer> batch = new ArrayList<>();
+                for (int k = dice.nextInt(64); k > 0; k--) {
+                    batch.add(next++);
+                }
+                int index = dice.nextInt(expected.size() + 1);
+                assertThat(sut.addAll(index, batch), is(expected.addAll
+                        (index, batch)));
+            } else {
+                int from = dice.nextInt(expected.size());
+                int to = from + dice.nextInt(expected.size() - from + 1);
+                sut.subList(from, to).clear();
+                expected.subList(from, to).clear();
+            }
+            assertThat(sut, is(equalTo(expected)));
+        }
+    }
+
+    public void test_dequeOperations_matchArrayDeque() {
+        CirArrayList<Integer> deque = new CirArrayList<>();
+        Deque<Integer> expected = new ArrayDeque<>();
+        Random dice = new Random(310);
+        for (int i = 0; i < TEST_SIZE << 4; i++) {
+            switch (dice.nextInt(6)) {
+                case 0:
+                    deque.offerFirst(i);
+                    expected.offerFirst(i);
+                    break;
+                case 1:
+                    deque.offerLast(i);
+                    expected.offerLast(i);
+                    break;
+                case 2:
+                    assertThat(deque.pollFirst(), is(expected.pollFirst()));
+                    break;
+                case 3:
+                    assertThat(deque.pollLast(), is(expected.pollLast()));
+                    break;
+                case 4:
+                    assertThat(deque.peekFirst(), is(expected.peekFirst()));
+                    break;
+                default:
+                    assertThat(deque.peekLast(), is(expected.peekLast()));
+            }
+            assertThat(deque.size(), is(equalTo(expected.size())));
+        }
+
+        Iterator<Integer> descending = deque.descendingIterator();
+        for (Iterator<Integer> it = expected.descendingIterator(); it
+                .hasNext(); ) {
+            assertThat(descending.next(), is(equalTo(it.next())));
+        }
+        assertFalse(descending.hasNext());
+    }
+
+    public void test_dequeEmpty_exceptionsAndNulls() {
+        CirArrayList<Integer> deque = new CirArrayList<>();
+        assertNull(deque.pollLast());
+        assertNull(deque.peek());
+        try {
+            deque.removeLast();
+            fail("NoSuchElementException expected.");
+        } catch (java.util.NoSuchElementException e) {
+            assertTrue(true);
+        }
+
+        deque.push(1);
+        deque.push(2);
+        assertThat(deque.pop(), is(equalTo(2)));
+        assertThat(deque.getLast(), is(equalTo(1)));
+    }
+
+    /**
+     * Fills the list so its contents wrap around the end of the array, then
+     * compares every traversal path against ArrayList.
+     */
+    public void test_traversals_wrappedContents_matchArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        CirArrayList<Integer> deque = new CirArrayList<>();
+        for (int i = 0; i < TEST_SIZE; i++) {
+            deque.addFirst(-i);
+            deque.addLast(i);
+        }
+        expected.addAll(deque);
+
+        List<Integer> seen = new ArrayList<>();
+        deque.forEach(seen::add);
+        assertThat(seen, is(equalTo(expected)));
+        seen.clear();
+        deque.iterator().forEachRemaining(seen::add);
+        assertThat(seen, is(equalTo(expected)));
+        assertThat(deque.stream().collect(Collectors.toList()), is(equalTo
+                (expected)));
+        assertThat(deque.parallelStream().mapToLong(Integer::longValue)
+                .sum(), is(equalTo(expected.stream().mapToLong
+                (Integer::longValue).sum())));
+        assertThat(deque.spliterator().getExactSizeIfKnown(), is(equalTo(
+                (long) expected.size())));
+
+        deque.replaceAll(value -> value * 3);
+        expected.replaceAll(value -> value * 3);
+        assertThat(deque, is(equalTo(expected)));
+        assertThat(deque.removeIf(value -> value % 2 == 0), is(true));
+        expected.removeIf(value -> value % 2 == 0);
+        assertThat(deque, is(equalTo(expected)));
+        assertThat(deque.removeIf(value -> value % 2 == 0), is(false));
+    }
+
+    public void test_iterator_modifiedDuringIteration_failsFast() {
+        sut.addAll(Arrays.asList(getSequentialIntArray(TEST_SIZE)));
+        try {
+            for (Integer value : sut) {
+                if (value == TEST_SIZE / 2) {
+                    sut.add(VALUE_IGNORE);
+                }
+            }
+            fail("ConcurrentModificationException expected");
+        } catch (ConcurrentModificationException e) {
+            assertTrue(true);
+        }
+
+        try {
+            sut.forEach(value -> sut.remove(0));
+            fail("ConcurrentModificationException expected");
+        } catch (ConcurrentModificationException e) {
+            assertTrue(true);
+        }
+    }
+
+    public void test_descendingIterator_modifiedDuringIteration_failsFast() {
+        CirArrayList<Integer> deque = new CirArrayList<>(Arrays.asList
+                (getSequentialIntArray(TEST_SIZE)));
+        try {
+            for (Iterator<Integer> it = deque.descendingIterator(); it.hasNext(); ) {
+                if (it.next() == TEST_SIZE / 2) {
+                    deque.addFirst(VALUE_IGNORE);
+                }
+            }
+            fail("ConcurrentModificationException expected");
+        } catch (ConcurrentModificationException e) {
+            assertTrue(true);
+        }
+    }
+
+    public void test_descendingIteratorRemove_oddValues_nonePresent() {
+        CirArrayList<Integer> deque = new CirArrayList<>(Arrays.asList
+                (getSequentialIntArray(TEST_SIZE)));
+        for (Iterator<Integer> it = deque.descendingIterator(); it.hasNext(); ) {
+            if (it.next() % 2 == 1) {
+                it.remove();
+            }
+        }
+        assertThat(deque.size(), is(TEST_SIZE / 2));
+        for (int i = 0; i < deque.size(); i++) {
+            assertThat(deque.get(i), is(i * 2));
+        }
+    }
+
+    public void test_iteratorRemove_oddValues_nonePresent() {
+        sut.addAll(Arrays.asList(getSequentialIntArray(TEST_SIZE)));
+        for (Iterator<Integer> it = sut.iterator(); it.hasNext(); ) {
+            if (it.next() % 2 == 1) {
+                it.remove();
+            }
+        }
+        assertThat(sut.size(), is(equalTo(TEST_SIZE / 2)));
+        for (int i = 0; i < sut.size(); i++) {
+            assertThat(sut.get(i), is(equalTo(i * 2)));
+        }
+    }
+
     public void test_set_sequentialValues_contentsCorrect() {
         sut = new CirArrayList<>(Arrays.asList(getInvalidInitializedIntArray(TEST_SIZE)));
         for (int count = 0; count < TEST_SIZE; count++) {
@@ -0,0 +1,130 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the unboxed double circular array list.
+ */
+public class CirDoubleArrayListTest extends TestCase {
+
+    private static final int TEST_SIZE = 2048;
+
+    private final Random dice = new Random(310);
+
+    private CirDoubleArrayList sut = new CirDoubleArrayList();
+
+    public void test_addRemove_randomPositions_matchArrayList() {
+        List<Double> expected = new ArrayList<>();
+        for (int i = 0; i < TEST_SIZE << 4; i++) {
+            boolean grow = ((i / TEST_SIZE) % 2 == 0);
+            if (expected.isEmpty() || dice.nextInt(3) != 0 == grow) {
+                int index = dice.nextInt(expected.size() + 1);
+                sut.add(index, i);
+                expected.add(index, (double) i);
+            } else {
+                int index = dice.nextInt(expected.size());
+                assertThat(sut.remove(index), is(equalTo(expected.remove
+                        (index))));
+            }
+        }
+
+        assertThat(sut.size(), is(equalTo(expected.size())));
+        PrimitiveIterator.OfDouble it = sut.iterator();
+        for (Double value : expected) {
+            assertThat(it.nextDouble(), is(equalTo(value)));
+        }
+        assertFalse(it.hasNext());
+    }
+
+    public void test_endsOperations_matchArrayDeque() {
+        Deque<Double> expected = new ArrayDeque<>();
+        for (int i = 0; i < TEST_SIZE << 4; i++) {
+            int op = expected.isEmpty() ? dice.nextInt(2) : dice.nextInt(4);
+            switch (op) {
+                case 0:
+                    sut.addFirst(i);
+                    expected.addFirst((double) i);
+                    break;
+                case 1:
+                    sut.addLast(i);
+                    expected.addLast((double) i);
+                    break;
+                case 2:
+                    assertThat(sut.removeFirst(), is(equalTo(expected
+                            .removeFirst())));
+                    break;
+                default:
+                    assertThat(sut.removeLast(), is(equalTo(expected
+                            .removeLast())));
+            }
+        }
+        assertThat(sut.size(), is(equalTo(expected.size())));
+    }
+
+    public void test_bulkCopyAndStream_acrossWrapAround() {
+        for (int i = 0; i < TEST_SIZE; i++) {
+            sut.addLast(i);
+        }
+        for (int i = 0; i < TEST_SIZE / 2; i++) {
+            sut.removeFirst();
+        }
+        double[] more = new double[TEST_SIZE];
+        for (int i = 0; i < more.length; i++) {
+            more[i] = TEST_SIZE + i;
+        }
+        sut.addAll(more, 0, more.length);
+
+        double[] all = sut.toArray();
+        assertThat(all.length, is(equalTo(TEST_SIZE * 3 / 2)));
+        for (int i = 0; i < all.length; i++) {
+            assertThat(all[i], is(equalTo((double) (TEST_SIZE / 2 + i))));
+        }
+        assertThat(sut.stream().sum(), is(equalTo(new CirDoubleArrayList(all)
+                .stream().sum())));
+        assertThat(sut.stream().count(), is(equalTo((long) all.length)));
+    }
+
+    /**
+     * NaN and negative zero compare oddly with ==, so their exact bits are
+     * checked after a trip through copyTo and toArray.
+     */
+    public void test_nanAndNegativeZero_roundTripBitExact() {
+        double[] special = {Double.NaN, -0.0, 0.0, Double
+                .NEGATIVE_INFINITY, Double.MIN_VALUE};
+        sut.addAll(special, 0, special.length);
+        sut.addFirst(1.5);
+        sut.removeFirst();
+
+        double[] copy = new double[special.length];
+        sut.copyTo(0, copy, 0, copy.length);
+        double[] all = sut.toArray();
+        for (int i = 0; i < special.length; i++) {
+            long bits = Double.doubleToRawLongBits(special[i]);
+            assertThat(Double.doubleToRawLongBits(copy[i]), is(bits));
+            assertThat(Double.doubleToRawLongBits(all[i]), is(bits));
+        }
+        assertTrue(Double.isNaN(sut.getFirst()));
+        assertThat(Double.doubleToRawLongBits(sut.get(1)), is(Double
+                .doubleToRawLongBits(-0.0)));
+    }
+
+    public void test_get_indexOutOfBounds_exceptionThrown() {
+        try {
+            sut.get(0);
+            fail("IndexOutOfBoundsException expected for == size()");
+        } catch (IndexOutOfBoundsException e) {
+            assertTrue(true);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the unboxed int circular array list.
+ */
+public class CirIntArrayListTest extends TestCase {
+
+    private static final int TEST_SIZE = 2048;
+
+    private final Random dice = new Random(310);
+
+    private CirIntArrayList sut = new CirIntArrayList();
+
+    public void test_addRemove_randomPositions_matchArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < TEST_SIZE << 4; i++) {
+            boolean grow = ((i / TEST_SIZE) % 2 == 0);
+            if (expected.isEmpty() || dice.nextInt(3) != 0 == grow) {
+                int index = dice.nextInt(expected.size() + 1);
+                sut.add(index, i);
+                expected.add(index, i);
+            } else {
+                int index = dice.nextInt(expected.size());
+                assertThat(sut.remove(index), is(equalTo(expected.remove
+                        (index))));
+            }
+        }
+
+        assertThat(sut.size(), is(equalTo(expected.size())));
+        PrimitiveIterator.OfInt it = sut.iterator();
+        for (Integer value : expected) {
+            assertThat(it.nextInt(), is(equalTo(value)));
+        }
+        assertFalse(it.hasNext());
+    }
+
+    public void test_endsOperations_matchArrayDeque() {
+        Deque<Integer> expected = new ArrayDeque<>();
+        for (int i = 0; i < TEST_SIZE << 4; i++) {
+            int op = expected.isEmpty() ? dice.nextInt(2) : dice.nextInt(4);
+            switch (op) {
+                case 0:
+                    sut.addFirst(i);
+                    expected.addFirst(i);
+                    break;
+                case 1:
+                    sut.addLast(i);
+                    expected.addLast(i);
+                    break;
+                case 2:
+                    assertThat(sut.removeFirst(), is(equalTo(expected
+                            .removeFirst())));
+                    break;
+                default:
+                    assertThat(sut.removeLast(), is(equalTo(expected
+                            .removeLast())));
+            }
+        }
+        assertThat(sut.size(), is(equalTo(expected.size())));
+    }
+
+    public void test_bulkCopyAndStream_acrossWrapAround() {
+        for (int i = 0; i < TEST_SIZE; i++) {
+            sut.addLast(i);
+        }
+        for (int i = 0; i < TEST_SIZE / 2; i++) {
+            sut.removeFirst();
+        }
+        int[] more = new int[TEST_SIZE];
+        for (int i = 0; i < more.length; i++) {
+            more[i] = TEST_SIZE + i;
+        }
+        sut.addAll(more, 0, more.length);
+
+        int[] all = sut.toArray();
+        assertThat(all.length, is(equalTo(TEST_SIZE * 3 / 2)));
+        for (int i = 0; i < all.length; i++) {
+            assertThat(all[i], is(equalTo(TEST_SIZE / 2 + i)));
+        }
+        assertThat(sut.stream().sum(), is(equalTo(new CirIntArrayList(all)
+                .stream().sum())));
+        assertThat(sut.stream().count(), is(equalTo((long) all.length)));
+    }
+
+    /**
+     * The extremes of int must survive a trip around the wrap point and
+     * out through copyTo unchanged.
+     */
+    public void test_extremeValues_roundTripThroughCopyTo() {
+        int[] extremes = {Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE};
+        for (int i = 0; i < 14; i++) {
+            sut.addLast(i);
+        }
+        for (int i = 0; i < 14; i++) {
+            sut.removeFirst();
+        }
+        sut.addAll(extremes, 0, extremes.length);
+        sut.set(1, Integer.MAX_VALUE);
+
+        int[] copy = new int[extremes.length + 1];
+        sut.copyTo(0, copy, 1, extremes.length);
+        assertThat(copy[1], is(Integer.MIN_VALUE));
+        assertThat(copy[2], is(Integer.MAX_VALUE));
+        assertThat(copy[4], is(Integer.MAX_VALUE));
+        assertThat(sut.stream().asLongStream().sum(), is(2L * Integer
+                .MAX_VALUE + Integer.MIN_VALUE));
+    }
+
+    public void test_get_indexOutOfBounds_exceptionThrown() {
+        try {
+            sut.get(0);
+            fail("IndexOutOfBoundsException expected for == size()");
+        } catch (IndexOutOfBoundsException e) {
+            assertTrue(true);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the unboxed long circular array list.
+ */
+public class CirLongArrayListTest extends TestCase {
+
+    private static final int TEST_SIZE = 2048;
+
+    private final Random dice = new Random(310);
+
+    private CirLongArrayList sut = new CirLongArrayList();
+
+    public void test_addRemove_randomPositions_matchArrayList() {
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < TEST_SIZE << 4; i++) {
+            boolean grow = ((i / TEST_SIZE) % 2 == 0);
+            if (expected.isEmpty() || dice.nextInt(3) != 0 == grow) {
+                int index = dice.nextInt(expected.size() + 1);
+                sut.add(index, i);
+                expected.add(index, (long) i);
+            } else {
+                int index = dice.nextInt(expected.size());
+                assertThat(sut.remove(index), is(equalTo(expected.remove
+                        (index))));
+            }
+        }
+
+        assertThat(sut.size(), is(equalTo(expected.size())));
+        PrimitiveIterator.OfLong it = sut.iterator();
+        for (Long value : expected) {
+            assertThat(it.nextLong(), is(equalTo(value)));
+        }
+        assertFalse(it.hasNext());
+    }
+
+    public void test_endsOperations_matchArrayDeque() {
+        Deque<Long> expected = new ArrayDeque<>();
+        for (int i = 0; i < TEST_SIZE << 4; i++) {
+            int op = expected.isEmpty() ? dice.nextInt(2) : dice.nextInt(4);
+            switch (op) {
+                case 0:
+                    sut.addFirst(i);
+                    expected.addFirst((long) i);
+                    break;
+                case 1:
+                    sut.addLast(i);
+                    expected.addLast((long) i);
+                    break;
+                case 2:
+                    assertThat(sut.removeFirst(), is(equalTo(expected
+                            .removeFirst())));
+                    break;
+                default:
+                    assertThat(sut.removeLast(), is(equalTo(expected
+                            .removeLast())));
+            }
+        }
+        assertThat(sut.size(), is(equalTo(expected.size())));
+    }
+
+    public void test_bulkCopyAndStream_acrossWrapAround() {
+        for (int i = 0; i < TEST_SIZE; i++) {
+            sut.addLast(i);
+        }
+        for (int i = 0; i < TEST_SIZE / 2; i++) {
+            sut.removeFirst();
+        }
+        long[] more = new long[TEST_SIZE];
+        for (int i = 0; i < more.length; i++) {
+            more[i] = TEST_SIZE + i;
+        }
+        sut.addAll(more, 0, more.length);
+
+        long[] all = sut.toArray();
+        assertThat(all.length, is(equalTo(TEST_SIZE * 3 / 2)));
+        for (int i = 0; i < all.length; i++) {
+            assertThat(all[i], is(equalTo((long) (TEST_SIZE / 2 + i))));
+        }
+        assertThat(sut.stream().sum(), is(equalTo(new CirLongArrayList(all)
+                .stream().sum())));
+        assertThat(sut.stream().count(), is(equalTo((long) all.length)));
+    }
+
+    /**
+     * Values beyond the range of int must not be truncated anywhere.
+     */
+    public void test_valuesAboveIntRange_roundTripThroughCopyTo() {
+        long[] large = {1L << 31, (1L << 40) + 7, Long.MIN_VALUE, Long
+                .MAX_VALUE};
+        for (long value : large) {
+            sut.addFirst(value);
+        }
+        sut.set(0, (1L << 33) - 1);
+
+        long[] copy = new long[large.length];
+        sut.copyTo(0, copy, 0, copy.length);
+        assertThat(copy[0], is((1L << 33) - 1));
+        assertThat(copy[1], is(Long.MIN_VALUE));
+        assertThat(copy[2], is((1L << 40) + 7));
+        assertThat(copy[3], is(1L << 31));
+        assertThat(sut.toArray()[1], is(Long.MIN_VALUE));
+        assertThat(sut.removeLast(), is(1L << 31));
+    }
+
+    public void test_get_indexOutOfBounds_exceptionThrown() {
+        try {
+            sut.get(0);
+            fail("IndexOutOfBoundsException expected for == size()");
+        } catch (IndexOutOfBoundsException e) {
+            assertTrue(true);
+        }
+    }
+}
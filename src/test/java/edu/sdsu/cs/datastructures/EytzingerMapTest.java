@@ -0,0 +1,75 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the immutable Eytzinger layout map.
+ */
+public class EytzingerMapTest extends TestCase {
+
+    private final Random dice = new Random(310);
+
+    public void test_freezeEverySize_lookupsAndOrderMatch() {
+        for (int count = 0; count < 130; count++) {
+            TreeMap<Integer, Integer> expected = new TreeMap<>();
+            BinarySearchTree<Integer, Integer> tree = new BinarySearchTree<>();
+            while (expected.size() < count) {
+                int key = dice.nextInt(1000) * 2;
+                tree.add(key, -key);
+                expected.put(key, -key);
+            }
+            EytzingerMap<Integer, Integer> sut = tree.freeze();
+
+            assertThat(sut.size(), is(equalTo(count)));
+            Iterator<Integer> keys = sut.keys();
+            Iterator<Integer> values = sut.values();
+            for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+                assertThat(keys.next(), is(equalTo(entry.getKey())));
+                assertThat(values.next(), is(equalTo(entry.getValue())));
+            }
+            assertFalse(keys.hasNext());
+            for (int key = -1; key <= 2000; key++) {
+                assertThat(sut.getValue(key), is(expected.get(key)));
+            }
+        }
+    }
+
+    public void test_keysRange_onlyKeysInRange() {
+        BinarySearchTree<Integer, Integer> tree = new BinarySearchTree<>();
+        for (int i = 0; i < 1024; i += 2) {
+            tree.add((i * 7) % 1024, i);
+        }
+        EytzingerMap<Integer, Integer> sut = tree.freeze();
+
+        Iterator<Integer> range = sut.keys(101, 201);
+        for (int expected = 102; expected < 201; expected += 2) {
+            assertThat(range.next(), is(equalTo(expected)));
+        }
+        assertFalse(range.hasNext());
+        assertFalse(sut.keys(2000, 3000).hasNext());
+    }
+
+    public void test_freeze_unaffectedByLaterUpdates() {
+        BinarySearchTree<Integer, Integer> tree = new BinarySearchTree<>();
+        tree.add(1, 1);
+        EytzingerMap<Integer, Integer> sut = tree.freeze();
+        tree.add(2, 2);
+
+        assertFalse(sut.contains(2));
+        try {
+            sut.add(3, 3);
+            fail("UnsupportedOperationException expected.");
+        } catch (UnsupportedOperationException e) {
+            assertTrue(true);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the hash table's streams and spliterators.
+ */
+public class HashTableTest extends TestCase {
+
+    private static final int TEST_SIZE = 1 << 14;
+
+    private HashTable<Integer, Integer> sut;
+
+    public void setUp() throws Exception {
+        super.setUp();
+        sut = new HashTable<>();
+        for (int i = 0; i < TEST_SIZE; i++) {
+            sut.add(i, -i);
+        }
+    }
+
+    public void test_keySpliterator_sizedUntilSplit() {
+        Spliterator<Integer> keys = sut.keySpliterator();
+        assertTrue(keys.hasCharacteristics(Spliterator.SIZED));
+        assertThat(keys.getExactSizeIfKnown(), is(equalTo((long) TEST_SIZE)));
+
+        Spliterator<Integer> upper = keys.trySplit();
+        assertNotNull(upper);
+        assertFalse(keys.hasCharacteristics(Spliterator.SIZED));
+        assertThat(keys.estimateSize() + upper.estimateSize(), is(equalTo(
+                (long) TEST_SIZE)));
+    }
+
+    public void test_parallelKeyStream_everyKeyOnce() {
+        long sum = sut.keyStream().parallel().mapToLong(Integer::longValue)
+                .sum();
+        assertThat(sum, is(equalTo((long) TEST_SIZE * (TEST_SIZE - 1) / 2)));
+        assertThat(sut.keyStream().parallel().distinct().count(), is(equalTo(
+                (long) TEST_SIZE)));
+    }
+
+    public void test_parallelEntryStream_valuesMatchKeys() {
+        Map<Integer, Integer> collected = sut.entryStream().parallel()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        assertThat(collected.size(), is(equalTo(TEST_SIZE)));
+        for (Map.Entry<Integer, Integer> entry : collected.entrySet()) {
+            assertThat(entry.getValue(), is(equalTo(-entry.getKey())));
+        }
+    }
+}
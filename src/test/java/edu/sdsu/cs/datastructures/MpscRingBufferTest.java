@@ -0,0 +1,107 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit and multi-thread tests for the multi-producer ring buffer.
+ */
+public class MpscRingBufferTest extends TestCase {
+
+    private static final int CAPACITY = 64;
+    private static final int NUM_THREADS = 4;
+    private static final int OPS_PER_THREAD = 50000;
+    private static final int BATCH = 5;
+
+    private MpscRingBuffer<Integer> sut;
+
+    public void setUp() throws Exception {
+        super.setUp();
+        sut = new MpscRingBuffer<>(CAPACITY);
+    }
+
+    public void test_offerPoll_fullAndFifo() {
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(sut.offer(i));
+        }
+        assertFalse(sut.offer(CAPACITY));
+        assertThat(sut.offerBatch(new Integer[]{1, 2}, 0, 2), is(equalTo(0)));
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(sut.poll(), is(equalTo(i)));
+        }
+        assertNull(sut.poll());
+    }
+
+    /**
+     * Each producer tags its values with its id; values from one producer
+     * must arrive in the order sent.
+     */
+    public void test_offerBatch_runOutsideArray_exceptionThrown() {
+        Integer[] items = {3, 4};
+        int[][] runs = {{0, -1}, {-1, 1}, {1, 2}, {3, 0}};
+        sut.offer(1);
+        sut.offer(2);
+        for (int[] run : runs) {
+            try {
+                sut.offerBatch(items, run[0], run[1]);
+                fail("IndexOutOfBoundsException expected.");
+            } catch (IndexOutOfBoundsException e) {
+                assertTrue(true);
+            }
+        }
+        assertThat(sut.size(), is(equalTo(2)));
+        assertThat(sut.poll(), is(equalTo(1)));
+        assertThat(sut.poll(), is(equalTo(2)));
+    }
+
+    public void test_multipleProducers_perProducerOrderKept() throws
+            Exception {
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < NUM_THREADS; t++) {
+            final int id = t;
+            threads.add(new Thread(() -> {
+                Integer[] batch = new Integer[BATCH];
+                for (int i = 0; i < OPS_PER_THREAD; i += BATCH) {
+                    for (int b = 0; b < BATCH; b++) {
+                        batch[b] = (i + b) * NUM_THREADS + id;
+                    }
+                    for (int sent = 0; sent < BATCH; ) {
+                        sent += sut.offerBatch(batch, sent, BATCH - sent);
+                        if (sent < BATCH) {
+                            Thread.yield();
+                        }
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        int[] next = new int[NUM_THREADS];
+        int[] received = {0};
+        while (received[0] < NUM_THREADS * OPS_PER_THREAD) {
+            int count = sut.drainTo(value -> {
+                int id = value % NUM_THREADS;
+                assertThat(value / NUM_THREADS, is(equalTo(next[id]++)));
+                received[0]++;
+            }, CAPACITY);
+            if (count == 0) {
+                Thread.yield();
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int t = 0; t < NUM_THREADS; t++) {
+            assertThat(next[t], is(equalTo(OPS_PER_THREAD)));
+        }
+        assertTrue(sut.isEmpty());
+    }
+}
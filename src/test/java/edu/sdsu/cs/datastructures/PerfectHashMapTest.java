@@ -0,0 +1,136 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the minimal perfect hash map.
+ */
+public class PerfectHashMapTest extends TestCase {
+
+    private static final int TEST_SIZE = 1 << 15;
+
+    private HashTable<String, Integer> getTable(int size) {
+        HashTable<String, Integer> table = new HashTable<>();
+        for (int i = 0; i < size; i++) {
+            table.add("key" + i * 7, i);
+        }
+        return table;
+    }
+
+    public void test_compile_everyKeyFoundOnce() {
+        for (int size : new int[]{0, 1, 2, 5, 6, 100, TEST_SIZE}) {
+            PerfectHashMap<String, Integer> sut = getTable(size).compile();
+
+            assertThat(sut.size(), is(equalTo(size)));
+            for (int i = 0; i < size; i++) {
+                assertThat(sut.getValue("key" + i * 7), is(equalTo(i)));
+                assertFalse(sut.contains("key" + (i * 7 + 1)));
+            }
+            Set<String> seen = new HashSet<>();
+            for (Iterator<String> keys = sut.keys(); keys.hasNext(); ) {
+                assertTrue(seen.add(keys.next()));
+            }
+            assertThat(seen.size(), is(equalTo(size)));
+        }
+    }
+
+    public void test_saveAndLoad_sameEntries() throws IOException {
+        PerfectHashMap<String, Integer> compiled = getTable(TEST_SIZE)
+                .compile();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        compiled.save(bytes);
+
+        PerfectHashMap<String, Integer> sut = PerfectHashMap.load(new
+                ByteArrayInputStream(bytes.toByteArray()));
+        assertThat(sut.size(), is(equalTo(TEST_SIZE)));
+        for (int i = 0; i < TEST_SIZE; i++) {
+            assertThat(sut.getValue("key" + i * 7), is(equalTo(i)));
+        }
+    }
+
+    /**
+     * Simulates loading in a JVM where the keys hash differently, as enums
+     * and other identity hashed keys do.
+     */
+    public void test_loadAfterHashCodesChange_exceptionThrown() throws
+            IOException {
+        HashTable<SaltedKey, Integer> table = new HashTable<>();
+        for (int i = 0; i < 100; i++) {
+            table.add(new SaltedKey(i), i);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        table.compile().save(bytes);
+
+        SaltedKey.salt = 0x9E3779B9;
+        try {
+            PerfectHashMap.load(new ByteArrayInputStream(bytes.toByteArray()));
+            fail("IOException expected");
+        } catch (IOException e) {
+            assertTrue(true);
+        } finally {
+            SaltedKey.salt = 0;
+        }
+    }
+
+    public void test_compileSharedHashCodes_allKeysFound() {
+        HashTable<String, Integer> table = getTable(100);
+        // "Aa" and "BB" have the same hashCode, as do their concatenations
+        String[] clash = {"AaAa", "AaBB", "BBAa", "BBBB", "Aa", "BB"};
+        for (int i = 0; i < clash.length; i++) {
+            table.add(clash[i], -i);
+        }
+        PerfectHashMap<String, Integer> sut = table.compile();
+
+        assertThat(sut.size(), is(equalTo(100 + clash.length)));
+        for (int i = 0; i < clash.length; i++) {
+            assertThat(sut.getValue(clash[i]), is(equalTo(-i)));
+        }
+        assertFalse(sut.contains("AaAB"));
+        assertThat(sut.getKey(-3), is(equalTo("BBBB")));
+    }
+
+    /**
+     * A key whose hashCode depends on a global salt, standing in for one
+     * that is not stable across JVMs.
+     */
+    private static final class SaltedKey implements Comparable<SaltedKey>,
+            Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private static int salt;
+
+        private final int value;
+
+        SaltedKey(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(SaltedKey other) {
+            return Integer.compare(value, other.value);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return (other instanceof SaltedKey && ((SaltedKey) other).value
+                    == value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value * 31 + salt;
+        }
+    }
+}
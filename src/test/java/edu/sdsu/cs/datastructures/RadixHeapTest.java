@@ -0,0 +1,149 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the monotone radix heap.
+ */
+public class RadixHeapTest extends TestCase {
+
+    private static final int DEFAULT_TEST_SIZE = 8086;
+
+    private RadixHeap<Event> sut;
+
+    public void setUp() throws Exception {
+        super.setUp();
+        sut = new RadixHeap<>(event -> event.time);
+    }
+
+    public void test_constructorDefault_correctInitialValues() {
+        assertThat(sut.size(), is(0));
+        assertNull(sut.peek());
+        assertNull(sut.poll());
+        assertThat(sut.lastPriority(), is(Long.MIN_VALUE));
+        try {
+            sut.remove();
+            fail("NoSuchElementException expected.");
+        } catch (NoSuchElementException e) {
+            assertTrue(true);
+        }
+    }
+
+    /**
+     * Runs a hold model simulation, where each polled event schedules a
+     * later one, against the sorted ArrayPriorityQueue. Few distinct delays
+     * make many ties, which must leave in arrival order in both.
+     */
+    public void test_holdModel_matchesArrayPriorityQueue() {
+        Queue<Event> reference = new ArrayPriorityQueue<>();
+        Random dice = new Random(50);
+        int id = 0;
+        for (int i = 0; i < 512; i++) {
+            Event event = new Event(dice.nextInt(64), id++);
+            sut.offer(event);
+            reference.offer(event);
+        }
+        for (int i = 0; i < DEFAULT_TEST_SIZE << 2; i++) {
+            Event head = reference.peek();
+            assertSame(head, sut.peek());
+            assertSame(reference.poll(), sut.poll());
+            assertThat(sut.lastPriority(), is(head.time));
+            for (int j = dice.nextInt(3); j > 0; j--) {
+                Event next = new Event(head.time + dice.nextInt(8) *
+                        dice.nextInt(1 << 12), id++);
+                sut.offer(next);
+                reference.offer(next);
+            }
+            if (reference.isEmpty()) {
+                break;
+            }
+            assertThat(sut.size(), is(reference.size()));
+        }
+        while (!reference.isEmpty()) {
+            assertSame(reference.poll(), sut.poll());
+        }
+        assertTrue(sut.isEmpty());
+    }
+
+    public void test_offerBelowLastPolled_exception() {
+        sut.offer(new Event(10, 0));
+        sut.offer(new Event(20, 1));
+        sut.poll();
+        sut.offer(new Event(10, 2));
+        try {
+            sut.offer(new Event(9, 3));
+            fail("IllegalArgumentException expected.");
+        } catch (IllegalArgumentException e) {
+            assertTrue(true);
+        }
+        assertThat(sut.size(), is(2));
+    }
+
+    public void test_negativePriorities_lowestFirst() {
+        long[] times = {5, -3, Long.MIN_VALUE, 0, Long.MAX_VALUE, -1};
+        for (int i = 0; i < times.length; i++) {
+            sut.offer(new Event(times[i], i));
+        }
+        long[] expected = {Long.MIN_VALUE, -3, -1, 0, 5, Long.MAX_VALUE};
+        for (long time : expected) {
+            assertThat(sut.poll().time, is(time));
+        }
+        assertNull(sut.poll());
+    }
+
+    public void test_clear_liftsRestriction() {
+        sut.offer(new Event(100, 0));
+        sut.poll();
+        sut.offer(new Event(200, 1));
+        sut.clear();
+        assertTrue(sut.isEmpty());
+        sut.offer(new Event(1, 2));
+        assertThat(sut.poll().id, is(2));
+    }
+
+    public void test_iterator_visitsEveryElement() {
+        Set<Event> offered = new HashSet<>();
+        Random dice = new Random(51);
+        for (int i = 0; i < DEFAULT_TEST_SIZE; i++) {
+            Event event = new Event(dice.nextInt(1 << 20), i);
+            offered.add(event);
+            sut.offer(event);
+        }
+        sut.poll();
+        Set<Event> seen = new HashSet<>(sut);
+        assertThat(seen.size(), is(DEFAULT_TEST_SIZE - 1));
+        assertTrue(offered.containsAll(seen));
+    }
+
+    /**
+     * Orders by time alone, so distinct events can tie.
+     */
+    private static final class Event implements Comparable<Event> {
+        private final long time;
+        private final int id;
+
+        Event(long time, int id) {
+            this.time = time;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Event other) {
+            return Long.compare(time, other.time);
+        }
+
+        @Override
+        public String toString() {
+            return time + "#" + id;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the String keyed radix tree.
+ */
+public class RadixTreeTest extends TestCase {
+
+    private static final int TEST_SIZE = 1 << 14;
+
+    private final Random dice = new Random(310);
+
+    /**
+     * Short keys over a small alphabet, so prefixes are shared heavily.
+     */
+    private String randomKey() {
+        char[] key = new char[dice.nextInt(6)];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = (char) ('a' + dice.nextInt(4));
+        }
+        return new String(key);
+    }
+
+    private static List<String> toList(Iterator<String> it) {
+        List<String> list = new ArrayList<>();
+        while (it.hasNext()) {
+            list.add(it.next());
+        }
+        return list;
+    }
+
+    public void test_randomOperations_matchTreeMap() {
+        TreeMap<String, Integer> expected = new TreeMap<>();
+        RadixTree<Integer> sut = new RadixTree<>();
+        for (int i = 0; i < TEST_SIZE; i++) {
+            String key = randomKey();
+            switch (dice.nextInt(4)) {
+                case 0:
+                    assertThat(sut.delete(key), is(expected.remove(key) !=
+                            null));
+                    break;
+                case 1:
+                    assertThat(sut.getValue(key), is(expected.get(key)));
+                    break;
+                default:
+                    assertThat(sut.add(key, i), is(expected.put(key, i)));
+            }
+        }
+
+        assertThat(sut.size(), is(equalTo(expected.size())));
+        Iterator<String> keys = sut.keys();
+        Iterator<Integer> values = sut.values();
+        for (Map.Entry<String, Integer> entry : expected.entrySet()) {
+            assertThat(keys.next(), is(equalTo(entry.getKey())));
+            assertThat(values.next(), is(equalTo(entry.getValue())));
+        }
+        assertFalse(keys.hasNext());
+    }
+
+    public void test_keysRange_matchesSubMap() {
+        TreeMap<String, Integer> expected = new TreeMap<>();
+        RadixTree<Integer> sut = new RadixTree<>();
+        for (int i = 0; i < 512; i++) {
+            String key = randomKey();
+            sut.add(key, i);
+            expected.put(key, i);
+        }
+
+        for (int i = 0; i < 256; i++) {
+            String from = randomKey();
+            String to = randomKey();
+            if (from.compareTo(to) > 0) {
+                String swap = from;
+                from = to;
+                to = swap;
+            }
+            assertThat(toList(sut.keys(from, to)), is(equalTo(new
+                    ArrayList<>(expected.subMap(from, to).keySet()))));
+        }
+    }
+
+    public void test_prefixIterator_onlyMatchingKeys() {
+        RadixTree<Integer> sut = new RadixTree<>();
+        String[] words = {"romane", "romanus", "romulus", "rubens", "ruber",
+                "rubicon", "rubicundus", "rom"};
+        for (int i = 0; i < words.length; i++) {
+            sut.add(words[i], i);
+        }
+
+        assertThat(toList(sut.prefixIterator("rom")), is(equalTo(java.util
+                .Arrays.asList("rom", "romane", "romanus", "romulus"))));
+        assertThat(toList(sut.prefixIterator("rubi")), is(equalTo(java.util
+                .Arrays.asList("rubicon", "rubicundus"))));
+        assertThat(toList(sut.prefixIterator("")).size(), is(equalTo(words
+                .length)));
+        assertFalse(sut.prefixIterator("rox").hasNext());
+        assertFalse(sut.prefixIterator("romanesque").hasNext());
+    }
+
+    public void test_longestPrefixMatch_longestStoredPrefix() {
+        RadixTree<Integer> sut = new RadixTree<>();
+        sut.add("10.0", 1);
+        sut.add("10.0.0", 2);
+        sut.add("10.0.0.12", 3);
+
+        assertThat(sut.longestPrefixMatch("10.0.0.1"), is(equalTo("10.0.0")));
+        assertThat(sut.longestPrefixMatch("10.0.0.12"), is(equalTo
+                ("10.0.0.12")));
+        assertThat(sut.longestPrefixMatch("10.1"), is((String) null));
+
+        sut.add("", 0);
+        assertThat(sut.longestPrefixMatch("10.1"), is(equalTo("")));
+    }
+}
@@ -0,0 +1,145 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the chunked circular list. The sizes span several chunks
+ * so that inserts, removals and growth cross chunk boundaries.
+ */
+public class SegmentedCirArrayListTest extends TestCase {
+
+    private static final int TEST_SIZE = 5000;
+
+    private final Random dice = new Random(310);
+
+    private SegmentedCirArrayList<Integer> sut = new SegmentedCirArrayList<>();
+
+    public void test_addRemove_randomPositions_matchArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < TEST_SIZE << 2; i++) {
+            boolean grow = ((i / TEST_SIZE) % 2 == 0);
+            if (expected.isEmpty() || dice.nextInt(3) != 0 == grow) {
+                int index = dice.nextInt(expected.size() + 1);
+                sut.add(index, i);
+                expected.add(index, i);
+            } else {
+                int index = dice.nextInt(expected.size());
+                assertThat(sut.remove(index), is(equalTo(expected.remove
+                        (index))));
+            }
+        }
+        assertThat(sut, is(equalTo(expected)));
+    }
+
+    /**
+     * Drifts the contents around the directory: pushing at one end while
+     * popping at the other repeatedly releases and allocates chunks.
+     */
+    public void test_dequeOperations_matchArrayDeque() {
+        Deque<Integer> expected = new ArrayDeque<>();
+        for (int i = 0; i < TEST_SIZE << 3; i++) {
+            int op = expected.isEmpty() ? dice.nextInt(2) : dice.nextInt(8);
+            if (op == 0 || op >= 6) {
+                sut.addLast(i);
+                expected.addLast(i);
+            } else if (op == 1) {
+                sut.addFirst(i);
+                expected.addFirst(i);
+            } else if (op < 5) {
+                assertThat(sut.pollFirst(), is(equalTo(expected.pollFirst())));
+            } else {
+                assertThat(sut.pollLast(), is(equalTo(expected.pollLast())));
+            }
+        }
+        assertThat(new ArrayList<>(sut), is(equalTo(new ArrayList<>
+                (expected))));
+        while (!expected.isEmpty()) {
+            assertThat(sut.removeLast(), is(equalTo(expected.removeLast())));
+        }
+        assertNull(sut.pollFirst());
+        assertTrue(sut.isEmpty());
+    }
+
+    public void test_set_afterGrowthAtFront_contentsCorrect() {
+        for (int i = 0; i < TEST_SIZE; i++) {
+            sut.addFirst(-1);
+        }
+        for (int i = 0; i < TEST_SIZE; i++) {
+            assertThat(sut.set(i, i), is(equalTo(-1)));
+        }
+        for (int i = 0; i < TEST_SIZE; i++) {
+            assertThat(sut.get(i), is(equalTo(i)));
+        }
+        sut.clear();
+        assertThat(sut.size(), is(equalTo(0)));
+        sut.add(7);
+        assertThat(sut.getFirst(), is(equalTo(7)));
+    }
+
+    /**
+     * Every way of adding or removing at either end goes through addFirst,
+     * addLast, pollFirst or pollLast, so each must fail a live iterator.
+     */
+    public void test_iterator_modifiedAtEnds_failsFast() {
+        List<Runnable> changes = new ArrayList<>();
+        changes.add(() -> sut.add(99));
+        changes.add(() -> sut.push(99));
+        changes.add(() -> sut.offer(99));
+        changes.add(() -> sut.poll());
+        changes.add(() -> sut.pop());
+        changes.add(() -> sut.pollLast());
+        for (Runnable change : changes) {
+            sut.clear();
+            for (int i = 0; i < 8; i++) {
+                sut.add(i);
+            }
+            try {
+                for (Integer value : sut) {
+                    if (value == 2) {
+                        change.run();
+                    }
+                }
+                fail("ConcurrentModificationException expected");
+            } catch (ConcurrentModificationException e) {
+                assertTrue(true);
+            }
+        }
+    }
+
+    public void test_descendingIterator_modifiedAtEnds_failsFast() {
+        for (int i = 0; i < 8; i++) {
+            sut.add(i);
+        }
+        try {
+            for (Iterator<Integer> it = sut.descendingIterator(); it.hasNext(); ) {
+                if (it.next() == 5) {
+                    sut.push(99);
+                }
+            }
+            fail("ConcurrentModificationException expected");
+        } catch (ConcurrentModificationException e) {
+            assertTrue(true);
+        }
+    }
+
+    public void test_get_indexOutOfBounds_exceptionThrown() {
+        try {
+            sut.get(0);
+            fail("IndexOutOfBoundsException expected for == size()");
+        } catch (IndexOutOfBoundsException e) {
+            assertTrue(true);
+        }
+    }
+}
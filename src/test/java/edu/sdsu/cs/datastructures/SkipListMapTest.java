@@ -0,0 +1,136 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit and multi-thread stress tests for the lock-free skip list.
+ */
+public class SkipListMapTest extends TestCase {
+
+    private static final int TEST_SIZE = 4096;
+    private static final int NUM_THREADS = 8;
+    private static final int OPS_PER_THREAD = 50000;
+
+    private SkipListMap<Integer, Integer> sut;
+
+    public void setUp() throws Exception {
+        super.setUp();
+        sut = new SkipListMap<>();
+    }
+
+    public void test_constructorDefault_initializedCorrectly() {
+        assertThat(sut.size(), is(equalTo(0)));
+        assertTrue(sut.isEmpty());
+        assertNull(sut.getValue(0));
+    }
+
+    public void test_addReverseOrder_keysSorted() {
+        for (int i = TEST_SIZE - 1; i >= 0; i--) {
+            assertNull(sut.add(i, -i));
+        }
+
+        Iterator<Integer> keys = sut.keys();
+        Iterator<Integer> values = sut.values();
+        for (int i = 0; i < TEST_SIZE; i++) {
+            assertThat(keys.next(), is(equalTo(i)));
+            assertThat(values.next(), is(equalTo(-i)));
+        }
+        assertFalse(keys.hasNext());
+        assertThat(sut.size(), is(equalTo(TEST_SIZE)));
+        assertThat(sut.getKey(-310), is(equalTo(310)));
+    }
+
+    public void test_deleteAndReplace_correctValues() {
+        sut.add(1, 1);
+        assertThat(sut.add(1, 2), is(equalTo(1)));
+        assertTrue(sut.delete(1));
+        assertFalse(sut.delete(1));
+        assertFalse(sut.contains(1));
+        assertNull(sut.add(1, 3));
+        assertThat(sut.getValue(1), is(equalTo(3)));
+    }
+
+    public void test_addNullValue_exception() {
+        try {
+            sut.add(1, null);
+            fail("NullPointerException expected.");
+        } catch (NullPointerException e) {
+            assertTrue(true);
+        }
+    }
+
+    public void test_keysRange_onlyKeysInRange() {
+        for (int i = 0; i < TEST_SIZE; i += 2) {
+            sut.add(i, i);
+        }
+        Iterator<Integer> range = sut.keys(101, 201);
+        for (int expected = 102; expected < 201; expected += 2) {
+            assertThat(range.next(), is(equalTo(expected)));
+        }
+        assertFalse(range.hasNext());
+    }
+
+    public void test_concurrentAddDelete_consistentWithPerKeyHistory()
+            throws InterruptedException {
+        // each thread owns the keys congruent to its id, so the final state
+        // of every key is known; all threads also race on shared reads
+        final ConcurrentHashMap<Integer, Integer> expected = new
+                ConcurrentHashMap<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger failures = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < NUM_THREADS; t++) {
+            final int id = t;
+            threads.add(new Thread(() -> {
+                Random dice = new Random(310 + id);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int op = 0; op < OPS_PER_THREAD; op++) {
+                    int key = dice.nextInt(TEST_SIZE) * NUM_THREADS + id;
+                    if (dice.nextBoolean()) {
+                        Integer previous = sut.add(key, op);
+                        if (!Objects.equals(previous, expected.put(key, op)))
+                            failures.incrementAndGet();
+                    } else {
+                        boolean removed = sut.delete(key);
+                        if (removed != (expected.remove(key) != null))
+                            failures.incrementAndGet();
+                    }
+                    sut.getValue(dice.nextInt(TEST_SIZE * NUM_THREADS));
+                }
+            }));
+        }
+        for (Thread thread : threads) thread.start();
+        start.countDown();
+        for (Thread thread : threads) thread.join();
+
+        assertThat(failures.get(), is(equalTo(0)));
+        assertThat(sut.size(), is(equalTo(expected.size())));
+        Integer previous = null;
+        int count = 0;
+        for (Iterator<Integer> keys = sut.keys(); keys.hasNext(); count++) {
+            Integer key = keys.next();
+            assertTrue(previous == null || previous < key);
+            assertThat(sut.getValue(key), is(equalTo(expected.get(key))));
+            previous = key;
+        }
+        assertThat(count, is(equalTo(expected.size())));
+    }
+}
@@ -0,0 +1,81 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the splay tree in both splaying modes.
+ */
+public class SplayTreeTest extends TestCase {
+
+    private static final int TEST_SIZE = 1 << 14;
+
+    private void randomOperations_matchTreeMap(SplayTree<Integer, Integer>
+                                                       sut) {
+        final TreeMap<Integer, Integer> expected = new TreeMap<>();
+        final Random dice = new Random(310);
+        for (int i = 0; i < TEST_SIZE << 2; i++) {
+            int key = dice.nextInt(TEST_SIZE);
+            switch (dice.nextInt(4)) {
+                case 0:
+                    assertThat(sut.delete(key), is(expected.remove(key) !=
+                            null));
+                    break;
+                case 1:
+                    assertThat(sut.getValue(key), is(expected.get(key)));
+                    break;
+                default:
+                    assertThat(sut.add(key, i), is(expected.put(key, i)));
+            }
+        }
+
+        assertThat(sut.size(), is(equalTo(expected.size())));
+        Iterator<Integer> keys = sut.keys();
+        Iterator<Integer> values = sut.values();
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertThat(keys.next(), is(equalTo(entry.getKey())));
+            assertThat(values.next(), is(equalTo(entry.getValue())));
+        }
+        assertFalse(keys.hasNext());
+    }
+
+    public void test_randomOperations_matchTreeMap() {
+        randomOperations_matchTreeMap(new SplayTree<>());
+    }
+
+    public void test_randomOperationsSemiSplay_matchTreeMap() {
+        randomOperations_matchTreeMap(new SplayTree<>(true));
+    }
+
+    public void test_sortedInsertThenLookups_correctValues() {
+        SplayTree<Integer, Integer> sut = new SplayTree<>();
+        for (int i = 0; i < TEST_SIZE; i++) {
+            sut.add(i, -i);
+        }
+        for (int i = 0; i < TEST_SIZE; i++) {
+            assertThat(sut.getValue(i), is(equalTo(-i)));
+        }
+        assertFalse(sut.contains(TEST_SIZE));
+    }
+
+    public void test_keysRange_onlyKeysInRange() {
+        SplayTree<Integer, Integer> sut = new SplayTree<>(true);
+        for (int i = 0; i < 1024; i += 2) {
+            sut.add((i * 7) % 1024, i);
+        }
+
+        Iterator<Integer> range = sut.keys(101, 201);
+        for (int expected = 102; expected < 201; expected += 2) {
+            assertThat(range.next(), is(equalTo(expected)));
+        }
+        assertFalse(range.hasNext());
+    }
+}
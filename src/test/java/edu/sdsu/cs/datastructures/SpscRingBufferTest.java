@@ -0,0 +1,131 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit and two-thread tests for the single-producer ring buffer.
+ */
+public class SpscRingBufferTest extends TestCase {
+
+    private static final int CAPACITY = 8;
+    private static final int HANDOFFS = 200000;
+
+    private SpscRingBuffer<Integer> sut;
+
+    public void setUp() throws Exception {
+        super.setUp();
+        sut = new SpscRingBuffer<>(CAPACITY - 1);
+    }
+
+    public void test_constructor_capacityRoundedUp() {
+        assertThat(sut.capacity(), is(equalTo(CAPACITY)));
+        assertTrue(sut.isEmpty());
+        assertNull(sut.poll());
+        assertNull(sut.peek());
+    }
+
+    public void test_offerPoll_fifoAcrossWrapAround() {
+        for (int i = 0; i < CAPACITY * 5; i++) {
+            assertTrue(sut.offer(i));
+            assertTrue(sut.offer(-i));
+            assertThat(sut.size(), is(equalTo(2)));
+            assertThat(sut.poll(), is(equalTo(i)));
+            assertThat(sut.peek(), is(equalTo(-i)));
+            assertThat(sut.poll(), is(equalTo(-i)));
+        }
+        assertTrue(sut.isEmpty());
+    }
+
+    public void test_offer_full_returnsFalse() {
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(sut.offer(i));
+        }
+        assertFalse(sut.offer(CAPACITY));
+        assertThat(sut.poll(), is(equalTo(0)));
+        assertTrue(sut.offer(CAPACITY));
+        assertThat(sut.size(), is(equalTo(CAPACITY)));
+    }
+
+    public void test_offerBatchDrainTo_partialWhenFull() {
+        Integer[] items = new Integer[CAPACITY + 3];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = i;
+        }
+        assertTrue(sut.offer(-1));
+        assertThat(sut.offerBatch(items, 0, items.length), is(equalTo
+                (CAPACITY - 1)));
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(sut.drainTo(drained::add, 3), is(equalTo(3)));
+        assertThat(sut.offerBatch(items, CAPACITY - 1, 4), is(equalTo(3)));
+        assertThat(sut.drainTo(drained::add, Integer.MAX_VALUE), is(equalTo
+                (CAPACITY)));
+        assertThat(drained.get(0), is(equalTo(-1)));
+        for (int i = 1; i < drained.size(); i++) {
+            assertThat(drained.get(i), is(equalTo(i - 1)));
+        }
+    }
+
+    public void test_drainTo_negativeLimit_removesNone() {
+        sut.offer(1);
+        List<Integer> drained = new ArrayList<>();
+        assertThat(sut.drainTo(drained::add, -5), is(equalTo(0)));
+        assertTrue(drained.isEmpty());
+        assertThat(sut.poll(), is(equalTo(1)));
+    }
+
+    public void test_offerBatch_runOutsideArray_exceptionThrown() {
+        Integer[] items = {3, 4};
+        int[][] runs = {{0, -1}, {-1, 1}, {1, 2}, {3, 0}};
+        sut.offer(1);
+        sut.offer(2);
+        for (int[] run : runs) {
+            try {
+                sut.offerBatch(items, run[0], run[1]);
+                fail("IndexOutOfBoundsException expected.");
+            } catch (IndexOutOfBoundsException e) {
+                assertTrue(true);
+            }
+        }
+        assertThat(sut.size(), is(equalTo(2)));
+        assertThat(sut.poll(), is(equalTo(1)));
+        assertThat(sut.poll(), is(equalTo(2)));
+    }
+
+    public void test_offer_null_exceptionThrown() {
+        try {
+            sut.offer(null);
+            fail("NullPointerException expected for a null element");
+        } catch (NullPointerException e) {
+            assertTrue(true);
+        }
+    }
+
+    public void test_twoThreads_everyElementInOrder() throws Exception {
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < HANDOFFS; i++) {
+                while (!sut.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        for (int expected = 0; expected < HANDOFFS; ) {
+            Integer value = sut.poll();
+            if (value == null) {
+                Thread.yield();
+            } else {
+                assertThat(value, is(equalTo(expected++)));
+            }
+        }
+        producer.join();
+        assertTrue(sut.isEmpty());
+    }
+}
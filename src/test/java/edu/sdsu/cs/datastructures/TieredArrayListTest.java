@@ -0,0 +1,98 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the tiered vector list.
+ */
+public class TieredArrayListTest extends TestCase {
+
+    private static final int TEST_SIZE = 20000;
+
+    private final Random dice = new Random(310);
+
+    private List<Integer> sut;
+
+    public void setUp() throws Exception {
+        super.setUp();
+        sut = new TieredArrayList<>();
+    }
+
+    public void test_constructorCollection_initializedCorrectly() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < TEST_SIZE; i++) {
+            expected.add(i);
+        }
+        sut = new TieredArrayList<>(expected);
+        assertThat(sut, is(equalTo(expected)));
+        sut.add(TEST_SIZE / 2, -1);
+        expected.add(TEST_SIZE / 2, -1);
+        assertThat(sut, is(equalTo(expected)));
+    }
+
+    /**
+     * Grows past several block size doublings and shrinks back through the
+     * halvings, checking against ArrayList after each phase.
+     */
+    public void test_addRemove_randomPositions_matchArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < TEST_SIZE; i++) {
+            int index = dice.nextInt(expected.size() + 1);
+            sut.add(index, i);
+            expected.add(index, i);
+        }
+        assertThat(sut, is(equalTo(expected)));
+
+        for (int i = 0; i < TEST_SIZE; i++) {
+            int index = dice.nextInt(expected.size());
+            if (dice.nextInt(4) == 0) {
+                assertThat(sut.set(index, -i), is(equalTo(expected.set
+                        (index, -i))));
+            }
+            assertThat(sut.remove(index), is(equalTo(expected.remove
+                    (index))));
+            if (i % 2 == 0) {
+                sut.add(0, i);
+                expected.add(0, i);
+            }
+        }
+        assertThat(sut, is(equalTo(expected)));
+
+        while (!expected.isEmpty()) {
+            int index = dice.nextInt(expected.size());
+            assertThat(sut.remove(index), is(equalTo(expected.remove
+                    (index))));
+        }
+        assertTrue(sut.isEmpty());
+    }
+
+    public void test_clear_thenReuse_contentsCorrect() {
+        for (int i = 0; i < TEST_SIZE; i++) {
+            sut.add(i);
+        }
+        sut.clear();
+        assertThat(sut.size(), is(equalTo(0)));
+        sut.add(0, 1);
+        sut.add(0, 0);
+        assertThat(sut.get(0), is(equalTo(0)));
+        assertThat(sut.get(1), is(equalTo(1)));
+    }
+
+    public void test_get_indexOutOfBounds_exceptionThrown() {
+        sut.add(0);
+        try {
+            sut.get(1);
+            fail("IndexOutOfBoundsException expected for == size()");
+        } catch (IndexOutOfBoundsException e) {
+            assertTrue(true);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the bounded top-k structure.
+ */
+public class TopKTest extends TestCase {
+
+    private static final int DEFAULT_TEST_SIZE = 8086;
+    private static final int K = 20;
+
+    /**
+     * Ranks by priority alone, so distinct items can tie.
+     */
+    private static final Comparator<Item> BY_PRIORITY = Comparator
+            .comparingInt(item -> item.priority);
+
+    public void test_constructor_correctInitialValues() {
+        TopK<Integer> sut = new TopK<>(K);
+        assertThat(sut.size(), is(0));
+        assertThat(sut.capacity(), is(K));
+        assertTrue(sut.isEmpty());
+        assertNull(sut.peekLast());
+        assertTrue(sut.toList().isEmpty());
+    }
+
+    public void test_constructor_nonPositiveK_exception() {
+        try {
+            new TopK<Integer>(0);
+            fail("IllegalArgumentException expected.");
+        } catch (IllegalArgumentException e) {
+            assertTrue(true);
+        }
+    }
+
+    /**
+     * With many ties, the kept items must be exactly the first k of a
+     * stable sort of everything offered.
+     */
+    public void test_offer_matchesStableSortPrefix() {
+        List<Item> items = randomItems(new Random(49), DEFAULT_TEST_SIZE);
+        TopK<Item> sut = new TopK<>(K, BY_PRIORITY);
+        for (Item item : items) {
+            sut.offer(item);
+        }
+        assertThat(sut.size(), is(K));
+        List<Item> expected = stableTopK(items, K);
+        assertThat(sut.toList(), is(expected));
+        assertSame(expected.get(K - 1), sut.peekLast());
+    }
+
+    public void test_offer_fewerThanK_keepsAllInOrder() {
+        TopK<Integer> sut = new TopK<>(K);
+        for (int i = 10; i > 0; i--) {
+            assertTrue(sut.offer(i));
+        }
+        assertThat(sut.size(), is(10));
+        for (int i = 0; i < 10; i++) {
+            assertThat(sut.toList().get(i), is(i + 1));
+        }
+    }
+
+    public void test_offer_rankingLast_rejected() {
+        TopK<Integer> sut = new TopK<>(2);
+        sut.offer(1);
+        sut.offer(5);
+        assertFalse(sut.offer(5));
+        assertFalse(sut.offer(9));
+        assertTrue(sut.offer(3));
+        assertThat(sut.peekLast(), is(3));
+    }
+
+    /**
+     * Splitting the input into runs, ranking each separately and merging
+     * in run order must agree with ranking the whole input at once.
+     */
+    public void test_merge_matchesSingleTopK() {
+        List<Item> items = randomItems(new Random(50), DEFAULT_TEST_SIZE);
+        TopK<Item> merged = new TopK<>(K, BY_PRIORITY);
+        for (int start = 0; start < items.size(); start += 1000) {
+            TopK<Item> part = new TopK<>(K, BY_PRIORITY);
+            for (Item item : items.subList(start, Math.min(items.size(),
+                    start + 1000))) {
+                part.offer(item);
+            }
+            merged.merge(part);
+        }
+        assertThat(merged.toList(), is(stableTopK(items, K)));
+    }
+
+    public void test_collector_parallelStream_bestFirst() {
+        List<Integer> best = IntStream.range(0, DEFAULT_TEST_SIZE << 4)
+                .parallel().boxed().collect(TopK.collector(K, Comparator
+                        .reverseOrder()));
+        assertThat(best.size(), is(K));
+        for (int i = 0; i < K; i++) {
+            assertThat(best.get(i), is((DEFAULT_TEST_SIZE << 4) - 1 - i));
+        }
+    }
+
+    public void test_clear_empties() {
+        TopK<Integer> sut = new TopK<>(K);
+        for (int i = 0; i < DEFAULT_TEST_SIZE; i++) {
+            sut.offer(i);
+        }
+        sut.clear();
+        assertTrue(sut.isEmpty());
+        assertTrue(sut.offer(DEFAULT_TEST_SIZE));
+        assertThat(sut.peekLast(), is(DEFAULT_TEST_SIZE));
+    }
+
+    private static List<Item> randomItems(Random dice, int count) {
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new Item(dice.nextInt(64), i));
+        }
+        return items;
+    }
+
+    private static List<Item> stableTopK(List<Item> items, int k) {
+        return items.stream().sorted(BY_PRIORITY).limit(k).collect
+                (Collectors.toList());
+    }
+
+    private static final class Item {
+        private final int priority;
+        private final int id;
+
+        Item(int priority, int id) {
+            this.priority = priority;
+            this.id = id;
+        }
+
+        @Override
+        public String toString() {
+            return priority + "#" + id;
+        }
+    }
+}
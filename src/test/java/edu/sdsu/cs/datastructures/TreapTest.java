@@ -0,0 +1,253 @@
+package edu.sdsu.cs.datastructures;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the treap and its join-based bulk operations.
+ */
+public class TreapTest extends TestCase {
+
+    private static final int TEST_SIZE = 1 << 15;
+
+    private final Random dice = new Random(310);
+
+    private Treap<Integer, Integer> randomTreap(int count, int range, int
+            tag, TreeMap<Integer, Integer> expected) {
+        Treap<Integer, Integer> treap = new Treap<>();
+        for (int i = 0; i < count; i++) {
+            int key = dice.nextInt(range);
+            treap.add(key, key + tag);
+            expected.put(key, key + tag);
+        }
+        return treap;
+    }
+
+    private void assertSameContents(TreeMap<Integer, Integer> expected,
+                                    Treap<Integer, Integer> sut) {
+        assertThat(sut.size(), is(equalTo(expected.size())));
+        Iterator<Integer> keys = sut.keys();
+        Iterator<Integer> values = sut.values();
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertThat(keys.next(), is(equalTo(entry.getKey())));
+            assertThat(values.next(), is(equalTo(entry.getValue())));
+        }
+        assertFalse(keys.hasNext());
+    }
+
+    public void test_randomOperations_matchTreeMap() {
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        Treap<Integer, Integer> sut = new Treap<>();
+        for (int i = 0; i < TEST_SIZE; i++) {
+            int key = dice.nextInt(TEST_SIZE >> 2);
+            if (dice.nextInt(3) == 0) {
+                assertThat(sut.delete(key), is(expected.remove(key) != null));
+            } else {
+                assertThat(sut.add(key, i), is(expected.put(key, i)));
+            }
+        }
+        assertSameContents(expected, sut);
+        assertThat(sut.keys(100, 100).hasNext(), is(false));
+    }
+
+    public void test_splitAndJoin_restoresContents() {
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        Treap<Integer, Integer> sut = randomTreap(TEST_SIZE, TEST_SIZE, 0,
+                expected);
+
+        Treap<Integer, Integer> higher = sut.split(TEST_SIZE >> 1);
+        assertSameContents(new TreeMap<>(expected.headMap(TEST_SIZE >> 1)),
+                sut);
+        assertSameContents(new TreeMap<>(expected.tailMap(TEST_SIZE >> 1)),
+                higher);
+
+        sut.join(higher);
+        assertSameContents(expected, sut);
+    }
+
+    public void test_joinOverlapping_exception() {
+        Treap<Integer, Integer> sut = new Treap<>();
+        Treap<Integer, Integer> other = new Treap<>();
+        sut.add(5, 5);
+        other.add(5, 5);
+        try {
+            sut.join(other);
+            fail("IllegalArgumentException expected.");
+        } catch (IllegalArgumentException e) {
+            assertTrue(true);
+        }
+    }
+
+    public void test_union_thisValuesWinAndArgumentUnchanged() {
+        TreeMap<Integer, Integer> first = new TreeMap<>();
+        TreeMap<Integer, Integer> second = new TreeMap<>();
+        Treap<Integer, Integer> sut = randomTreap(TEST_SIZE, TEST_SIZE << 1,
+                0, first);
+        Treap<Integer, Integer> other = randomTreap(TEST_SIZE, TEST_SIZE <<
+                1, 1, second);
+
+        sut.union(other);
+
+        TreeMap<Integer, Integer> expected = new TreeMap<>(second);
+        expected.putAll(first);
+        assertSameContents(expected, sut);
+        assertSameContents(second, other);
+    }
+
+    public void test_intersection_sharedKeysOnly() {
+        TreeMap<Integer, Integer> first = new TreeMap<>();
+        TreeMap<Integer, Integer> second = new TreeMap<>();
+        Treap<Integer, Integer> sut = randomTreap(TEST_SIZE, TEST_SIZE << 1,
+                0, first);
+        Treap<Integer, Integer> other = randomTreap(TEST_SIZE, TEST_SIZE <<
+                1, 1, second);
+
+        sut.intersection(other);
+
+        TreeMap<Integer, Integer> expected = new TreeMap<>(first);
+        expected.keySet().retainAll(second.keySet());
+        assertSameContents(expected, sut);
+    }
+
+    public void test_difference_removesSharedKeys() {
+        TreeMap<Integer, Integer> first = new TreeMap<>();
+        TreeMap<Integer, Integer> second = new TreeMap<>();
+        Treap<Integer, Integer> sut = randomTreap(TEST_SIZE, TEST_SIZE << 1,
+                0, first);
+        Treap<Integer, Integer> other = randomTreap(TEST_SIZE >> 3,
+                TEST_SIZE << 1, 1, second);
+
+        sut.difference(other);
+
+        TreeMap<Integer, Integer> expected = new TreeMap<>(first);
+        expected.keySet().removeAll(second.keySet());
+        assertSameContents(expected, sut);
+        assertSameContents(second, other);
+    }
+
+    public void test_snapshot_unaffectedByLaterUpdates() {
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        Treap<Integer, Integer> sut = randomTreap(TEST_SIZE, TEST_SIZE, 0,
+                expected);
+
+        Treap<Integer, Integer> snapshot = sut.snapshot();
+        for (int key = 0; key < TEST_SIZE; key += 2) {
+            sut.delete(key);
+        }
+        sut.add(-1, -1);
+        snapshot.add(TEST_SIZE, TEST_SIZE);
+
+        assertFalse(snapshot.contains(-1));
+        assertFalse(sut.contains(TEST_SIZE));
+        expected.put(TEST_SIZE, TEST_SIZE);
+        assertSameContents(expected, snapshot);
+    }
+
+    public void test_concurrentWritersAndSnapshots_noLostUpdates() throws
+            InterruptedException {
+        final Treap<Integer, Integer> sut = new Treap<>();
+        final int writers = 4;
+        final int perWriter = TEST_SIZE >> 2;
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < writers; t++) {
+            final int id = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    sut.add(i * writers + id, id);
+                }
+            }));
+        }
+        final AtomicReference<AssertionError> readerFailure = new
+                AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            int lastSize = 0;
+            try {
+                while (lastSize < writers * perWriter) {
+                    Treap<Integer, Integer> snapshot = sut.snapshot();
+                    int counted = 0;
+                    for (Iterator<Integer> keys = snapshot.keys(); keys
+                            .hasNext(); keys.next()) {
+                        counted++;
+                    }
+                    // a version never changes once published
+                    assertThat(counted, is(equalTo(snapshot.size())));
+                    assertTrue(counted >= lastSize);
+                    lastSize = counted;
+                }
+            } catch (AssertionError e) {
+                readerFailure.set(e);
+            }
+        });
+        for (Thread thread : threads) thread.start();
+        reader.start();
+        for (Thread thread : threads) thread.join();
+        reader.join();
+
+        assertNull(readerFailure.get());
+        assertThat(sut.size(), is(equalTo(writers * perWriter)));
+        for (int key = 0; key < writers * perWriter; key++) {
+            assertThat(sut.getValue(key), is(equalTo(key % writers)));
+        }
+    }
+
+    public void test_entrySpliterator_exactSizedSortedSplits() {
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        Treap<Integer, Integer> sut = randomTreap(TEST_SIZE, TEST_SIZE << 1,
+                0, expected);
+
+        Spliterator<Map.Entry<Integer, Integer>> upper = sut
+                .entrySpliterator();
+        Spliterator<Map.Entry<Integer, Integer>> lower = upper.trySplit();
+        assertTrue(upper.hasCharacteristics(Spliterator.SUBSIZED | Spliterator
+                .SORTED));
+        assertThat(lower.estimateSize() + upper.estimateSize(), is(equalTo(
+                (long) expected.size())));
+
+        List<Integer> keys = sut.entryStream().parallel().map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        assertThat(keys, is(equalTo(new ArrayList<>(expected.keySet()))));
+    }
+
+    /**
+     * A piece whose root has no left child must still split, so recursive
+     * splitting only stops at single entries.
+     */
+    public void test_keySpliterator_splitsDownToSingleKeys() {
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        Treap<Integer, Integer> sut = randomTreap(TEST_SIZE, TEST_SIZE << 1,
+                0, expected);
+
+        List<Spliterator<Integer>> pieces = new ArrayList<>();
+        splitAll(sut.keySpliterator(), pieces);
+        List<Integer> keys = new ArrayList<>();
+        for (Spliterator<Integer> piece : pieces) {
+            assertTrue(piece.estimateSize() <= 1);
+            piece.forEachRemaining(keys::add);
+        }
+        assertThat(keys, is(equalTo(new ArrayList<>(expected.keySet()))));
+    }
+
+    private static <T> void splitAll(Spliterator<T> spliterator,
+                                     List<Spliterator<T>> pieces) {
+        Spliterator<T> prefix = spliterator.trySplit();
+        if (prefix == null) {
+            pieces.add(spliterator);
+            return;
+        }
+        splitAll(prefix, pieces);
+        splitAll(spliterator, pieces);
+    }
+}